@@ -12,6 +12,7 @@ public class ConfigurationManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationManager.class);
     private static ConfigurationManager instance;
     private final Dotenv dotenv;
+    private volatile String publishedMockApiUrl;
 
     // Configuration Keys
     private static final String API_BASE_URL_KEY = "API_BASE_URL";
@@ -24,6 +25,55 @@ public class ConfigurationManager {
     private static final String ENVIRONMENT_KEY = "ENVIRONMENT";
     private static final String LOG_LEVEL_KEY = "LOG_LEVEL";
     private static final String MOCK_API_KEY = "MOCK_API";
+    private static final String MOCK_API_PORT_KEY = "MOCK_API_PORT";
+    private static final String MOCK_API_PERSIST_WRITES_KEY = "MOCK_API_PERSIST_WRITES";
+    private static final String MOCK_API_SYNTHETIC_PRODUCTS_KEY = "MOCK_API_SYNTHETIC_PRODUCTS";
+    private static final String MOCK_API_SYNTHETIC_USERS_KEY = "MOCK_API_SYNTHETIC_USERS";
+    private static final String MOCK_API_SYNTHETIC_CARTS_KEY = "MOCK_API_SYNTHETIC_CARTS";
+    private static final String MOCK_API_SYNTHETIC_SEED_KEY = "MOCK_API_SYNTHETIC_SEED";
+    private static final String MOCK_API_DATASET_FILE_KEY = "MOCK_API_DATASET_FILE";
+    private static final String MOCK_API_LATENCY_KEY = "MOCK_API_LATENCY";
+    private static final String MOCK_API_BANDWIDTH_KBPS_KEY = "MOCK_API_BANDWIDTH_KBPS";
+    private static final String MOCK_API_CASSETTE_KEY = "MOCK_API_CASSETTE";
+    private static final String MOCK_API_RECORD_KEY = "MOCK_API_RECORD";
+
+    // HTTP Transport Configuration Keys
+    private static final String HTTP_MAX_PER_ROUTE_KEY = "HTTP_MAX_PER_ROUTE";
+    private static final String HTTP_MAX_TOTAL_KEY = "HTTP_MAX_TOTAL";
+    private static final String HTTP_IDLE_TIMEOUT_MS_KEY = "HTTP_IDLE_TIMEOUT_MS";
+    private static final String HTTP_CONNECT_TIMEOUT_MS_KEY = "HTTP_CONNECT_TIMEOUT_MS";
+    private static final String HTTP_READ_TIMEOUT_MS_KEY = "HTTP_READ_TIMEOUT_MS";
+    private static final String HTTP_TRANSPORT_KEY = "HTTP_TRANSPORT";
+    private static final String API_LOG_CAPTURE_MAX_BYTES_KEY = "API_LOG_CAPTURE_MAX_BYTES";
+    private static final String API_TIMINGS_ATTACH_MIN_MS_KEY = "API_TIMINGS_ATTACH_MIN_MS";
+    private static final String API_ASYNC_THREADS_KEY = "API_ASYNC_THREADS";
+    private static final String API_BULK_CONCURRENCY_KEY = "API_BULK_CONCURRENCY";
+    private static final String API_RESPONSE_CACHE_ENABLED_KEY = "API_RESPONSE_CACHE_ENABLED";
+    private static final String API_RESPONSE_CACHE_TTL_MS_KEY = "API_RESPONSE_CACHE_TTL_MS";
+    private static final String API_RESPONSE_CACHE_MAX_ENTRIES_KEY = "API_RESPONSE_CACHE_MAX_ENTRIES";
+    private static final String API_RESPONSE_CACHE_REVALIDATE_KEY = "API_RESPONSE_CACHE_REVALIDATE";
+    private static final String API_HEDGING_ENABLED_KEY = "API_HEDGING_ENABLED";
+    private static final String API_HEDGE_PERCENTILE_KEY = "API_HEDGE_PERCENTILE";
+    private static final String API_HEDGE_MIN_DELAY_MS_KEY = "API_HEDGE_MIN_DELAY_MS";
+    private static final String API_HEDGE_INITIAL_DELAY_MS_KEY = "API_HEDGE_INITIAL_DELAY_MS";
+    private static final String PERF_REPORT_DIR_KEY = "PERF_REPORT_DIR";
+    private static final String PERF_WARMUP_CALLS_KEY = "PERF_WARMUP_CALLS";
+    private static final String PERF_OUTLIER_FENCE_KEY = "PERF_OUTLIER_FENCE";
+    private static final String PERF_BASELINE_DIR_KEY = "PERF_BASELINE_DIR";
+    private static final String PERF_BASELINE_UPDATE_KEY = "PERF_BASELINE_UPDATE";
+    private static final String PERF_BASELINE_GATE_KEY = "PERF_BASELINE_GATE";
+    private static final String PERF_SCENARIO_TOLERANCE_PERCENT_KEY = "PERF_SCENARIO_TOLERANCE_PERCENT";
+    private static final String PERF_ENDPOINT_TOLERANCE_PERCENT_KEY = "PERF_ENDPOINT_TOLERANCE_PERCENT";
+    private static final String PERF_TOLERANCE_MIN_DELTA_MS_KEY = "PERF_TOLERANCE_MIN_DELTA_MS";
+    private static final String PERF_STEP_PROFILE_TOP_KEY = "PERF_STEP_PROFILE_TOP";
+    private static final String LOAD_TAGS_KEY = "LOAD_TAGS";
+    private static final String LOAD_VIRTUAL_USERS_KEY = "LOAD_VIRTUAL_USERS";
+    private static final String LOAD_ITERATIONS_KEY = "LOAD_ITERATIONS";
+    private static final String LOAD_DURATION_SECONDS_KEY = "LOAD_DURATION_SECONDS";
+    private static final String OPEN_LOOP_RATE_KEY = "OPEN_LOOP_RATE";
+    private static final String OPEN_LOOP_DURATION_SECONDS_KEY = "OPEN_LOOP_DURATION_SECONDS";
+    private static final String OPEN_LOOP_MAX_IN_FLIGHT_KEY = "OPEN_LOOP_MAX_IN_FLIGHT";
+    private static final String METRICS_PORT_KEY = "METRICS_PORT";
 
     // TestRail Configuration Keys
     private static final String TESTRAIL_ENABLED_KEY = "TESTRAIL_ENABLED";
@@ -40,6 +90,53 @@ public class ConfigurationManager {
     private static final String DEFAULT_ENVIRONMENT = "test";
     private static final String DEFAULT_LOG_LEVEL = "INFO";
     private static final String DEFAULT_MOCK_API = "false";
+    private static final String DEFAULT_MOCK_API_PORT = "0";
+    private static final String DEFAULT_MOCK_API_PERSIST_WRITES = "false";
+    private static final String DEFAULT_MOCK_API_SYNTHETIC_COUNT = "0";
+    private static final String DEFAULT_MOCK_API_SYNTHETIC_SEED = "42";
+    private static final String DEFAULT_MOCK_API_DATASET_FILE = "";
+    private static final String DEFAULT_MOCK_API_LATENCY = "";
+    private static final String DEFAULT_MOCK_API_BANDWIDTH_KBPS = "";
+    private static final String DEFAULT_MOCK_API_CASSETTE = "";
+    private static final String DEFAULT_MOCK_API_RECORD = "false";
+
+    // HTTP Transport Default Values
+    private static final String DEFAULT_HTTP_MAX_PER_ROUTE = "32";
+    private static final String DEFAULT_HTTP_MAX_TOTAL = "64";
+    private static final String DEFAULT_HTTP_IDLE_TIMEOUT_MS = "30000";
+    private static final String DEFAULT_HTTP_CONNECT_TIMEOUT_MS = "10000";
+    private static final String DEFAULT_HTTP_READ_TIMEOUT_MS = "30000";
+    private static final String DEFAULT_HTTP_TRANSPORT = "http1";
+    private static final String DEFAULT_API_LOG_CAPTURE_MAX_BYTES = "262144";
+    private static final String DEFAULT_API_TIMINGS_ATTACH_MIN_MS = "2000";
+    private static final String DEFAULT_API_ASYNC_THREADS = "32";
+    private static final String DEFAULT_API_BULK_CONCURRENCY = "8";
+    private static final String DEFAULT_API_RESPONSE_CACHE_ENABLED = "false";
+    private static final String DEFAULT_API_RESPONSE_CACHE_TTL_MS = "300000";
+    private static final String DEFAULT_API_RESPONSE_CACHE_MAX_ENTRIES = "500";
+    private static final String DEFAULT_API_RESPONSE_CACHE_REVALIDATE = "false";
+    private static final String DEFAULT_API_HEDGING_ENABLED = "false";
+    private static final String DEFAULT_API_HEDGE_PERCENTILE = "95";
+    private static final String DEFAULT_API_HEDGE_MIN_DELAY_MS = "50";
+    private static final String DEFAULT_API_HEDGE_INITIAL_DELAY_MS = "1000";
+    private static final String DEFAULT_PERF_REPORT_DIR = "target/perf";
+    private static final String DEFAULT_PERF_WARMUP_CALLS = "5";
+    private static final String DEFAULT_PERF_OUTLIER_FENCE = "3.0";
+    private static final String DEFAULT_PERF_BASELINE_DIR = "perf-baseline";
+    private static final String DEFAULT_PERF_BASELINE_UPDATE = "false";
+    private static final String DEFAULT_PERF_BASELINE_GATE = "false";
+    private static final String DEFAULT_PERF_SCENARIO_TOLERANCE_PERCENT = "25";
+    private static final String DEFAULT_PERF_ENDPOINT_TOLERANCE_PERCENT = "20";
+    private static final String DEFAULT_PERF_TOLERANCE_MIN_DELTA_MS = "50";
+    private static final String DEFAULT_PERF_STEP_PROFILE_TOP = "20";
+    private static final String DEFAULT_LOAD_TAGS = "@API and @Smoke";
+    private static final String DEFAULT_LOAD_VIRTUAL_USERS = "10";
+    private static final String DEFAULT_LOAD_ITERATIONS = "0";
+    private static final String DEFAULT_LOAD_DURATION_SECONDS = "60";
+    private static final String DEFAULT_OPEN_LOOP_RATE = "50";
+    private static final String DEFAULT_OPEN_LOOP_DURATION_SECONDS = "30";
+    private static final String DEFAULT_OPEN_LOOP_MAX_IN_FLIGHT = "256";
+    private static final String DEFAULT_METRICS_PORT = "0";
 
     // TestRail Default Values
     private static final String DEFAULT_TESTRAIL_ENABLED = "false";
@@ -142,12 +239,409 @@ public class ConfigurationManager {
         return Boolean.parseBoolean(getConfigValue(MOCK_API_KEY, DEFAULT_MOCK_API));
     }
 
+    /**
+     * Get the port the shared mock API server binds to
+     * @return port number, or 0 to bind a free ephemeral port
+     */
+    public int getMockApiPort() {
+        return Integer.parseInt(getConfigValue(MOCK_API_PORT_KEY, DEFAULT_MOCK_API_PORT));
+    }
+
+    /**
+     * Check if the mock API applies creates, updates and deletes to its data instead of only acknowledging them
+     * @return true if MOCK_API_PERSIST_WRITES environment variable is set to true
+     */
+    public boolean isMockApiPersistWritesEnabled() {
+        return Boolean.parseBoolean(getConfigValue(MOCK_API_PERSIST_WRITES_KEY, DEFAULT_MOCK_API_PERSIST_WRITES));
+    }
+
+    /**
+     * Get the number of synthetic products added to the mock API data
+     * @return product count, 0 for the FakeStoreAPI sample data only
+     */
+    public int getMockApiSyntheticProducts() {
+        return Integer.parseInt(getConfigValue(MOCK_API_SYNTHETIC_PRODUCTS_KEY, DEFAULT_MOCK_API_SYNTHETIC_COUNT));
+    }
+
+    /**
+     * Get the number of synthetic users added to the mock API data
+     * @return user count, 0 for the FakeStoreAPI sample data only
+     */
+    public int getMockApiSyntheticUsers() {
+        return Integer.parseInt(getConfigValue(MOCK_API_SYNTHETIC_USERS_KEY, DEFAULT_MOCK_API_SYNTHETIC_COUNT));
+    }
+
+    /**
+     * Get the number of synthetic carts added to the mock API data
+     * @return cart count, 0 for the FakeStoreAPI sample data only
+     */
+    public int getMockApiSyntheticCarts() {
+        return Integer.parseInt(getConfigValue(MOCK_API_SYNTHETIC_CARTS_KEY, DEFAULT_MOCK_API_SYNTHETIC_COUNT));
+    }
+
+    /**
+     * Get the seed of the synthetic mock API data; equal seeds produce equal data
+     * @return random seed
+     */
+    public long getMockApiSyntheticSeed() {
+        return Long.parseLong(getConfigValue(MOCK_API_SYNTHETIC_SEED_KEY, DEFAULT_MOCK_API_SYNTHETIC_SEED));
+    }
+
+    /**
+     * Get the data set file loaded into the mock API at startup, written first if it does not exist yet
+     * @return file path, or empty to generate synthetic data in memory
+     */
+    public String getMockApiDatasetFile() {
+        return getConfigValue(MOCK_API_DATASET_FILE_KEY, DEFAULT_MOCK_API_DATASET_FILE);
+    }
+
+    /**
+     * Get the latency profiles of the mock API per endpoint, e.g. {@code GET /products/{id}=lognormal:120,0.5;*=fixed:20}
+     * @return endpoint to profile mapping, or empty to answer immediately
+     */
+    public String getMockApiLatency() {
+        return getConfigValue(MOCK_API_LATENCY_KEY, DEFAULT_MOCK_API_LATENCY);
+    }
+
+    /**
+     * Get the bandwidth the mock API sends response bodies with per endpoint, e.g. {@code 512} or {@code GET /products=64}
+     * @return endpoint to kilobits per second mapping, or empty for unlimited
+     */
+    public String getMockApiBandwidthKbps() {
+        return getConfigValue(MOCK_API_BANDWIDTH_KBPS_KEY, DEFAULT_MOCK_API_BANDWIDTH_KBPS);
+    }
+
+    /**
+     * Get the cassette of real API interactions the mock replays, or records into when MOCK_API_RECORD is set
+     * @return gzip-compressed cassette file path, or empty to serve from the in-memory data only
+     */
+    public String getMockApiCassette() {
+        return getConfigValue(MOCK_API_CASSETTE_KEY, DEFAULT_MOCK_API_CASSETTE);
+    }
+
+    /**
+     * Check if the mock API proxies requests to API_BASE_URL and records them into MOCK_API_CASSETTE
+     * @return true if MOCK_API_RECORD environment variable is set to true
+     */
+    public boolean isMockApiRecordEnabled() {
+        return Boolean.parseBoolean(getConfigValue(MOCK_API_RECORD_KEY, DEFAULT_MOCK_API_RECORD));
+    }
+
     /**
      * Get the mock API server URL
-     * @return mock server base URL (localhost:8089)
+     * @return URL published by the running shared mock server, or the URL of the configured fixed port
+     * @throws IllegalStateException if the mock server binds an ephemeral port and has not been started yet
      */
     public String getMockApiUrl() {
-        return "http://localhost:8089";
+        String url = publishedMockApiUrl;
+        if (url != null) {
+            return url;
+        }
+        int port = getMockApiPort();
+        if (port == 0) {
+            throw new IllegalStateException("Mock API server has not been started; its ephemeral port is not known yet");
+        }
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * Publishes the actual URL of the shared mock API server once it is bound
+     * @param url mock server base URL, or null when the server stops
+     */
+    public void publishMockApiUrl(String url) {
+        this.publishedMockApiUrl = url;
+    }
+
+    // HTTP Transport Configuration
+    /**
+     * Get the maximum number of pooled connections per route (host)
+     * @return max connections per route
+     */
+    public int getHttpMaxPerRoute() {
+        return Integer.parseInt(getConfigValue(HTTP_MAX_PER_ROUTE_KEY, DEFAULT_HTTP_MAX_PER_ROUTE));
+    }
+
+    /**
+     * Get the maximum number of pooled connections across all routes
+     * @return max total connections
+     */
+    public int getHttpMaxTotal() {
+        return Integer.parseInt(getConfigValue(HTTP_MAX_TOTAL_KEY, DEFAULT_HTTP_MAX_TOTAL));
+    }
+
+    /**
+     * Get the idle time after which pooled connections are evicted
+     * @return idle timeout in milliseconds
+     */
+    public int getHttpIdleTimeoutMs() {
+        return Integer.parseInt(getConfigValue(HTTP_IDLE_TIMEOUT_MS_KEY, DEFAULT_HTTP_IDLE_TIMEOUT_MS));
+    }
+
+    /**
+     * Get the TCP connect timeout for API requests
+     * @return connect timeout in milliseconds
+     */
+    public int getHttpConnectTimeoutMs() {
+        return Integer.parseInt(getConfigValue(HTTP_CONNECT_TIMEOUT_MS_KEY, DEFAULT_HTTP_CONNECT_TIMEOUT_MS));
+    }
+
+    /**
+     * Get the socket read timeout for API requests
+     * @return read timeout in milliseconds
+     */
+    public int getHttpReadTimeoutMs() {
+        return Integer.parseInt(getConfigValue(HTTP_READ_TIMEOUT_MS_KEY, DEFAULT_HTTP_READ_TIMEOUT_MS));
+    }
+
+    /**
+     * Get the wire transport for API requests
+     * @return "http1" (pooled HTTP/1.1 client) or "http2" (multiplexed JDK HTTP/2 client)
+     */
+    public String getHttpTransport() {
+        return getConfigValue(HTTP_TRANSPORT_KEY, DEFAULT_HTTP_TRANSPORT);
+    }
+
+    /**
+     * Get the per-scenario byte cap for captured request/response traffic
+     * @return maximum captured bytes per scenario
+     */
+    public int getApiLogCaptureMaxBytes() {
+        return Integer.parseInt(getConfigValue(API_LOG_CAPTURE_MAX_BYTES_KEY, DEFAULT_API_LOG_CAPTURE_MAX_BYTES));
+    }
+
+    /**
+     * Get the scenario duration from which the request phase timings are attached to a scenario
+     * that did not fail (failed scenarios always get them); 0 attaches them to every scenario
+     * @return minimum scenario duration in milliseconds
+     */
+    public long getApiTimingsAttachMinMs() {
+        return Long.parseLong(getConfigValue(API_TIMINGS_ATTACH_MIN_MS_KEY, DEFAULT_API_TIMINGS_ATTACH_MIN_MS));
+    }
+
+    /**
+     * Get the number of worker threads running asynchronous API calls
+     * @return maximum concurrently executing async requests
+     */
+    public int getApiAsyncThreads() {
+        return Integer.parseInt(getConfigValue(API_ASYNC_THREADS_KEY, DEFAULT_API_ASYNC_THREADS));
+    }
+
+    /**
+     * Get the default number of requests a bulk fetch keeps in flight
+     * @return maximum concurrent requests per bulk call
+     */
+    public int getApiBulkConcurrency() {
+        return Integer.parseInt(getConfigValue(API_BULK_CONCURRENCY_KEY, DEFAULT_API_BULK_CONCURRENCY));
+    }
+
+    /**
+     * Check if GET responses are cached for the duration of the run
+     * @return true if API_RESPONSE_CACHE_ENABLED environment variable is set to true
+     */
+    public boolean isApiResponseCacheEnabled() {
+        return Boolean.parseBoolean(getConfigValue(API_RESPONSE_CACHE_ENABLED_KEY, DEFAULT_API_RESPONSE_CACHE_ENABLED));
+    }
+
+    /**
+     * Get how long a cached GET response is served without contacting the API
+     * @return time to live in milliseconds
+     */
+    public long getApiResponseCacheTtlMs() {
+        return Long.parseLong(getConfigValue(API_RESPONSE_CACHE_TTL_MS_KEY, DEFAULT_API_RESPONSE_CACHE_TTL_MS));
+    }
+
+    /**
+     * Get the maximum number of cached responses before least recently used ones are evicted
+     * @return maximum cache entries
+     */
+    public int getApiResponseCacheMaxEntries() {
+        return Integer.parseInt(getConfigValue(API_RESPONSE_CACHE_MAX_ENTRIES_KEY, DEFAULT_API_RESPONSE_CACHE_MAX_ENTRIES));
+    }
+
+    /**
+     * Check if expired responses carrying an ETag are revalidated with If-None-Match
+     * @return true if API_RESPONSE_CACHE_REVALIDATE environment variable is set to true
+     */
+    public boolean isApiResponseCacheRevalidateEnabled() {
+        return Boolean.parseBoolean(getConfigValue(API_RESPONSE_CACHE_REVALIDATE_KEY, DEFAULT_API_RESPONSE_CACHE_REVALIDATE));
+    }
+
+    /**
+     * Check if slow idempotent GET requests are hedged with a duplicate request
+     * @return true if API_HEDGING_ENABLED environment variable is set to true
+     */
+    public boolean isApiHedgingEnabled() {
+        return Boolean.parseBoolean(getConfigValue(API_HEDGING_ENABLED_KEY, DEFAULT_API_HEDGING_ENABLED));
+    }
+
+    /**
+     * Get the latency percentile after which a hedged request is sent
+     * @return percentile between 0 and 100
+     */
+    public double getApiHedgePercentile() {
+        return Double.parseDouble(getConfigValue(API_HEDGE_PERCENTILE_KEY, DEFAULT_API_HEDGE_PERCENTILE));
+    }
+
+    /**
+     * Get the lower bound for the hedge delay
+     * @return minimum hedge delay in milliseconds
+     */
+    public long getApiHedgeMinDelayMs() {
+        return Long.parseLong(getConfigValue(API_HEDGE_MIN_DELAY_MS_KEY, DEFAULT_API_HEDGE_MIN_DELAY_MS));
+    }
+
+    /**
+     * Get the hedge delay used until enough latency samples exist for an endpoint
+     * @return initial hedge delay in milliseconds
+     */
+    public long getApiHedgeInitialDelayMs() {
+        return Long.parseLong(getConfigValue(API_HEDGE_INITIAL_DELAY_MS_KEY, DEFAULT_API_HEDGE_INITIAL_DELAY_MS));
+    }
+
+    /**
+     * Get the directory performance reports (e.g. latency.json) are written to
+     * @return report directory path
+     */
+    public String getPerfReportDir() {
+        return getConfigValue(PERF_REPORT_DIR_KEY, DEFAULT_PERF_REPORT_DIR);
+    }
+
+    /**
+     * Get the number of calls discarded as warmup before response times are sampled
+     * @return warmup call count
+     */
+    public int getPerfWarmupCalls() {
+        return Integer.parseInt(getConfigValue(PERF_WARMUP_CALLS_KEY, DEFAULT_PERF_WARMUP_CALLS));
+    }
+
+    /**
+     * Get the interquartile-range multiplier beyond which sampled response times are rejected as outliers
+     * @return outlier fence, 0 to keep every sample
+     */
+    public double getPerfOutlierFence() {
+        return Double.parseDouble(getConfigValue(PERF_OUTLIER_FENCE_KEY, DEFAULT_PERF_OUTLIER_FENCE));
+    }
+
+    /**
+     * Get the directory holding the performance baselines and last runs, one subdirectory per suite and target.
+     * Kept outside target/ by default, so mvn clean does not discard it
+     * @return baseline directory path
+     */
+    public String getPerfBaselineDir() {
+        return getConfigValue(PERF_BASELINE_DIR_KEY, DEFAULT_PERF_BASELINE_DIR);
+    }
+
+    /**
+     * Check if the current run should replace the stored performance baseline
+     * @return true to accept the current run as the new baseline
+     */
+    public boolean isPerfBaselineUpdateEnabled() {
+        return Boolean.parseBoolean(getConfigValue(PERF_BASELINE_UPDATE_KEY, DEFAULT_PERF_BASELINE_UPDATE));
+    }
+
+    /**
+     * Check if regressions against the performance baseline should fail the run.
+     * Off by default, as timings of a developer machine make a poor gate; CI enables it
+     * @return true to fail the run on regressions, false to only report them
+     */
+    public boolean isPerfBaselineGateEnabled() {
+        return Boolean.parseBoolean(getConfigValue(PERF_BASELINE_GATE_KEY, DEFAULT_PERF_BASELINE_GATE));
+    }
+
+    /**
+     * Get how much slower than the baseline a scenario may get before it counts as a regression
+     * @return tolerance in percent
+     */
+    public double getPerfScenarioTolerancePercent() {
+        return Double.parseDouble(getConfigValue(PERF_SCENARIO_TOLERANCE_PERCENT_KEY, DEFAULT_PERF_SCENARIO_TOLERANCE_PERCENT));
+    }
+
+    /**
+     * Get how much slower than the baseline an endpoint percentile may get before it counts as a regression
+     * @return tolerance in percent
+     */
+    public double getPerfEndpointTolerancePercent() {
+        return Double.parseDouble(getConfigValue(PERF_ENDPOINT_TOLERANCE_PERCENT_KEY, DEFAULT_PERF_ENDPOINT_TOLERANCE_PERCENT));
+    }
+
+    /**
+     * Get the smallest absolute slowdown that can count as a regression, so tiny timings do not trip percentages
+     * @return minimum slowdown in milliseconds
+     */
+    public long getPerfToleranceMinDeltaMs() {
+        return Long.parseLong(getConfigValue(PERF_TOLERANCE_MIN_DELTA_MS_KEY, DEFAULT_PERF_TOLERANCE_MIN_DELTA_MS));
+    }
+
+    /**
+     * Get how many of the slowest steps the step profile report lists
+     * @return number of steps ranked by total time
+     */
+    public int getPerfStepProfileTop() {
+        return Integer.parseInt(getConfigValue(PERF_STEP_PROFILE_TOP_KEY, DEFAULT_PERF_STEP_PROFILE_TOP));
+    }
+
+    /**
+     * Get the tag expression selecting the scenarios replayed by the load runner
+     * @return Cucumber tag expression
+     */
+    public String getLoadTags() {
+        return getConfigValue(LOAD_TAGS_KEY, DEFAULT_LOAD_TAGS);
+    }
+
+    /**
+     * Get the number of virtual users the load runner replays scenarios with
+     * @return virtual user count
+     */
+    public int getLoadVirtualUsers() {
+        return Integer.parseInt(getConfigValue(LOAD_VIRTUAL_USERS_KEY, DEFAULT_LOAD_VIRTUAL_USERS));
+    }
+
+    /**
+     * Get the number of times each virtual user replays the selected scenarios
+     * @return iteration count, 0 to run for the configured duration instead
+     */
+    public int getLoadIterations() {
+        return Integer.parseInt(getConfigValue(LOAD_ITERATIONS_KEY, DEFAULT_LOAD_ITERATIONS));
+    }
+
+    /**
+     * Get how long the load runner replays scenarios when no iteration count is set
+     * @return duration in seconds
+     */
+    public long getLoadDurationSeconds() {
+        return Long.parseLong(getConfigValue(LOAD_DURATION_SECONDS_KEY, DEFAULT_LOAD_DURATION_SECONDS));
+    }
+
+    /**
+     * Get the target arrival rate of the open-loop traffic generator
+     * @return requests per second
+     */
+    public double getOpenLoopRate() {
+        return Double.parseDouble(getConfigValue(OPEN_LOOP_RATE_KEY, DEFAULT_OPEN_LOOP_RATE));
+    }
+
+    /**
+     * Get how long the open-loop traffic generator sends requests
+     * @return duration in seconds
+     */
+    public long getOpenLoopDurationSeconds() {
+        return Long.parseLong(getConfigValue(OPEN_LOOP_DURATION_SECONDS_KEY, DEFAULT_OPEN_LOOP_DURATION_SECONDS));
+    }
+
+    /**
+     * Get the maximum number of open-loop requests executing at once; later arrivals wait in a queue
+     * @return worker thread count
+     */
+    public int getOpenLoopMaxInFlight() {
+        return Integer.parseInt(getConfigValue(OPEN_LOOP_MAX_IN_FLIGHT_KEY, DEFAULT_OPEN_LOOP_MAX_IN_FLIGHT));
+    }
+
+    /**
+     * Get the local port on which run metrics are served in Prometheus text format
+     * @return port number, or 0 if metrics are only written to the report directory
+     */
+    public int getMetricsPort() {
+        return Integer.parseInt(getConfigValue(METRICS_PORT_KEY, DEFAULT_METRICS_PORT));
     }
 
     // TestRail Configuration
@@ -0,0 +1,93 @@
+package com.spritecloud.http;
+
+import org.apache.http.client.entity.DeflateInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decoding of gzip/deflate response bodies, shared by both transports so wire and decoded
+ * byte counts are measured the same way.
+ */
+final class ContentCoding {
+
+    /** Accept-Encoding value advertised by both transports */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ContentCoding() {
+    }
+
+    /**
+     * Checks whether a Content-Encoding can be decoded.
+     *
+     * @param contentEncoding Content-Encoding header value, may be null
+     * @return true for gzip, x-gzip and deflate
+     */
+    static boolean isSupported(String contentEncoding) {
+        if (contentEncoding == null) {
+            return false;
+        }
+        String coding = contentEncoding.trim().toLowerCase();
+        return coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("deflate");
+    }
+
+    /**
+     * Wraps a raw body stream with the decoder for its Content-Encoding.
+     *
+     * @param raw body as received on the wire
+     * @param contentEncoding Content-Encoding header value, may be null
+     * @return decoding stream, or the raw stream for identity or unsupported encodings
+     */
+    static InputStream decoding(InputStream raw, String contentEncoding) throws IOException {
+        if (!isSupported(contentEncoding)) {
+            return raw;
+        }
+        // Apache's DeflateInputStream handles both zlib-wrapped and raw deflate bodies
+        return contentEncoding.trim().equalsIgnoreCase("deflate")
+                ? new DeflateInputStream(raw)
+                : new GZIPInputStream(raw);
+    }
+
+    /**
+     * Input stream that counts the bytes read through it.
+     */
+    static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
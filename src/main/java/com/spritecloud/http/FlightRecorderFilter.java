@@ -0,0 +1,65 @@
+package com.spritecloud.http;
+
+import com.spritecloud.jfr.ApiCallEvent;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that wraps every API call in an {@link ApiCallEvent}, so a Flight Recorder
+ * recording shows endpoint, status, size and duration of each call on the thread that sent it.
+ *
+ * <p>The filter runs first in the chain, so cache hits and the time spent in the other filters
+ * are part of the event. When no recording is active the event is disabled and no field is computed.
+ * For streamed responses the body size is taken from the Content-Length header, since reading
+ * the body here would buffer it in full.
+ */
+public class FlightRecorderFilter implements Filter {
+
+    private final boolean readBody;
+
+    /**
+     * Creates a filter that reports the size of the already read response body.
+     */
+    public FlightRecorderFilter() {
+        this(true);
+    }
+
+    /**
+     * @param readBody false for streamed responses, whose body must not be read here
+     */
+    public FlightRecorderFilter(boolean readBody) {
+        this.readBody = readBody;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (event.isEnabled()) {
+            RequestPhases phases = RequestPhases.current();
+            event.finish(requestSpec.getMethod(),
+                    LatencyRecordingFilter.endpointOf(requestSpec.getMethod(), requestSpec.getURI()),
+                    requestSpec.getURI(), response.getStatusCode(), responseBytes(response),
+                    phases != null && phases.isNewConnection());
+        }
+        return response;
+    }
+
+    private long responseBytes(Response response) {
+        if (readBody) {
+            return response.asByteArray().length;
+        }
+        String contentLength = response.getHeader("Content-Length");
+        try {
+            return contentLength == null ? -1 : Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.spritecloud.http;
+
+import com.spritecloud.config.ConfigurationManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Hedged execution of idempotent GET requests to cut tail latency.
+ *
+ * <p>Design Decision: A few slow outliers from the real API dominate suite wall time. When the
+ * first attempt has not answered within the configured percentile of recently observed latencies
+ * for the same endpoint, a second, identical request is sent and whichever succeeds first wins.
+ * A 5xx or 429 answer does not count as success while the other attempt may still succeed; it is
+ * only returned if the other attempt fails too.
+ * Hedging at a high percentile only duplicates the slowest few percent of requests, so the extra
+ * load stays small. Until enough samples exist, a fixed initial delay is used.
+ *
+ * <p>Attempts run on a dedicated daemon pool rather than the async API executor, so hedged calls
+ * made from async or bulk workers can never starve that bounded pool. The losing response is
+ * drained in the background so its pooled connection is released. Filters hand what they record
+ * about an attempt to {@link #recordIfUsed(Runnable)}: it is held back until the winner is known and
+ * then run on the calling thread for the winning attempt only, so the traffic log and the endpoint
+ * latency report hold the response the caller actually got, once, before {@code execute} returns.
+ * The duplicate is flagged with {@link #isHedgeAttempt()} and also timed in {@code api_hedge_duration_seconds}.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Opt-in through API_HEDGING_ENABLED</li>
+ *   <li>Per-endpoint rolling latency window and percentile-based hedge delay</li>
+ *   <li>Counters for hedged requests, hedges fired and hedges won</li>
+ * </ul>
+ */
+public class HedgingPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingPolicy.class);
+    private static HedgingPolicy instance;
+    private static final ThreadLocal<Boolean> HEDGE_ATTEMPT = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<List<Runnable>> ATTEMPT_RECORDS = new ThreadLocal<>();
+
+    /** Latency samples kept per endpoint for the percentile */
+    private static final int WINDOW_SIZE = 256;
+    /** Samples required before the percentile replaces the initial delay */
+    private static final int MIN_SAMPLES = 20;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMs;
+    private final long initialDelayMs;
+    private final ExecutorService attempts;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedgesFired = new AtomicLong();
+    private final AtomicLong hedgesWon = new AtomicLong();
+
+    private HedgingPolicy(ConfigurationManager config) {
+        this(config.isApiHedgingEnabled(), config.getApiHedgePercentile(),
+                config.getApiHedgeMinDelayMs(), config.getApiHedgeInitialDelayMs());
+    }
+
+    /**
+     * Creates a standalone policy, e.g. to exercise hedging without enabling it for the whole run.
+     * Services always use the shared instance from {@link #getInstance()}.
+     *
+     * @param enabled whether duplicates are sent at all
+     * @param percentile latency percentile after which a duplicate is sent
+     * @param minDelayMs lower bound for the hedge delay
+     * @param initialDelayMs hedge delay used until an endpoint has enough samples
+     */
+    public HedgingPolicy(boolean enabled, double percentile, long minDelayMs, long initialDelayMs) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMs = minDelayMs;
+        this.initialDelayMs = initialDelayMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.attempts = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-hedge-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (enabled) {
+            logger.info("Hedged GET requests enabled (percentile: p{}, minDelay: {}ms, initialDelay: {}ms)",
+                    percentile, minDelayMs, initialDelayMs);
+        }
+    }
+
+    /**
+     * Gets the process-wide hedging policy, creating it on first use.
+     *
+     * @return shared HedgingPolicy instance
+     */
+    public static synchronized HedgingPolicy getInstance() {
+        if (instance == null) {
+            instance = new HedgingPolicy(ConfigurationManager.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether the policy has been created during this run.
+     *
+     * @return true if {@link #getInstance()} has been called
+     */
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks whether the calling thread is sending a hedged duplicate rather than an original request.
+     *
+     * @return true on the thread of a hedge attempt
+     */
+    public static boolean isHedgeAttempt() {
+        return HEDGE_ATTEMPT.get();
+    }
+
+    /**
+     * Runs an action recording a response, e.g. into the traffic log or the latency report.
+     * Outside a hedged execution it runs at once; on the thread of an attempt it is held back and
+     * only run, on the caller's thread, if that attempt's response is the one returned.
+     *
+     * @param record recording action; must not depend on thread-local state of the attempt
+     */
+    public static void recordIfUsed(Runnable record) {
+        List<Runnable> records = ATTEMPT_RECORDS.get();
+        if (records != null) {
+            records.add(record);
+        } else {
+            record.run();
+        }
+    }
+
+    /**
+     * Runs an idempotent request, sending a duplicate if the first attempt is slower than
+     * the current hedge delay for its endpoint. When hedging is disabled the request runs
+     * directly on the calling thread.
+     *
+     * @param endpointKey endpoint template the latency window is kept for, e.g. {@code /products/{id}}
+     * @param request blocking request; must be safe to send twice
+     * @return the first successful response, or a 5xx or 429 response if no attempt succeeded
+     */
+    public Response execute(String endpointKey, Supplier<Response> request) {
+        if (!enabled) {
+            return request.get();
+        }
+        requests.incrementAndGet();
+        LatencyWindow window = windows.computeIfAbsent(endpointKey, key -> new LatencyWindow());
+        long delayMs = window.hedgeDelayMs();
+
+        CompletableFuture<Attempt> primary = attempt(request, window, false);
+        try {
+            return primary.get(delayMs, TimeUnit.MILLISECONDS).use();
+        } catch (TimeoutException e) {
+            hedgesFired.incrementAndGet();
+            logger.debug("No response from {} within {}ms, sending hedged request", endpointKey, delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + endpointKey, e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+
+        CompletableFuture<Attempt> hedge = attempt(request, window, true);
+        Attempt winner;
+        try {
+            winner = firstSuccessful(primary, hedge).join();
+        } catch (CompletionException e) {
+            throw propagate(e);
+        }
+        if (winner.hedge()) {
+            hedgesWon.incrementAndGet();
+        }
+        drainLoser(primary, winner);
+        drainLoser(hedge, winner);
+        return winner.use();
+    }
+
+    private CompletableFuture<Attempt> attempt(Supplier<Response> request, LatencyWindow window, boolean hedge) {
+        TrafficLog trafficLog = TrafficLog.current();
+        MockNetworkProfileFilter.Binding networkProfile = MockNetworkProfileFilter.current();
+        return CompletableFuture.supplyAsync(() -> {
+            TrafficLog.bind(trafficLog);
+            MockNetworkProfileFilter.bind(networkProfile);
+            HEDGE_ATTEMPT.set(hedge);
+            List<Runnable> records = new ArrayList<>();
+            ATTEMPT_RECORDS.set(records);
+            long start = System.nanoTime();
+            try {
+                Response response = request.get();
+                window.record((System.nanoTime() - start) / 1_000_000);
+                return new Attempt(response, hedge, records);
+            } finally {
+                TrafficLog.bind(null);
+                MockNetworkProfileFilter.clear();
+                HEDGE_ATTEMPT.remove();
+                ATTEMPT_RECORDS.remove();
+            }
+        }, attempts);
+    }
+
+    /**
+     * Completes with the first response that is not worth retrying. A retryable response is held
+     * back until the other attempt has finished, and only returned if that attempt did no better.
+     */
+    private static CompletableFuture<Attempt> firstSuccessful(CompletableFuture<Attempt> first,
+                                                              CompletableFuture<Attempt> second) {
+        CompletableFuture<Attempt> winner = new CompletableFuture<>();
+        AtomicReference<Attempt> fallback = new AtomicReference<>();
+        AtomicInteger finished = new AtomicInteger();
+        for (CompletableFuture<Attempt> attempt : List.of(first, second)) {
+            attempt.whenComplete((response, error) -> {
+                if (error == null && !isRetryable(response.response())) {
+                    winner.complete(response);
+                    return;
+                }
+                if (error == null) {
+                    fallback.compareAndSet(null, response);
+                }
+                if (finished.incrementAndGet() == 2) {
+                    if (fallback.get() != null) {
+                        winner.complete(fallback.get());
+                    } else {
+                        winner.completeExceptionally(error);
+                    }
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static boolean isRetryable(Response response) {
+        int statusCode = response.getStatusCode();
+        return statusCode >= 500 || statusCode == 429;
+    }
+
+    private static void drainLoser(CompletableFuture<Attempt> attempt, Attempt winner) {
+        attempt.thenAccept(loser -> {
+            if (loser != winner) {
+                // Reading the body returns the connection to the pool
+                loser.response().asByteArray();
+            }
+        });
+    }
+
+    private static RuntimeException propagate(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    /**
+     * Gets a snapshot of the hedging counters.
+     *
+     * @return current hedging statistics
+     */
+    public Stats getStats() {
+        return new Stats(requests.get(), hedgesFired.get(), hedgesWon.get());
+    }
+
+    /**
+     * Logs the hedging counters.
+     */
+    public void logStats() {
+        Stats stats = getStats();
+        logger.info("Hedged requests - requests: {}, hedges fired: {} ({}%), hedges won: {}",
+                stats.requests(), stats.hedgesFired(), Math.round(stats.fireRatio() * 100), stats.hedgesWon());
+    }
+
+    /**
+     * Hedging counters.
+     *
+     * @param requests requests executed with hedging enabled
+     * @param hedgesFired requests for which a duplicate was sent
+     * @param hedgesWon duplicates whose response was returned instead of the original one
+     */
+    public record Stats(long requests, long hedgesFired, long hedgesWon) {
+
+        /**
+         * @return fraction of requests that needed a hedge
+         */
+        public double fireRatio() {
+            return requests == 0 ? 0.0 : (double) hedgesFired / requests;
+        }
+    }
+
+    /**
+     * Response of one attempt with the recording actions held back until it is known to be used.
+     *
+     * @param response response of the attempt
+     * @param hedge true for the duplicate, false for the original request
+     * @param records recording actions of the attempt's filters
+     */
+    private record Attempt(Response response, boolean hedge, List<Runnable> records) {
+
+        /**
+         * Runs the held back recordings on the calling thread.
+         *
+         * @return the response
+         */
+        Response use() {
+            records.forEach(Runnable::run);
+            return response;
+        }
+    }
+
+    /**
+     * Ring buffer of the most recent attempt latencies for one endpoint.
+     */
+    private class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+
+        synchronized void record(long latencyMs) {
+            samples[next] = latencyMs;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+        }
+
+        synchronized long hedgeDelayMs() {
+            if (count < MIN_SAMPLES) {
+                return initialDelayMs;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return Math.max(minDelayMs, sorted[Math.max(0, Math.min(index, count - 1))]);
+        }
+    }
+}
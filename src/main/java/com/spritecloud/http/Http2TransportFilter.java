@@ -0,0 +1,174 @@
+package com.spritecloud.http;
+
+import com.spritecloud.config.ConfigurationManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Terminal RestAssured filter that sends requests over the JDK HTTP/2 client instead of
+ * RestAssured's HTTP/1.1 Apache client.
+ *
+ * <p>Design Decision: RestAssured 5 is bound to Apache HttpClient 4, which cannot speak HTTP/2.
+ * Rather than replacing RestAssured in every service, this filter runs last in the filter chain,
+ * performs the exchange with one shared {@link HttpClient} and hands RestAssured a response built
+ * from the result, so specs, filters, traffic capture and response parsing keep working unchanged.
+ * Its time is available through {@link ResponseTimes#of(Response)}.
+ * The JDK client multiplexes concurrent requests to an origin over a single connection.
+ *
+ * <p>Bodies are requested with gzip/deflate and decoded here, so wire and decoded sizes are
+ * recorded in {@link TransferStats}. Responses are fully read before they are returned, so
+ * streamed list requests stay on the HTTP/1.1 transport.
+ */
+public class Http2TransportFilter implements OrderedFilter {
+
+    /** Headers the JDK client manages itself and rejects, plus Accept-Encoding, which is set here */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade", "accept-encoding");
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    /**
+     * Creates the transport with timeouts from ConfigurationManager.
+     *
+     * @param config configuration manager
+     */
+    public Http2TransportFilter(ConfigurationManager config) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(config.getHttpConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = Duration.ofMillis(config.getHttpReadTimeoutMs());
+    }
+
+    @Override
+    public int getOrder() {
+        // Must run after every other filter: it sends the request instead of passing it on
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpRequest request = toHttpRequest(requestSpec);
+        RequestPhases phases = RequestPhases.current();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            if (phases != null) {
+                phases.markRequestWritten();
+            }
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            if (phases != null) {
+                phases.markHeadersReceived();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(requestSpec.getMethod() + " " + requestSpec.getURI() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + requestSpec.getMethod() + " " + requestSpec.getURI(), e);
+        }
+
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        String contentEncoding = response.headers().firstValue("Content-Encoding")
+                .filter(ContentCoding::isSupported)
+                .map(value -> value.trim().toLowerCase())
+                .orElse(null);
+        byte[] body = readBody(response.body(), contentEncoding, protocol, requestSpec);
+        if (phases != null) {
+            phases.markBodyRead();
+        }
+        long timeMs = (System.nanoTime() - start) / 1_000_000;
+
+        Response restAssuredResponse = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(protocol + " " + response.statusCode())
+                .setHeaders(toHeaders(response.headers().map()))
+                .setContentType(response.headers().firstValue("Content-Type").orElse(""))
+                .setBody(body)
+                .build();
+        // Built responses carry no timing of their own
+        ResponseTimes.record(ctx, restAssuredResponse, timeMs);
+        return restAssuredResponse;
+    }
+
+    private HttpRequest toHttpRequest(FilterableRequestSpecification requestSpec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(requestTimeout)
+                .header("Accept-Encoding", ContentCoding.ACCEPT_ENCODING);
+
+        boolean hasContentType = false;
+        for (Header header : requestSpec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase())) {
+                builder.header(header.getName(), header.getValue());
+                hasContentType |= header.getName().equalsIgnoreCase("Content-Type");
+            }
+        }
+        if (!hasContentType && requestSpec.getContentType() != null) {
+            builder.header("Content-Type", requestSpec.getContentType());
+        }
+        if (requestSpec.getCookies().exist()) {
+            builder.header("Cookie", requestSpec.getCookies().asList().stream()
+                    .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return builder.method(requestSpec.getMethod(), bodyPublisher(requestSpec.getBody())).build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof byte[] bytes) {
+            return HttpRequest.BodyPublishers.ofByteArray(bytes);
+        }
+        return HttpRequest.BodyPublishers.ofString(String.valueOf(body), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBody(InputStream raw, String contentEncoding, String protocol,
+                                   FilterableRequestSpecification requestSpec) {
+        ContentCoding.CountingInputStream wire = new ContentCoding.CountingInputStream(raw);
+        try (InputStream decoded = ContentCoding.decoding(wire, contentEncoding)) {
+            byte[] body = decoded.readAllBytes();
+            TransferStats.record(protocol, requestSpec.getMethod() + " " + requestSpec.getURI(),
+                    contentEncoding, wire.getCount(), body.length);
+            return body;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read response of " + requestSpec.getURI(), e);
+        }
+    }
+
+    private static Headers toHeaders(Map<String, List<String>> headerMap) {
+        List<Header> headers = new ArrayList<>();
+        headerMap.forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        return new Headers(headers);
+    }
+}
@@ -0,0 +1,313 @@
+package com.spritecloud.http;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.metrics.MetricsRegistry;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide, thread-safe HTTP connection pool shared by all API services.
+ *
+ * <p>Design Decision: RestAssured creates a new HTTP client for every request and, by default,
+ * a new single-connection manager with it, so every call pays a fresh TCP/TLS handshake.
+ * This pool keeps that per-request client (RestAssured mutates client interceptors per call)
+ * but backs all of them with one pooling connection manager, so keep-alive connections are
+ * reused across requests, services and parallel scenarios.
+ *
+ * <p>RestAssured 5 still requires the legacy {@code AbstractHttpClient} API, which is why the
+ * pool is built on {@link PoolingClientConnectionManager} rather than the HttpClient 4.3+ builders.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Configurable max connections per route and in total</li>
+ *   <li>Background eviction of expired and idle connections</li>
+ *   <li>Connect and read timeouts driven by ConfigurationManager</li>
+ *   <li>Counters for pool hits, waits and new connections, exported as run metrics</li>
+ *   <li>Wire and decoded response byte counters</li>
+ *   <li>Per-request DNS, connect, TLS, time-to-first-byte and download timings</li>
+ * </ul>
+ */
+// RestAssured 5's HttpClientConfig only accepts an AbstractHttpClient, so the pool, its connection
+// operator and TLS socket factory have to use the deprecated pre-4.3 HttpClient API throughout
+@SuppressWarnings("deprecation")
+public class HttpConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpConnectionPool.class);
+    private static HttpConnectionPool instance;
+
+    /** Decodes gzip/deflate bodies and counts wire and decoded bytes */
+    private static final MeteredResponseInterceptor METERED_RESPONSE_INTERCEPTOR = new MeteredResponseInterceptor();
+    /** Marks when a request is written, after its connection is ready */
+    private static final HttpRequestInterceptor REQUEST_WRITTEN_INTERCEPTOR = (request, context) -> {
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            phases.markRequestWritten();
+        }
+    };
+
+    private final CountingConnectionManager connectionManager;
+    private final ScheduledExecutorService evictor;
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+    private final int idleTimeoutMs;
+
+    private final AtomicLong leaseRequests = new AtomicLong();
+    private final AtomicLong leaseWaits = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+
+    private HttpConnectionPool(ConfigurationManager config) {
+        this.connectTimeoutMs = config.getHttpConnectTimeoutMs();
+        this.readTimeoutMs = config.getHttpReadTimeoutMs();
+        this.idleTimeoutMs = config.getHttpIdleTimeoutMs();
+
+        SchemeRegistry schemeRegistry = SchemeRegistryFactory.createDefault();
+        schemeRegistry.register(new Scheme("https", 443, new TimedSslSocketFactory()));
+        this.connectionManager = new CountingConnectionManager(schemeRegistry);
+        connectionManager.setDefaultMaxPerRoute(config.getHttpMaxPerRoute());
+        connectionManager.setMaxTotal(config.getHttpMaxTotal());
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionIntervalMs = Math.max(1000, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::evictStaleConnections,
+                evictionIntervalMs, evictionIntervalMs, TimeUnit.MILLISECONDS);
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.counter("http_pool_lease_requests_total", "Connection lease requests made by API calls",
+                leaseRequests::get);
+        metrics.counter("http_pool_connections_opened_total", "Connections opened by the pool", connectionsOpened::get);
+        metrics.counter("http_pool_lease_waits_total", "Lease requests that found the route saturated",
+                leaseWaits::get);
+        metrics.gauge("http_pool_connections", "Pooled connections by state",
+                () -> connectionManager.getTotalStats().getLeased(), "state", "leased");
+        metrics.gauge("http_pool_connections", "Pooled connections by state",
+                () -> connectionManager.getTotalStats().getAvailable(), "state", "idle");
+
+        logger.info("HTTP connection pool initialized (maxPerRoute: {}, maxTotal: {}, idleTimeout: {}ms, "
+                        + "connectTimeout: {}ms, readTimeout: {}ms)",
+                config.getHttpMaxPerRoute(), config.getHttpMaxTotal(),
+                idleTimeoutMs, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * Gets the process-wide connection pool, creating it on first use.
+     *
+     * @return shared HttpConnectionPool instance
+     */
+    public static synchronized HttpConnectionPool getInstance() {
+        if (instance == null) {
+            instance = new HttpConnectionPool(ConfigurationManager.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether the pool has been created during this run.
+     *
+     * @return true if {@link #getInstance()} has been called
+     */
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
+    /**
+     * Creates a RestAssured HTTP client configuration backed by this pool.
+     * Each request still gets its own lightweight client, but all clients lease
+     * connections from the shared connection manager.
+     *
+     * @return HttpClientConfig that routes requests through the pool
+     */
+    public HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(this::createHttpClient);
+    }
+
+    private DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        // Registered before RestAssured's own decoders, so it sees the body exactly as sent on the wire
+        client.addResponseInterceptor(METERED_RESPONSE_INTERCEPTOR);
+        client.addRequestInterceptor(REQUEST_WRITTEN_INTERCEPTOR);
+        HttpParams params = client.getParams();
+        HttpConnectionParams.setConnectionTimeout(params, connectTimeoutMs);
+        HttpConnectionParams.setSoTimeout(params, readTimeoutMs);
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, connectTimeoutMs);
+        return client;
+    }
+
+    private void evictStaleConnections() {
+        try {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.warn("Failed to evict idle HTTP connections: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets a snapshot of the pool counters.
+     *
+     * @return current pool statistics
+     */
+    public Stats getStats() {
+        PoolStats totals = connectionManager.getTotalStats();
+        return new Stats(leaseRequests.get(), connectionsOpened.get(), leaseWaits.get(),
+                totals.getLeased(), totals.getAvailable());
+    }
+
+    /**
+     * Logs the pool counters, typically once at the end of a run.
+     */
+    public void logStats() {
+        Stats stats = getStats();
+        logger.info("HTTP connection pool - requests: {}, pool hits: {}, new connections: {}, waits: {}, "
+                        + "reuse ratio: {}%, leased: {}, idle: {}",
+                stats.requests(), stats.poolHits(), stats.newConnections(), stats.waits(),
+                String.format("%.1f", stats.reuseRatio() * 100), stats.leased(), stats.available());
+    }
+
+    /**
+     * Closes all pooled connections and stops the eviction thread.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            instance.evictor.shutdownNow();
+            instance.connectionManager.shutdown();
+            instance = null;
+            logger.info("HTTP connection pool shut down");
+        }
+    }
+
+    /**
+     * Immutable snapshot of pool usage counters.
+     *
+     * @param requests connection lease requests made by API calls
+     * @param newConnections connections opened (each costs a TCP and, for HTTPS, a TLS handshake)
+     * @param waits lease requests that found the route saturated and had to wait
+     * @param leased connections currently in use
+     * @param available idle connections currently kept alive in the pool
+     */
+    public record Stats(long requests, long newConnections, long waits, int leased, int available) {
+
+        /**
+         * @return lease requests served by an already open connection
+         */
+        public long poolHits() {
+            return Math.max(0, requests - newConnections);
+        }
+
+        /**
+         * @return fraction of requests that reused a pooled connection
+         */
+        public double reuseRatio() {
+            return requests == 0 ? 0.0 : (double) poolHits() / requests;
+        }
+    }
+
+    /**
+     * Default TLS socket factory that times the handshake of each new connection.
+     */
+    private static class TimedSslSocketFactory extends SSLSocketFactory {
+
+        TimedSslSocketFactory() {
+            super(SSLContexts.createDefault(), BROWSER_COMPATIBLE_HOSTNAME_VERIFIER);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return super.createLayeredSocket(socket, target, port, context);
+            } finally {
+                RequestPhases phases = RequestPhases.current();
+                if (phases != null) {
+                    phases.addTls(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pooling connection manager that records lease requests, waits and newly opened connections.
+     */
+    private class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        CountingConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    connectionsOpened.incrementAndGet();
+                    long start = System.nanoTime();
+                    try {
+                        super.openConnection(conn, target, local, context, params);
+                    } finally {
+                        RequestPhases phases = RequestPhases.current();
+                        if (phases != null) {
+                            phases.addConnectionSetup(System.nanoTime() - start);
+                        }
+                    }
+                }
+
+                @Override
+                protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+                    long start = System.nanoTime();
+                    try {
+                        return super.resolveHostname(host);
+                    } finally {
+                        RequestPhases phases = RequestPhases.current();
+                        if (phases != null) {
+                            phases.addDns(System.nanoTime() - start);
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            leaseRequests.incrementAndGet();
+            PoolStats routeStats = getStats(route);
+            if (routeStats.getAvailable() == 0 && routeStats.getLeased() >= getMaxPerRoute(route)) {
+                leaseWaits.incrementAndGet();
+            }
+            return super.requestConnection(route, state);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.spritecloud.http;
+
+/**
+ * Wire transport used by the API services.
+ *
+ * <ul>
+ *   <li>{@link #HTTP1}: RestAssured's own Apache HttpClient 4 over the shared keep-alive pool</li>
+ *   <li>{@link #HTTP2}: JDK {@code java.net.http} client, multiplexing all requests to an origin
+ *   over a single connection (h2 via ALPN for https, h2c upgrade for http, falling back to
+ *   HTTP/1.1 when the server does not support it)</li>
+ * </ul>
+ */
+public enum HttpTransport {
+    HTTP1,
+    HTTP2;
+
+    /**
+     * Parses a configured transport name.
+     *
+     * @param name "http1" or "http2", case-insensitive
+     * @return matching transport
+     * @throws IllegalStateException if the name is not a known transport
+     */
+    public static HttpTransport fromName(String name) {
+        for (HttpTransport transport : values()) {
+            if (transport.name().equalsIgnoreCase(name)) {
+                return transport;
+            }
+        }
+        throw new IllegalStateException("Unknown HTTP transport '" + name + "', expected http1 or http2");
+    }
+}
@@ -0,0 +1,104 @@
+package com.spritecloud.http;
+
+import com.spritecloud.metrics.MetricsRegistry;
+import com.spritecloud.perf.LatencyRecorder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * RestAssured filter that records the latency of every API call into {@link LatencyRecorder},
+ * keyed by method, endpoint template and status code, and into the {@code api_request_duration_seconds}
+ * run metric. Of a hedged request only the attempt whose response was used is recorded there,
+ * through {@link HedgingPolicy#recordIfUsed(Runnable)}, so each logical request is counted once with
+ * the latency the caller saw; duplicates are also timed in {@code api_hedge_duration_seconds}. Requests whose latency was injected through mock API overrides
+ * are left out of {@link LatencyRecorder}, so scenarios simulating a slow backend do not skew the
+ * endpoint percentiles compared against the performance baseline.
+ *
+ * <p>Numeric path segments are collapsed into {@code {id}}, so {@code /products/1} and
+ * {@code /products/2} share one histogram. By default the response body is read inside the
+ * measurement so download time is included; for streamed responses only time to headers is measured.
+ *
+ * <p>Each request also gets a fresh {@link RequestPhases} bound to the calling thread, which the
+ * HTTP layer fills in with DNS, connect, TLS, time-to-first-byte and download timings.
+ */
+public class LatencyRecordingFilter implements Filter {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final boolean includeBody;
+
+    /**
+     * Creates a filter that includes the body download in the measured latency.
+     */
+    public LatencyRecordingFilter() {
+        this(true);
+    }
+
+    /**
+     * @param includeBody false for streamed responses, whose body must not be read here
+     */
+    public LatencyRecordingFilter(boolean includeBody) {
+        this.includeBody = includeBody;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RequestPhases phases = RequestPhases.begin();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (includeBody) {
+            response.asByteArray();
+        }
+        long nanos = System.nanoTime() - start;
+        String endpoint = endpointOf(requestSpec.getMethod(), requestSpec.getURI());
+        int statusCode = response.getStatusCode();
+        if (HedgingPolicy.isHedgeAttempt()) {
+            MetricsRegistry.getInstance()
+                    .timer("api_hedge_duration_seconds", "Latency of hedged duplicate API calls by endpoint and status",
+                            "endpoint", endpoint, "status", String.valueOf(statusCode))
+                    .record(nanos);
+        }
+        boolean shapedByMock = isShapedByMock(requestSpec);
+        Map<String, Double> phasesMillis = phases.toMillis();
+        boolean newConnection = phases.isNewConnection();
+        HedgingPolicy.recordIfUsed(() -> {
+            if (!shapedByMock) {
+                LatencyRecorder.record(endpoint, statusCode, nanos, phasesMillis, newConnection);
+            }
+            MetricsRegistry.getInstance()
+                    .timer("api_request_duration_seconds", "API call latency by endpoint and status",
+                            "endpoint", endpoint, "status", String.valueOf(statusCode))
+                    .record(nanos);
+        });
+        return response;
+    }
+
+    private static boolean isShapedByMock(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getHeaders().hasHeaderWithName(MockNetworkProfileFilter.LATENCY_HEADER)
+                || requestSpec.getHeaders().hasHeaderWithName(MockNetworkProfileFilter.BANDWIDTH_HEADER);
+    }
+
+    /**
+     * Normalizes a request into an endpoint key, e.g. {@code GET /carts/user/{id}}.
+     *
+     * @param method HTTP method
+     * @param uri full request URI
+     * @return method and path template, without host and query
+     */
+    public static String endpointOf(String method, String uri) {
+        String path = URI.create(uri).getRawPath();
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        }
+        return method + " " + NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,161 @@
+package com.spritecloud.http;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Response interceptor for the HTTP/1.1 transport that decodes gzip/deflate bodies and counts
+ * wire and decoded bytes into {@link TransferStats}.
+ *
+ * <p>It is registered when the pooled client is created, so it runs before the decoders
+ * RestAssured adds per request. The wrapped entity reports no Content-Encoding, which makes
+ * RestAssured's decoders leave the already decoded body alone. Bytes are counted as the body
+ * is read, so streamed responses are metered without being buffered.
+ *
+ * <p>It also marks when the response headers arrived and when the body was fully read
+ * in the request's {@link RequestPhases}.
+ */
+class MeteredResponseInterceptor implements HttpResponseInterceptor {
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) {
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            phases.markHeadersReceived();
+        }
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            if (phases != null) {
+                phases.markBodyRead();
+            }
+            return;
+        }
+        Header encodingHeader = entity.getContentEncoding();
+        String contentEncoding = encodingHeader != null && ContentCoding.isSupported(encodingHeader.getValue())
+                ? encodingHeader.getValue().trim().toLowerCase()
+                : null;
+        HttpRequest request = (HttpRequest) context.getAttribute(HttpCoreContext.HTTP_REQUEST);
+        String requestLine = request == null ? "" : request.getRequestLine().getMethod() + " " + request.getRequestLine().getUri();
+        response.setEntity(new MeteredEntity(entity, response.getProtocolVersion().toString(), requestLine,
+                contentEncoding, phases));
+    }
+
+    /**
+     * Entity whose content is decoded and counted on the way out.
+     */
+    private static class MeteredEntity extends HttpEntityWrapper {
+
+        private final String protocol;
+        private final String requestLine;
+        private final String contentEncoding;
+        private final RequestPhases phases;
+        private InputStream content;
+
+        MeteredEntity(HttpEntity wrapped, String protocol, String requestLine, String contentEncoding,
+                      RequestPhases phases) {
+            super(wrapped);
+            this.protocol = protocol;
+            this.requestLine = requestLine;
+            this.contentEncoding = contentEncoding;
+            this.phases = phases;
+        }
+
+        @Override
+        public Header getContentEncoding() {
+            return contentEncoding == null ? super.getContentEncoding() : null;
+        }
+
+        @Override
+        public long getContentLength() {
+            return contentEncoding == null ? super.getContentLength() : -1;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public synchronized InputStream getContent() throws IOException {
+            if (content == null) {
+                ContentCoding.CountingInputStream wire = new ContentCoding.CountingInputStream(wrappedEntity.getContent());
+                content = new MeteredStream(wire, ContentCoding.decoding(wire, contentEncoding));
+            }
+            return content;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = getContent()) {
+                in.transferTo(out);
+            }
+        }
+
+        /**
+         * Decoded body stream that reports both counts once, at end of body or on close.
+         */
+        private class MeteredStream extends FilterInputStream {
+
+            private final ContentCoding.CountingInputStream wire;
+            private long decodedBytes;
+            private boolean reported;
+
+            MeteredStream(ContentCoding.CountingInputStream wire, InputStream decoded) {
+                super(decoded);
+                this.wire = wire;
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b < 0) {
+                    report();
+                } else {
+                    decodedBytes++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n < 0) {
+                    report();
+                } else {
+                    decodedBytes += n;
+                }
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    report();
+                }
+            }
+
+            private void report() {
+                if (!reported) {
+                    reported = true;
+                    if (phases != null) {
+                        phases.markBodyRead();
+                    }
+                    TransferStats.record(protocol, requestLine, contentEncoding, wire.getCount(), decodedBytes);
+                }
+            }
+        }
+    }
+}
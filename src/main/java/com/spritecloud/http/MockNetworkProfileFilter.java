@@ -0,0 +1,93 @@
+package com.spritecloud.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that asks the mock API to shape the responses of the current scenario,
+ * by sending the latency and bandwidth bound to the calling thread as override headers.
+ * When nothing is bound the filter only forwards the request.
+ *
+ * <p>Bindings are per thread, like the traffic log, so parallel scenarios can run against the same
+ * mock server with different profiles. Calls a scenario hands to other threads (async and bulk
+ * requests, hedges) carry the binding over with {@link #current()} and {@link #bind(Binding)}.
+ *
+ * <p>The filter is part of every client configuration built while MOCK_API is enabled.
+ */
+public class MockNetworkProfileFilter implements Filter {
+
+    /** Request header overriding the latency profile of that request */
+    public static final String LATENCY_HEADER = "X-Mock-Latency";
+    /** Request header overriding the bandwidth of that request, in kilobits per second */
+    public static final String BANDWIDTH_HEADER = "X-Mock-Bandwidth-Kbps";
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Binds overrides to the calling thread, typically for the duration of a scenario.
+     *
+     * @param latency latency profile, e.g. {@code lognormal:120,0.5}, or null to keep the configured one
+     * @param bandwidthKbps bandwidth in kilobits per second, or null to keep the configured one
+     */
+    public static void bind(String latency, String bandwidthKbps) {
+        bind(latency == null && bandwidthKbps == null ? null : new Binding(latency, bandwidthKbps));
+    }
+
+    /**
+     * Binds existing overrides to the calling thread, e.g. on a worker thread
+     * running an asynchronous call on behalf of a scenario.
+     *
+     * @param binding overrides to bind, or null to release the current binding
+     */
+    public static void bind(Binding binding) {
+        if (binding == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(binding);
+        }
+    }
+
+    /**
+     * Gets the overrides bound to the calling thread.
+     *
+     * @return bound overrides, or null if none
+     */
+    public static Binding current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Removes the overrides bound to the calling thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Binding binding = CURRENT.get();
+        if (binding != null) {
+            if (binding.latency() != null) {
+                requestSpec.header(LATENCY_HEADER, binding.latency());
+            }
+            if (binding.bandwidthKbps() != null) {
+                requestSpec.header(BANDWIDTH_HEADER, binding.bandwidthKbps());
+            }
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    /**
+     * Latency and bandwidth overrides of one scenario.
+     *
+     * @param latency latency profile, or null to keep the configured one
+     * @param bandwidthKbps bandwidth in kilobits per second, or null to keep the configured one
+     */
+    public record Binding(String latency, String bandwidthKbps) {
+    }
+}
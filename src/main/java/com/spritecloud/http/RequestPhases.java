@@ -0,0 +1,153 @@
+package com.spritecloud.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Phase timings of one HTTP request: DNS lookup, TCP connect, TLS handshake,
+ * time to first byte and body download.
+ *
+ * <p>Design Decision: RestAssured executes a request entirely on the calling thread, so the
+ * timings are collected into an instance bound to that thread. {@link LatencyRecordingFilter}
+ * binds a fresh instance per request, and the hooks in the HTTP layer add to whichever instance
+ * is bound: the connection operator (DNS, connect), the TLS socket factory (handshake), a request
+ * interceptor (request written after the connection was ready) and the metered response entity
+ * (headers received, body fully read). A reused keep-alive connection shows up as zero DNS,
+ * connect and TLS time, so connection setup and server think time can be told apart.
+ *
+ * <p>Requests over the HTTP/2 transport only report time to first byte and download;
+ * the JDK client does not expose its connection setup.
+ */
+public final class RequestPhases {
+
+    private static final ThreadLocal<RequestPhases> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private volatile long dnsNanos;
+    private volatile long connectionSetupNanos;
+    private volatile long tlsNanos;
+    private volatile long requestWrittenAt;
+    private volatile long headersReceivedAt;
+    private volatile long bodyReadAt;
+    private volatile boolean newConnection;
+
+    /**
+     * Binds a new, empty set of phase timings to the current thread.
+     *
+     * @return the bound timings
+     */
+    public static RequestPhases begin() {
+        RequestPhases phases = new RequestPhases();
+        CURRENT.set(phases);
+        return phases;
+    }
+
+    /**
+     * Gets the phase timings bound to the current thread.
+     *
+     * @return bound timings, or null if no request is being timed
+     */
+    public static RequestPhases current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Releases the phase timings bound to the current thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void addDns(long nanos) {
+        dnsNanos += nanos;
+    }
+
+    /**
+     * @param nanos time to open a connection, including DNS lookup and TLS handshake
+     */
+    void addConnectionSetup(long nanos) {
+        connectionSetupNanos += nanos;
+        newConnection = true;
+    }
+
+    void addTls(long nanos) {
+        tlsNanos += nanos;
+    }
+
+    void markRequestWritten() {
+        requestWrittenAt = System.nanoTime();
+    }
+
+    void markHeadersReceived() {
+        headersReceivedAt = System.nanoTime();
+        if (requestWrittenAt == 0) {
+            requestWrittenAt = startNanos;
+        }
+    }
+
+    void markBodyRead() {
+        if (bodyReadAt == 0) {
+            bodyReadAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return true if this request opened a new connection instead of reusing a pooled one
+     */
+    public boolean isNewConnection() {
+        return newConnection;
+    }
+
+    public double getDnsMillis() {
+        return dnsNanos / 1e6;
+    }
+
+    /**
+     * @return TCP connect time, excluding DNS and TLS
+     */
+    public double getConnectMillis() {
+        return Math.max(0, connectionSetupNanos - dnsNanos - tlsNanos) / 1e6;
+    }
+
+    public double getTlsMillis() {
+        return tlsNanos / 1e6;
+    }
+
+    /**
+     * @return time from writing the request until the response headers arrived, 0 if no response yet
+     */
+    public double getTimeToFirstByteMillis() {
+        return headersReceivedAt == 0 ? 0.0 : (headersReceivedAt - requestWrittenAt) / 1e6;
+    }
+
+    /**
+     * Includes any client-side processing RestAssured does before it reads the body.
+     *
+     * @return time from the response headers until the body was fully read, 0 if not read yet
+     */
+    public double getDownloadMillis() {
+        return headersReceivedAt == 0 || bodyReadAt == 0 ? 0.0 : (bodyReadAt - headersReceivedAt) / 1e6;
+    }
+
+    /**
+     * Gets the phases in request order.
+     *
+     * @return phase name to duration in milliseconds
+     */
+    public Map<String, Double> toMillis() {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        phases.put("dns", getDnsMillis());
+        phases.put("connect", getConnectMillis());
+        phases.put("tls", getTlsMillis());
+        phases.put("ttfb", getTimeToFirstByteMillis());
+        phases.put("download", getDownloadMillis());
+        return phases;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("dns %.1f, connect %.1f, tls %.1f, ttfb %.1f, download %.1f ms, %s connection",
+                getDnsMillis(), getConnectMillis(), getTlsMillis(), getTimeToFirstByteMillis(), getDownloadMillis(),
+                newConnection ? "new" : "reused");
+    }
+}
@@ -0,0 +1,327 @@
+package com.spritecloud.http;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.metrics.MetricsRegistry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide cache of GET responses, shared by all services and parallel scenarios for one run.
+ *
+ * <p>Design Decision: Many scenarios re-request the same immutable resources, which hammers a
+ * rate-limited upstream when features run in parallel. Responses are cached per request
+ * (method, full URL and the headers that change the representation) for a fixed TTL and the
+ * least recently used entries are evicted beyond a maximum size. Expired entries that carry an
+ * ETag can optionally be revalidated with {@code If-None-Match} instead of being refetched.
+ * Any non-GET request invalidates the cached entries of the resource collection it touches.
+ *
+ * <p>Caching is opt-in through API_RESPONSE_CACHE_ENABLED. Responses served from the cache carry
+ * an {@value #CACHE_STATUS_HEADER} header ({@code HIT} or {@code REVALIDATED}) and report the time
+ * of the lookup or revalidation through {@link ResponseTimes}. That time does not measure the API,
+ * so response-time assertions skip such responses (see {@link #isServedFromCache(Response)}).
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Key: method, full URL and Accept/Accept-Language/Authorization/Cookie headers</li>
+ *   <li>TTL expiry and LRU eviction</li>
+ *   <li>Optional ETag revalidation</li>
+ *   <li>Hit, miss, revalidation, eviction and invalidation counters, exported as run metrics</li>
+ * </ul>
+ */
+public class ResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+    private static ResponseCache instance;
+
+    /** Response header marking responses answered by the cache rather than the API */
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+    /** {@value #CACHE_STATUS_HEADER} value of a response served from a fresh entry */
+    static final String HIT = "HIT";
+    /** {@value #CACHE_STATUS_HEADER} value of a response served from an entry the API confirmed with 304 */
+    static final String REVALIDATED = "REVALIDATED";
+
+    /** Request headers that select a different representation of the same URL */
+    private static final List<String> KEY_HEADERS = List.of("Accept", "Accept-Language", "Authorization", "Cookie");
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final boolean revalidate;
+    private final LinkedHashMap<String, CachedResponse> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Creates a standalone cache, e.g. to exercise caching without enabling it for the whole run.
+     * Services always use the shared instance from {@link #getInstance()}, whose counters are
+     * also exported as run metrics.
+     *
+     * @param ttlMs time an entry is served without asking the API
+     * @param maxEntries entries kept before the least recently used one is evicted
+     * @param revalidate whether expired entries with an ETag are revalidated with If-None-Match
+     */
+    public ResponseCache(long ttlMs, int maxEntries, boolean revalidate) {
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.maxEntries = maxEntries;
+        this.revalidate = revalidate;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        logger.info("API response cache initialized (ttl: {}ms, maxEntries: {}, revalidate: {})",
+                ttlMs, maxEntries, revalidate);
+    }
+
+    /**
+     * Gets the process-wide response cache, creating it on first use.
+     *
+     * @return shared ResponseCache instance
+     */
+    public static synchronized ResponseCache getInstance() {
+        if (instance == null) {
+            ConfigurationManager config = ConfigurationManager.getInstance();
+            instance = new ResponseCache(config.getApiResponseCacheTtlMs(), config.getApiResponseCacheMaxEntries(),
+                    config.isApiResponseCacheRevalidateEnabled());
+            instance.registerMetrics();
+        }
+        return instance;
+    }
+
+    private void registerMetrics() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.counter("api_cache_lookups_total", "Response cache lookups by outcome",
+                () -> getStats().hits(), "result", "hit");
+        metrics.counter("api_cache_lookups_total", "Response cache lookups by outcome",
+                () -> getStats().misses(), "result", "miss");
+        metrics.gauge("api_cache_entries", "Responses currently held in the cache", () -> getStats().entries());
+    }
+
+    /**
+     * Checks whether the cache has been created during this run.
+     *
+     * @return true if {@link #getInstance()} has been called
+     */
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
+    /**
+     * Checks whether a response was answered by a response cache instead of the API.
+     *
+     * @param response API response
+     * @return true for cache hits and revalidated entries
+     */
+    public static boolean isServedFromCache(Response response) {
+        return response.getHeader(CACHE_STATUS_HEADER) != null;
+    }
+
+    /**
+     * Builds the cache key for a request.
+     *
+     * @param requestSpec request about to be sent
+     * @return key combining method, full URL and representation-selecting headers
+     */
+    static String keyFor(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        Headers headers = requestSpec.getHeaders();
+        for (String name : KEY_HEADERS) {
+            if (headers.hasHeaderWithName(name)) {
+                key.append('\n').append(name).append(": ").append(String.join(",", headers.getValues(name)));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Gets the entry for a key, fresh or expired. Expired entries without an ETag
+     * (or when revalidation is disabled) are dropped and reported as absent.
+     */
+    synchronized CachedResponse lookup(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && !cached.isFresh() && !(revalidate && cached.etag() != null)) {
+            entries.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * Stores a response if it is cacheable: HTTP 200 and not marked {@code no-store}.
+     */
+    void store(String key, Response response) {
+        if (response.getStatusCode() != 200) {
+            return;
+        }
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return;
+        }
+        CachedResponse cached = new CachedResponse(response.getStatusCode(), response.getStatusLine(),
+                response.getHeaders(), response.getContentType(), response.asByteArray(),
+                response.getHeader("ETag"), System.nanoTime() + ttlNanos);
+        synchronized (this) {
+            entries.put(key, cached);
+        }
+    }
+
+    /**
+     * Extends an expired entry after the API confirmed it with 304 Not Modified.
+     */
+    CachedResponse revalidated(String key, CachedResponse cached) {
+        revalidations.incrementAndGet();
+        CachedResponse refreshed = cached.withExpiry(System.nanoTime() + ttlNanos);
+        synchronized (this) {
+            entries.put(key, refreshed);
+        }
+        return refreshed;
+    }
+
+    /**
+     * Drops every cached entry under the resource collection of the given URL,
+     * e.g. a DELETE of {@code /users/1} drops {@code /users}, {@code /users/1} and {@code /users/2}.
+     *
+     * @param url full URL of an unsafe (non-GET) request
+     */
+    synchronized void invalidate(String url) {
+        String prefix = collectionPrefix(url);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            String keyUrl = key.substring(key.indexOf(' ') + 1);
+            if (keyUrl.startsWith(prefix) && isBoundary(keyUrl, prefix.length())) {
+                keys.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    private static boolean isBoundary(String keyUrl, int index) {
+        if (index >= keyUrl.length()) {
+            return true;
+        }
+        char next = keyUrl.charAt(index);
+        return next == '/' || next == '?' || next == '\n';
+    }
+
+    private static String collectionPrefix(String url) {
+        URI uri = URI.create(url);
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        int secondSlash = path.indexOf('/', 1);
+        String collection = secondSlash > 0 ? path.substring(0, secondSlash) : path;
+        return uri.getScheme() + "://" + uri.getRawAuthority() + collection;
+    }
+
+    /**
+     * Removes all cached entries. Counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return current cache statistics
+     */
+    public Stats getStats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), misses.get(), revalidations.get(), evictions.get(), invalidations.get(), size);
+    }
+
+    /**
+     * Logs the cache counters.
+     */
+    public void logStats() {
+        Stats stats = getStats();
+        logger.info("API response cache - hits: {}, misses: {}, revalidated: {}, hit ratio: {}%, "
+                        + "evictions: {}, invalidations: {}, entries: {}",
+                stats.hits(), stats.misses(), stats.revalidations(),
+                Math.round(stats.hitRatio() * 100), stats.evictions(), stats.invalidations(), stats.entries());
+    }
+
+    /**
+     * Cache counters.
+     *
+     * @param hits requests served from a fresh entry
+     * @param misses requests sent to the API and not answered with 304
+     * @param revalidations expired entries confirmed by the API with 304 Not Modified
+     * @param evictions entries dropped because the cache was full
+     * @param invalidations entries dropped because a non-GET request touched their resource
+     * @param entries entries currently cached
+     */
+    public record Stats(long hits, long misses, long revalidations, long evictions, long invalidations, int entries) {
+
+        /**
+         * @return fraction of lookups answered without downloading the body again
+         */
+        public double hitRatio() {
+            long lookups = hits + misses + revalidations;
+            return lookups == 0 ? 0.0 : (double) (hits + revalidations) / lookups;
+        }
+    }
+
+    /**
+     * Immutable copy of a cached response. Every hit builds a new {@link Response}
+     * from it, so callers on different threads never share a response object.
+     */
+    record CachedResponse(int statusCode, String statusLine, Headers headers, String contentType,
+                          byte[] body, String etag, long expiresAtNanos) {
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+
+        CachedResponse withExpiry(long newExpiresAtNanos) {
+            return new CachedResponse(statusCode, statusLine, headers, contentType, body, etag, newExpiresAtNanos);
+        }
+
+        /**
+         * @param cacheStatus {@value #CACHE_STATUS_HEADER} value telling how the cache answered
+         */
+        Response toResponse(String cacheStatus) {
+            List<Header> marked = new ArrayList<>(headers.asList());
+            marked.add(new Header(CACHE_STATUS_HEADER, cacheStatus));
+            return new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(new Headers(marked))
+                    .setContentType(contentType)
+                    .setBody(body)
+                    .build();
+        }
+    }
+}
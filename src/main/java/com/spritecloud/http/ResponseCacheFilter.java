@@ -0,0 +1,78 @@
+package com.spritecloud.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that answers GET requests from the {@link ResponseCache} and
+ * invalidates cached entries when any other method touches the same resource collection.
+ * Responses it answers itself are timed from the start of the lookup, see {@link ResponseTimes}.
+ */
+public class ResponseCacheFilter implements Filter {
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final ResponseCache cache;
+
+    /**
+     * Creates a filter backed by the process-wide {@link ResponseCache#getInstance()}.
+     */
+    public ResponseCacheFilter() {
+        this(null);
+    }
+
+    /**
+     * Creates a filter backed by a standalone cache.
+     *
+     * @param cache cache to answer from, or null for the process-wide cache
+     */
+    public ResponseCacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ResponseCache cache = this.cache != null ? this.cache : ResponseCache.getInstance();
+        long start = System.nanoTime();
+
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            cache.invalidate(requestSpec.getURI());
+            return response;
+        }
+
+        String key = ResponseCache.keyFor(requestSpec);
+        ResponseCache.CachedResponse cached = cache.lookup(key);
+        if (cached != null && cached.isFresh()) {
+            cache.recordHit();
+            return timed(ctx, cached.toResponse(ResponseCache.HIT), start);
+        }
+
+        if (cached != null) {
+            // Expired entry with an ETag: ask the API whether it is still current
+            requestSpec.header("If-None-Match", cached.etag());
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (response.getStatusCode() == HTTP_NOT_MODIFIED) {
+                return timed(ctx, cache.revalidated(key, cached).toResponse(ResponseCache.REVALIDATED), start);
+            }
+            cache.recordMiss();
+            cache.store(key, response);
+            return response;
+        }
+
+        cache.recordMiss();
+        Response response = ctx.next(requestSpec, responseSpec);
+        cache.store(key, response);
+        return response;
+    }
+
+    private static Response timed(FilterContext ctx, Response response, long startNanos) {
+        ResponseTimes.record(ctx, response, (System.nanoTime() - startNanos) / 1_000_000);
+        return response;
+    }
+}
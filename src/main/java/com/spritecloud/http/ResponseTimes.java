@@ -0,0 +1,55 @@
+package com.spritecloud.http;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.response.Response;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Response times of responses that filters build themselves instead of receiving them from
+ * RestAssured's HTTP client, such as HTTP/2 exchanges and cache hits.
+ *
+ * <p>Design Decision: RestAssured only attaches the time measured by its {@link TimingFilter} to
+ * responses from its own client, so a response made with {@code ResponseBuilder} reports
+ * {@code getTime() == -1}. Filters that build responses record their measured time here and in the
+ * filter context, and readers use {@link #of(Response)}, which falls back to this registry. Entries
+ * are weakly keyed, so a response's time is dropped together with the response.
+ */
+public final class ResponseTimes {
+
+    private static final Map<Response, Long> BUILT = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ResponseTimes() {
+    }
+
+    /**
+     * Records the time of a response built by a filter.
+     *
+     * @param ctx filter context of the exchange, which receives the time under
+     *            {@link TimingFilter#RESPONSE_TIME_MILLISECONDS} for later filters
+     * @param response the built response
+     * @param timeMs time the filter took to produce the response, in milliseconds
+     */
+    static void record(FilterContext ctx, Response response, long timeMs) {
+        ctx.setValue(TimingFilter.RESPONSE_TIME_MILLISECONDS, timeMs);
+        BUILT.put(response, timeMs);
+    }
+
+    /**
+     * Gets the response time of any response, whether it came from RestAssured's client or a filter.
+     *
+     * @param response API response
+     * @return response time in milliseconds, or -1 if it was not measured
+     */
+    public static long of(Response response) {
+        long time = response.getTime();
+        if (time >= 0) {
+            return time;
+        }
+        Long built = BUILT.get(response);
+        return built != null ? built : -1;
+    }
+}
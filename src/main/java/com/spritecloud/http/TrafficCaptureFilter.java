@@ -0,0 +1,61 @@
+package com.spritecloud.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that records each exchange into the {@link TrafficLog} bound to the
+ * calling thread. When no log is bound the filter only forwards the request. Exchanges of hedged
+ * attempts are recorded through {@link HedgingPolicy#recordIfUsed(Runnable)}, so only the attempt
+ * whose response the caller got is logged.
+ *
+ * <p>For streamed responses the filter is created with response body capture disabled:
+ * reading the body here would buffer it in full and defeat the streaming.
+ */
+public class TrafficCaptureFilter implements Filter {
+
+    private final boolean captureResponseBody;
+
+    /**
+     * Creates a filter that captures request and response bodies.
+     */
+    public TrafficCaptureFilter() {
+        this(true);
+    }
+
+    /**
+     * Creates a filter that optionally leaves the response body untouched.
+     *
+     * @param captureResponseBody false to record only the status line and headers of responses
+     */
+    public TrafficCaptureFilter(boolean captureResponseBody) {
+        this.captureResponseBody = captureResponseBody;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        // Cleared first so a cached response is not reported with the timings of an earlier request
+        RequestPhases.clear();
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        TrafficLog log = TrafficLog.current();
+        if (log != null) {
+            String method = requestSpec.getMethod();
+            String uri = requestSpec.getURI();
+            Headers requestHeaders = requestSpec.getHeaders();
+            Object requestBody = requestSpec.getBody();
+            byte[] responseBody = captureResponseBody ? response.asByteArray() : null;
+            long responseTime = ResponseTimes.of(response);
+            RequestPhases phases = RequestPhases.current();
+            HedgingPolicy.recordIfUsed(() -> log.record(method, uri, requestHeaders, requestBody,
+                    response.getStatusLine(), response.getHeaders(), responseBody, responseTime, phases));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,217 @@
+package com.spritecloud.http;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Bounded, in-memory log of the HTTP exchanges made during one scenario.
+ *
+ * <p>Design Decision: Logging every request and response with {@code LogDetail.ALL} serializes
+ * and writes every body synchronously, even for scenarios that pass. Instead, exchanges are
+ * captured by reference into this ring buffer and only rendered to text when a scenario fails.
+ * Once the configured byte cap is exceeded the oldest exchanges are dropped.
+ *
+ * <p>A log is bound to the scenario thread with {@link #begin(int)} and released with
+ * {@link #end()}; {@link TrafficCaptureFilter} records into whichever log is bound.
+ */
+public class TrafficLog {
+
+    private static final ThreadLocal<TrafficLog> CURRENT = new ThreadLocal<>();
+
+    private final int maxBytes;
+    private final Deque<Exchange> exchanges = new ArrayDeque<>();
+    private long capturedBytes;
+    private int droppedExchanges;
+
+    /**
+     * Creates a traffic log holding at most {@code maxBytes} of captured content.
+     *
+     * @param maxBytes byte cap for request and response content kept in memory
+     */
+    public TrafficLog(int maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+    }
+
+    /**
+     * Binds a new traffic log to the current thread.
+     *
+     * @param maxBytes byte cap for the scenario
+     * @return the bound traffic log
+     */
+    public static TrafficLog begin(int maxBytes) {
+        TrafficLog log = new TrafficLog(maxBytes);
+        CURRENT.set(log);
+        return log;
+    }
+
+    /**
+     * Gets the traffic log bound to the current thread.
+     *
+     * @return bound traffic log, or null if capture is not active
+     */
+    public static TrafficLog current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds an existing traffic log to the current thread, e.g. on a worker thread
+     * running an asynchronous call on behalf of a scenario.
+     *
+     * @param log traffic log to bind, or null to release the current binding
+     */
+    public static void bind(TrafficLog log) {
+        if (log == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(log);
+        }
+    }
+
+    /**
+     * Releases the traffic log bound to the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Records one request/response exchange. Bodies and headers are kept by reference;
+     * nothing is formatted until {@link #render()} is called.
+     */
+    synchronized void record(String method, String uri, Headers requestHeaders, Object requestBody,
+                             String statusLine, Headers responseHeaders, byte[] responseBody, long timeMs,
+                             RequestPhases phases) {
+        Exchange exchange = new Exchange(method, uri, requestHeaders, requestBody,
+                statusLine, responseHeaders, responseBody, timeMs, phases);
+        exchanges.addLast(exchange);
+        capturedBytes += exchange.sizeInBytes();
+
+        while (capturedBytes > maxBytes && exchanges.size() > 1) {
+            capturedBytes -= exchanges.removeFirst().sizeInBytes();
+            droppedExchanges++;
+        }
+    }
+
+    /**
+     * Gets the number of exchanges currently held.
+     *
+     * @return captured exchange count
+     */
+    public synchronized int size() {
+        return exchanges.size();
+    }
+
+    /**
+     * Renders all captured exchanges as text, oldest first.
+     * A single exchange larger than the byte cap has its bodies truncated.
+     *
+     * @return human-readable request/response log
+     */
+    public synchronized String render() {
+        StringBuilder text = new StringBuilder();
+        if (droppedExchanges > 0) {
+            text.append("... ").append(droppedExchanges)
+                    .append(" earlier exchange(s) dropped (capture limit ").append(maxBytes).append(" bytes)\n\n");
+        }
+        int bodyLimit = Math.max(0, maxBytes / 2);
+        for (Exchange exchange : exchanges) {
+            exchange.appendTo(text, bodyLimit);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Renders one line per captured exchange with its total time and phase timings,
+     * showing whether time went into connection setup or into waiting for the server.
+     *
+     * @return request timing table, oldest first
+     */
+    public synchronized String renderTimings() {
+        StringBuilder text = new StringBuilder();
+        if (droppedExchanges > 0) {
+            text.append("... ").append(droppedExchanges).append(" earlier exchange(s) dropped\n");
+        }
+        for (Exchange exchange : exchanges) {
+            text.append(exchange.method()).append(' ').append(exchange.uri()).append(" -> ")
+                    .append(exchange.statusLine()).append(" in ").append(exchange.timeMs()).append(" ms");
+            if (exchange.phases() != null) {
+                text.append(" (").append(exchange.phases()).append(')');
+            } else {
+                text.append(" (served from cache)");
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    private record Exchange(String method, String uri, Headers requestHeaders, Object requestBody,
+                            String statusLine, Headers responseHeaders, byte[] responseBody, long timeMs,
+                            RequestPhases phases) {
+
+        long sizeInBytes() {
+            return uri.length() + headerBytes(requestHeaders) + requestBodyBytes()
+                    + headerBytes(responseHeaders) + (responseBody == null ? 0 : responseBody.length);
+        }
+
+        private long requestBodyBytes() {
+            if (requestBody instanceof byte[] bytes) {
+                return bytes.length;
+            }
+            return requestBody instanceof String body ? body.length() : 0;
+        }
+
+        private static long headerBytes(Headers headers) {
+            long bytes = 0;
+            if (headers != null) {
+                for (Header header : headers) {
+                    bytes += header.getName().length() + header.getValue().length();
+                }
+            }
+            return bytes;
+        }
+
+        void appendTo(StringBuilder text, int bodyLimit) {
+            text.append(">>> ").append(method).append(' ').append(uri).append('\n');
+            appendHeaders(text, requestHeaders);
+            if (requestBody != null) {
+                String body = requestBody instanceof byte[] bytes
+                        ? new String(bytes, StandardCharsets.UTF_8)
+                        : String.valueOf(requestBody);
+                appendBody(text, body, bodyLimit);
+            }
+            text.append("<<< ").append(statusLine).append(" (").append(timeMs).append(" ms");
+            if (phases != null) {
+                text.append(": ").append(phases);
+            }
+            text.append(")\n");
+            appendHeaders(text, responseHeaders);
+            if (responseBody == null) {
+                text.append("    [body streamed, not captured]\n");
+            } else if (responseBody.length > 0) {
+                appendBody(text, new String(responseBody, StandardCharsets.UTF_8), bodyLimit);
+            }
+            text.append('\n');
+        }
+
+        private static void appendHeaders(StringBuilder text, Headers headers) {
+            if (headers != null) {
+                for (Header header : headers) {
+                    text.append("    ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+                }
+            }
+        }
+
+        private static void appendBody(StringBuilder text, String body, int bodyLimit) {
+            if (body.length() > bodyLimit) {
+                text.append(body, 0, bodyLimit)
+                        .append("... [truncated ").append(body.length() - bodyLimit).append(" chars]\n");
+            } else {
+                text.append(body).append('\n');
+            }
+        }
+    }
+}
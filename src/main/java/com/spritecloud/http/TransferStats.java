@@ -0,0 +1,95 @@
+package com.spritecloud.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide response byte counters, kept per negotiated protocol (e.g. HTTP/1.1, HTTP/2).
+ *
+ * <p>Design Decision: Both transports decode gzip/deflate bodies themselves instead of leaving it
+ * to RestAssured, so the bytes received on the wire and the bytes after decoding can be counted
+ * for every response. Each response is also logged at debug level with its own counts; the
+ * totals quantify how much bandwidth compression saves across a run.
+ */
+public final class TransferStats {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferStats.class);
+
+    private static final Map<String, Counters> BY_PROTOCOL = new ConcurrentHashMap<>();
+
+    private TransferStats() {
+    }
+
+    /**
+     * Records the body transfer of one response.
+     *
+     * @param protocol negotiated protocol, e.g. "HTTP/1.1" or "HTTP/2"
+     * @param request request line the response belongs to, used for debug logging
+     * @param contentEncoding Content-Encoding of the body, null for identity
+     * @param wireBytes body bytes received on the wire
+     * @param decodedBytes body bytes after decoding
+     */
+    static void record(String protocol, String request, String contentEncoding, long wireBytes, long decodedBytes) {
+        Counters counters = BY_PROTOCOL.computeIfAbsent(protocol, key -> new Counters());
+        counters.responses.incrementAndGet();
+        counters.wireBytes.addAndGet(wireBytes);
+        counters.decodedBytes.addAndGet(decodedBytes);
+        if (contentEncoding != null) {
+            counters.compressedResponses.incrementAndGet();
+        }
+        logger.debug("{} {}: {} bytes on wire, {} bytes decoded ({})", protocol, request, wireBytes, decodedBytes,
+                contentEncoding == null ? "identity" : contentEncoding);
+    }
+
+    /**
+     * Gets a snapshot of the counters per protocol.
+     *
+     * @return statistics keyed by protocol, sorted by name
+     */
+    public static Map<String, Stats> getStats() {
+        Map<String, Stats> stats = new TreeMap<>();
+        BY_PROTOCOL.forEach((protocol, counters) -> stats.put(protocol, new Stats(counters.responses.get(),
+                counters.compressedResponses.get(), counters.wireBytes.get(), counters.decodedBytes.get())));
+        return stats;
+    }
+
+    /**
+     * Logs the counters per protocol. Does nothing if no response was recorded.
+     */
+    public static void logStats() {
+        getStats().forEach((protocol, stats) -> logger.info(
+                "HTTP transfer ({}) - responses: {}, compressed: {}, wire: {} KB, decoded: {} KB, saved: {}%",
+                protocol, stats.responses(), stats.compressedResponses(), stats.wireBytes() / 1024,
+                stats.decodedBytes() / 1024, Math.round(stats.savedRatio() * 100)));
+    }
+
+    /**
+     * Transfer counters for one protocol.
+     *
+     * @param responses responses with a body
+     * @param compressedResponses responses received gzip or deflate encoded
+     * @param wireBytes body bytes received on the wire
+     * @param decodedBytes body bytes after decoding
+     */
+    public record Stats(long responses, long compressedResponses, long wireBytes, long decodedBytes) {
+
+        /**
+         * @return fraction of decoded bytes that did not have to cross the wire
+         */
+        public double savedRatio() {
+            return decodedBytes == 0 ? 0.0 : 1.0 - (double) wireBytes / decodedBytes;
+        }
+    }
+
+    private static final class Counters {
+        private final AtomicLong responses = new AtomicLong();
+        private final AtomicLong compressedResponses = new AtomicLong();
+        private final AtomicLong wireBytes = new AtomicLong();
+        private final AtomicLong decodedBytes = new AtomicLong();
+    }
+}
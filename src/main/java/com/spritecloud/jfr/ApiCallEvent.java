@@ -0,0 +1,64 @@
+package com.spritecloud.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one API call sent through the service layer.
+ */
+@Name("com.spritecloud.ApiCall")
+@Label("API Call")
+@Category({"Test Automation", "API"})
+@Description("HTTP request sent by an API service, from the first filter until the response was read")
+public class ApiCallEvent extends Event {
+
+    @Label("Method")
+    private String method;
+
+    @Label("Endpoint")
+    @Description("Endpoint template, e.g. GET /products/{id}")
+    private String endpoint;
+
+    @Label("URI")
+    private String uri;
+
+    @Label("Status Code")
+    private int statusCode;
+
+    @Label("Response Bytes")
+    @Description("Decoded response body size, -1 if unknown")
+    @DataAmount
+    private long responseBytes;
+
+    @Label("New Connection")
+    @Description("Whether the call opened a new connection instead of reusing a pooled one")
+    private boolean newConnection;
+
+    /**
+     * Ends the event and commits it if a recording is interested in it.
+     *
+     * @param method HTTP method
+     * @param endpoint normalized endpoint template
+     * @param uri full request URI
+     * @param statusCode HTTP status code
+     * @param responseBytes decoded response body size, -1 if unknown
+     * @param newConnection true if the call opened a new connection
+     */
+    public void finish(String method, String endpoint, String uri, int statusCode, long responseBytes,
+                       boolean newConnection) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.uri = uri;
+            this.statusCode = statusCode;
+            this.responseBytes = responseBytes;
+            this.newConnection = newConnection;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.spritecloud.jfr;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that emits a Flight Recorder event for every scenario and every step or hook,
+ * so a recording shows API calls and page actions nested inside the steps that caused them.
+ *
+ * <p>Design Decision: Cucumber publishes the started and finished events on the thread that runs
+ * the scenario, so each event is begun and committed on that thread and lines up with the
+ * thread's other JFR events. In-flight events are keyed by test case and step ID, which keeps
+ * parallel scenarios apart. When no recording is active the events are disabled and cost only
+ * a map entry per step.
+ *
+ * <p>Usage: register {@code com.spritecloud.jfr.FlightRecorderPlugin} as a Cucumber plugin and start
+ * the JVM with {@code -XX:StartFlightRecording}, e.g. through the {@code jfr} Maven profile.
+ */
+public class FlightRecorderPlugin implements ConcurrentEventListener {
+
+    private final Map<UUID, ScenarioEvent> scenarios = new ConcurrentHashMap<>();
+    private final Map<UUID, StepEvent> steps = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onScenarioStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+    }
+
+    private void onScenarioStarted(TestCaseStarted event) {
+        ScenarioEvent scenario = new ScenarioEvent();
+        scenario.begin();
+        scenarios.put(event.getTestCase().getId(), scenario);
+    }
+
+    private void onStepStarted(TestStepStarted event) {
+        StepEvent step = new StepEvent();
+        step.begin();
+        steps.put(event.getTestStep().getId(), step);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        StepEvent step = steps.remove(event.getTestStep().getId());
+        if (step != null) {
+            step.finish(event.getTestCase().getName(), describe(event.getTestStep()),
+                    event.getResult().getStatus().name());
+        }
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        ScenarioEvent scenario = scenarios.remove(testCase.getId());
+        if (scenario != null) {
+            scenario.finish(testCase.getUri().toString(), testCase.getName(), String.join(" ", testCase.getTags()),
+                    event.getResult().getStatus().name());
+        }
+    }
+
+    private static String describe(TestStep testStep) {
+        if (testStep instanceof PickleStepTestStep step) {
+            return step.getStep().getKeyword() + step.getStep().getText();
+        }
+        if (testStep instanceof HookTestStep hook) {
+            return hook.getHookType() + " " + hook.getCodeLocation();
+        }
+        return testStep.getCodeLocation();
+    }
+}
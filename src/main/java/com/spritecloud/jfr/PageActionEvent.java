@@ -0,0 +1,45 @@
+package com.spritecloud.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning one Playwright interaction of a page object.
+ */
+@Name("com.spritecloud.PageAction")
+@Label("Page Action")
+@Category({"Test Automation", "UI"})
+@Description("Page object interaction such as a click, fill or wait for an element")
+public class PageActionEvent extends Event {
+
+    @Label("Page")
+    @Description("Page object class that performed the action")
+    private String page;
+
+    @Label("Action")
+    private String action;
+
+    @Label("Selector")
+    @Description("CSS selector or URL the action targeted")
+    private String selector;
+
+    /**
+     * Ends the event and commits it if a recording is interested in it.
+     *
+     * @param page page object class name
+     * @param action action name, e.g. {@code click}
+     * @param selector CSS selector or URL the action targeted
+     */
+    public void finish(String page, String action, String selector) {
+        end();
+        if (shouldCommit()) {
+            this.page = page;
+            this.action = action;
+            this.selector = selector;
+            commit();
+        }
+    }
+}
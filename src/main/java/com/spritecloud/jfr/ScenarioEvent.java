@@ -0,0 +1,51 @@
+package com.spritecloud.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one Cucumber scenario, hooks included.
+ */
+@Name("com.spritecloud.Scenario")
+@Label("Scenario")
+@Category({"Test Automation", "Cucumber"})
+@Description("Cucumber scenario from test case started until test case finished")
+@StackTrace(false)
+public class ScenarioEvent extends Event {
+
+    @Label("Feature")
+    @Description("Feature file the scenario belongs to")
+    private String feature;
+
+    @Label("Scenario")
+    private String scenario;
+
+    @Label("Tags")
+    private String tags;
+
+    @Label("Status")
+    private String status;
+
+    /**
+     * Ends the event and commits it if a recording is interested in it.
+     *
+     * @param feature feature file URI
+     * @param scenario scenario name
+     * @param tags space separated scenario tags
+     * @param status final status, e.g. {@code PASSED}
+     */
+    public void finish(String feature, String scenario, String tags, String status) {
+        end();
+        if (shouldCommit()) {
+            this.feature = feature;
+            this.scenario = scenario;
+            this.tags = tags;
+            this.status = status;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.spritecloud.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one Cucumber step or hook.
+ */
+@Name("com.spritecloud.Step")
+@Label("Step")
+@Category({"Test Automation", "Cucumber"})
+@Description("Gherkin step or hook of a running scenario")
+@StackTrace(false)
+public class StepEvent extends Event {
+
+    @Label("Scenario")
+    private String scenario;
+
+    @Label("Step")
+    @Description("Step text with keyword, or the hook method")
+    private String step;
+
+    @Label("Status")
+    private String status;
+
+    /**
+     * Ends the event and commits it if a recording is interested in it.
+     *
+     * @param scenario name of the scenario the step belongs to
+     * @param step step text or hook method
+     * @param status step status, e.g. {@code PASSED}
+     */
+    public void finish(String scenario, String step, String status) {
+        end();
+        if (shouldCommit()) {
+            this.scenario = scenario;
+            this.step = step;
+            this.status = status;
+            commit();
+        }
+    }
+}
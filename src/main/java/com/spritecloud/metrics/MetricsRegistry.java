@@ -0,0 +1,253 @@
+package com.spritecloud.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide registry of run metrics (counters, gauges and timers), exported in the
+ * Prometheus text exposition format.
+ *
+ * <p>Design Decision: The framework only needs a handful of metric types and a text export,
+ * so the registry is a few classes on top of the JDK instead of a metrics library. Counters
+ * and timers are created on first use and looked up by name and label values on every call,
+ * which keeps call sites to one line; the lookup is a concurrent map read. Gauges and function
+ * counters read a value from the owning component when metrics are exported, so components
+ * that already keep their own statistics are exposed without double bookkeeping.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Counters, gauges and timers with label pairs, e.g. {@code "endpoint", "GET /products"}</li>
+ *   <li>Timers exported as summaries with p50/p90/p99, sum and count</li>
+ *   <li>Export to {@code metrics.prom} in the performance report directory</li>
+ *   <li>Optional scrape endpoint through {@link MetricsServer}</li>
+ * </ul>
+ */
+public final class MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static MetricsRegistry instance;
+
+    /** Report file written into the performance report directory */
+    public static final String REPORT_FILE = "metrics.prom";
+    private static final Pattern METRIC_NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL_NAME = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Gets the process-wide registry, creating it on first use.
+     *
+     * @return shared MetricsRegistry instance
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name metric name, by convention ending in {@code _total}
+     * @param help description shown in the export
+     * @param labels label names and values, alternating
+     * @return the counter for these label values
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return series(name, help, Type.COUNTER, labels, Counter::new, Counter.class);
+    }
+
+    /**
+     * Registers a counter whose value is kept by another component and read at export time.
+     * Registering the same name and labels again replaces the previous value source.
+     *
+     * @param name metric name, by convention ending in {@code _total}
+     * @param help description shown in the export
+     * @param value source of the current count
+     * @param labels label names and values, alternating
+     */
+    public void counter(String name, String help, DoubleSupplier value, String... labels) {
+        register(name, help, Type.COUNTER, labels, value);
+    }
+
+    /**
+     * Registers a gauge read at export time. Registering the same name and labels again
+     * replaces the previous value source.
+     *
+     * @param name metric name
+     * @param help description shown in the export
+     * @param value source of the current value
+     * @param labels label names and values, alternating
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        register(name, help, Type.GAUGE, labels, value);
+    }
+
+    /**
+     * Gets or creates a timer.
+     *
+     * @param name metric name, by convention ending in {@code _seconds}
+     * @param help description shown in the export
+     * @param labels label names and values, alternating
+     * @return the timer for these label values
+     */
+    public Timer timer(String name, String help, String... labels) {
+        return series(name, help, Type.SUMMARY, labels, Timer::new, Timer.class);
+    }
+
+    private <T> T series(String name, String help, Type type, String[] labels, Supplier<T> factory, Class<T> kind) {
+        Object series = family(name, help, type).series.computeIfAbsent(labelSet(labels), key -> factory.get());
+        if (!kind.isInstance(series)) {
+            throw new IllegalArgumentException("Metric " + name + " is registered with a value source");
+        }
+        return kind.cast(series);
+    }
+
+    private void register(String name, String help, Type type, String[] labels, DoubleSupplier value) {
+        family(name, help, type).series.put(labelSet(labels), value);
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.get(name);
+        if (family == null) {
+            if (!METRIC_NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid metric name: " + name);
+            }
+            family = families.computeIfAbsent(name, key -> new Family(help, type, new ConcurrentHashMap<>()));
+        }
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type.text);
+        }
+        return family;
+    }
+
+    private static String labelSet(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs, got " + labels.length + " values");
+        }
+        StringBuilder set = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (!LABEL_NAME.matcher(labels[i]).matches()) {
+                throw new IllegalArgumentException("Invalid label name: " + labels[i]);
+            }
+            if (set.length() > 0) {
+                set.append(',');
+            }
+            set.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+        }
+        return set.toString();
+    }
+
+    /**
+     * Renders all metrics in the Prometheus text exposition format (version 0.0.4),
+     * sorted by metric name and label values.
+     *
+     * @return the metrics as text
+     */
+    public String scrape() {
+        StringBuilder text = new StringBuilder();
+        new TreeMap<>(families).forEach((name, family) -> {
+            text.append("# HELP ").append(name).append(' ').append(escapeHelp(family.help)).append('\n');
+            text.append("# TYPE ").append(name).append(' ').append(family.type.text).append('\n');
+            new TreeMap<>(family.series).forEach((labels, series) -> {
+                if (series instanceof Counter counter) {
+                    sample(text, name, labels, counter.get());
+                } else if (series instanceof Timer timer) {
+                    for (double quantile : QUANTILES) {
+                        String quantileLabel = "quantile=\"" + quantile + "\"";
+                        sample(text, name, labels.isEmpty() ? quantileLabel : labels + "," + quantileLabel,
+                                timer.getQuantileSeconds(quantile));
+                    }
+                    sample(text, name + "_sum", labels, timer.getSumSeconds());
+                    sample(text, name + "_count", labels, timer.getCount());
+                } else {
+                    sample(text, name, labels, ((DoubleSupplier) series).getAsDouble());
+                }
+            });
+        });
+        return text.toString();
+    }
+
+    /**
+     * Writes all metrics into {@code directory/metrics.prom}.
+     *
+     * @param directory report directory, created if missing
+     * @return path of the written file
+     */
+    public Path writeReport(Path directory) {
+        Path file = directory.resolve(REPORT_FILE);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(file, scrape(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write metrics to " + file, e);
+        }
+        logger.info("{} metrics written to {}", families.size(), file);
+        return file;
+    }
+
+    private static void sample(StringBuilder text, String name, String labels, double value) {
+        text.append(name);
+        if (!labels.isEmpty()) {
+            text.append('{').append(labels).append('}');
+        }
+        text.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escapeLabelValue(String value) {
+        return escapeHelp(String.valueOf(value)).replace("\"", "\\\"");
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        SUMMARY("summary");
+
+        private final String text;
+
+        Type(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * All series of one metric name, keyed by rendered label set. A series is a {@link Counter},
+     * a {@link Timer} or a {@link DoubleSupplier} read at export time.
+     */
+    private record Family(String help, Type type, Map<String, Object> series) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.spritecloud.metrics;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the {@link MetricsRegistry} at {@code http://localhost:<METRICS_PORT>/metrics}, so long
+ * load or soak runs can be scraped by Prometheus while they are going.
+ *
+ * <p>Design Decision: Uses the JDK's built-in HTTP server bound to the loopback address, which needs
+ * no extra dependency and is never reachable from outside the machine. A port that is already in use
+ * is logged and ignored: the metrics are still written to the report directory at the end of the run.
+ */
+public final class MetricsServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsServer.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    private MetricsServer() {
+    }
+
+    /**
+     * Starts the endpoint if {@code METRICS_PORT} is set and it is not running yet.
+     */
+    public static synchronized void startIfConfigured() {
+        int port = ConfigurationManager.getInstance().getMetricsPort();
+        if (port <= 0 || server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            logger.warn("Metrics endpoint not started on port {}: {}", port, e.getMessage());
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = MetricsRegistry.getInstance().scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        logger.info("Metrics served at http://localhost:{}/metrics", port);
+    }
+
+    /**
+     * Checks whether the endpoint is running.
+     *
+     * @return true if the endpoint was started and not stopped since
+     */
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Stops the endpoint if it is running.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+            logger.info("Metrics endpoint stopped");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.spritecloud.metrics;
+
+import com.spritecloud.perf.LatencyHistogram;
+
+/**
+ * Distribution of durations, exported as a Prometheus summary with p50, p90 and p99.
+ *
+ * <p>Backed by a {@link LatencyHistogram}, so recording is lock-free and the quantiles
+ * have the same precision as the latency report.
+ */
+public final class Timer {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer() {
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+        histogram.record(nanos / 1_000);
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     *
+     * @param startNanos value of {@code System.nanoTime()} when the timed work started
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    /**
+     * @param quantile quantile between 0 and 1
+     * @return duration in seconds at the quantile
+     */
+    double getQuantileSeconds(double quantile) {
+        return histogram.getValueAtPercentile(quantile * 100) / 1e6;
+    }
+
+    /**
+     * @return sum of all recorded durations in seconds
+     */
+    double getSumSeconds() {
+        return histogram.getMeanMicros() * histogram.getCount() / 1e6;
+    }
+}
@@ -2,6 +2,8 @@ package com.spritecloud.pages;
 
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import com.spritecloud.jfr.PageActionEvent;
+import com.spritecloud.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,6 +16,7 @@ import org.slf4j.LoggerFactory;
  *   <li>Consistent logging for debugging and traceability</li>
  *   <li>Default timeout configuration</li>
  *   <li>Safe element visibility checks with exception handling</li>
+ *   <li>Flight Recorder events and run metrics for waits, clicks, fills and navigation</li>
  * </ul>
  */
 public abstract class BasePage {
@@ -38,9 +41,9 @@ public abstract class BasePage {
      * @throws com.microsoft.playwright.TimeoutError if element doesn't become visible within timeout
      */
     protected void waitForElement(String selector) {
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+        recordAction("waitForElement", selector, () -> page.waitForSelector(selector, new Page.WaitForSelectorOptions()
                 .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(DEFAULT_TIMEOUT));
+                .setTimeout(DEFAULT_TIMEOUT)));
         logger.debug("Element visible: {}", selector);
     }
 
@@ -50,8 +53,10 @@ public abstract class BasePage {
      * @param selector the CSS selector of the element to click
      */
     protected void click(String selector) {
-        waitForElement(selector);
-        page.click(selector);
+        recordAction("click", selector, () -> {
+            waitForElement(selector);
+            page.click(selector);
+        });
         logger.debug("Clicked: {}", selector);
     }
 
@@ -62,8 +67,10 @@ public abstract class BasePage {
      * @param text the text to fill into the field
      */
     protected void fill(String selector, String text) {
-        waitForElement(selector);
-        page.fill(selector, text);
+        recordAction("fill", selector, () -> {
+            waitForElement(selector);
+            page.fill(selector, text);
+        });
         logger.debug("Filled '{}' into: {}", text, selector);
     }
 
@@ -107,7 +114,9 @@ public abstract class BasePage {
      * @param expectedPath the expected path to wait for (will be matched with wildcard prefix)
      */
     protected void waitForUrl(String expectedPath) {
-        page.waitForURL("**/" + expectedPath);
+        recordAction("waitForUrl", expectedPath, () -> {
+            page.waitForURL("**/" + expectedPath);
+        });
         logger.debug("URL changed to path: {}", expectedPath);
     }
 
@@ -137,7 +146,34 @@ public abstract class BasePage {
      * @param url the URL to navigate to
      */
     public void navigateTo(String url) {
-        page.navigate(url);
+        recordAction("navigate", url, () -> page.navigate(url));
         logger.info("Navigated to: {}", url);
     }
+
+    /**
+     * Runs a page interaction inside a Flight Recorder {@link PageActionEvent} and records its
+     * duration, and any failure, as run metrics.
+     *
+     * @param action action name shown in the recording
+     * @param selector CSS selector or URL the action targets
+     * @param interaction the Playwright interaction
+     */
+    private void recordAction(String action, String selector, Runnable interaction) {
+        String pageName = getClass().getSimpleName();
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            interaction.run();
+        } catch (RuntimeException e) {
+            metrics.counter("ui_action_failures_total", "Page actions that threw, e.g. on a timeout",
+                    "page", pageName, "action", action).increment();
+            throw e;
+        } finally {
+            metrics.timer("ui_action_duration_seconds", "Page action duration", "page", pageName, "action", action)
+                    .recordSince(start);
+            event.finish(pageName, action, selector);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.spritecloud.perf;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, log-linear latency histogram in the style of HdrHistogram.
+ *
+ * <p>Design Decision: Values (microseconds) below 128 get their own bucket; above that each
+ * power-of-two range is split into 64 linear sub-buckets, which bounds the relative error of any
+ * reported percentile to about 1.6% while the whole range up to one hour fits in 1,792 counters.
+ * Recording is a single uncontended atomic increment, so one histogram per recording thread is
+ * cheap, and histograms can be merged or read at any time without locks.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    /** Largest recordable value: one hour in microseconds; larger values are clamped */
+    private static final long MAX_VALUE_MICROS = 3_600_000_000L;
+    private static final int BUCKET_COUNT = indexFor(MAX_VALUE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param micros latency in microseconds; negative values are recorded as 0
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(0, micros), MAX_VALUE_MICROS);
+        counts.incrementAndGet(indexFor(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds all samples of another histogram to this one.
+     *
+     * @param other histogram to merge in
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    /**
+     * Creates a histogram of the samples recorded in this one since an earlier copy was taken,
+     * e.g. to report one suite of a run that shares the process with others.
+     *
+     * @param earlier histogram holding a prefix of this one's samples
+     * @return samples recorded since {@code earlier}; the maximum is this histogram's, as it cannot be undone
+     */
+    public LatencyHistogram since(LatencyHistogram earlier) {
+        LatencyHistogram delta = new LatencyHistogram();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            delta.counts.set(i, Math.max(0, counts.get(i) - earlier.counts.get(i)));
+        }
+        delta.totalCount.set(Math.max(0, totalCount.get() - earlier.totalCount.get()));
+        delta.totalMicros.set(Math.max(0, totalMicros.get() - earlier.totalMicros.get()));
+        delta.maxMicros.set(delta.totalCount.get() == 0 ? 0 : maxMicros.get());
+        return delta;
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * @return mean latency in microseconds, 0 if empty
+     */
+    public double getMeanMicros() {
+        long count = totalCount.get();
+        return count == 0 ? 0.0 : (double) totalMicros.get() / count;
+    }
+
+    /**
+     * Gets the latency at or below which the given percentage of samples fall.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in microseconds (upper edge of the matching bucket, capped at the max), 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueFor(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    private static int indexFor(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF + (int) (value >> shift);
+    }
+
+    private static long highestValueFor(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,213 @@
+package com.spritecloud.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide latency recorder fed by every API call, keyed by endpoint and status code.
+ *
+ * <p>Design Decision: Histograms are striped by recording thread over a fixed number of maps, one
+ * per available processor, so the hot path is a map lookup and a mostly uncontended atomic
+ * increment; no lock is taken while scenarios run in parallel. Unlike per-thread histograms, the
+ * stripes stay bounded however many short-lived threads (async executors, load runner users)
+ * record. They are only merged when a snapshot or the report is requested, typically once at the
+ * end of the run.
+ */
+public final class LatencyRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyRecorder.class);
+
+    /** Report file written into the performance report directory */
+    public static final String REPORT_FILE = "latency.json";
+    /** Request phases reported per endpoint, in request order */
+    public static final List<String> PHASES = List.of("dns", "connect", "tls", "ttfb", "download");
+
+    /** Processor count rounded up to a power of two, so a thread id maps to its stripe with a mask */
+    private static final int STRIPE_COUNT =
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+    private static final List<Map<Key, Timings>> STRIPES = new ArrayList<>(STRIPE_COUNT);
+
+    static {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            STRIPES.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    private LatencyRecorder() {
+    }
+
+    /**
+     * Records the latency of one API call on the calling thread's stripe of histograms.
+     *
+     * @param endpoint normalized endpoint, e.g. {@code GET /products/{id}}
+     * @param statusCode HTTP status code of the response
+     * @param nanos latency in nanoseconds
+     * @param phasesMillis duration of each of the {@link #PHASES} in milliseconds; missing phases count as 0
+     * @param newConnection true if the call opened a new connection instead of reusing a pooled one
+     */
+    public static void record(String endpoint, int statusCode, long nanos, Map<String, Double> phasesMillis,
+                              boolean newConnection) {
+        STRIPES.get((int) Thread.currentThread().getId() & (STRIPE_COUNT - 1))
+                .computeIfAbsent(new Key(endpoint, statusCode), key -> new Timings())
+                .record(nanos, phasesMillis, newConnection);
+    }
+
+    /**
+     * Merges all striped histograms.
+     *
+     * @return merged histogram per endpoint and status code, sorted by endpoint then status
+     */
+    public static Map<String, Map<Integer, LatencyHistogram>> snapshot() {
+        Map<String, Map<Integer, LatencyHistogram>> merged = new TreeMap<>();
+        mergedTimings().forEach((endpoint, byStatus) -> byStatus.forEach((status, timings) ->
+                merged.computeIfAbsent(endpoint, key -> new TreeMap<>()).put(status, timings.total)));
+        return merged;
+    }
+
+    private static Map<String, Map<Integer, Timings>> mergedTimings() {
+        Map<String, Map<Integer, Timings>> merged = new TreeMap<>();
+        for (Map<Key, Timings> stripe : STRIPES) {
+            stripe.forEach((key, timings) -> merged
+                    .computeIfAbsent(key.endpoint(), endpoint -> new TreeMap<>())
+                    .computeIfAbsent(key.statusCode(), status -> new Timings())
+                    .add(timings));
+        }
+        return merged;
+    }
+
+    /**
+     * Checks whether any latency has been recorded.
+     *
+     * @return true if at least one call was recorded
+     */
+    public static boolean hasSamples() {
+        return STRIPES.stream().anyMatch(stripe -> !stripe.isEmpty());
+    }
+
+    /**
+     * Writes p50/p90/p99/max, mean and counts per endpoint, overall and per status code,
+     * as JSON into {@code directory/latency.json}. Each endpoint also lists the p50/p90/mean of
+     * every request phase and how many calls had to open a new connection.
+     *
+     * @param directory report directory, created if missing
+     * @return path of the written report
+     */
+    public static Path writeReport(Path directory) {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        mergedTimings().forEach((endpoint, byStatus) -> {
+            Timings overall = new Timings();
+            Map<String, Object> statusCodes = new LinkedHashMap<>();
+            byStatus.forEach((status, timings) -> {
+                overall.add(timings);
+                statusCodes.put(String.valueOf(status), summarize(timings.total));
+            });
+            Map<String, Object> phases = new LinkedHashMap<>();
+            for (int i = 0; i < PHASES.size(); i++) {
+                phases.put(PHASES.get(i), summarizePhase(overall.phases[i]));
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("endpoint", endpoint);
+            entry.putAll(summarize(overall.total));
+            entry.put("newConnections", overall.newConnections.get());
+            entry.put("phases", phases);
+            entry.put("statusCodes", statusCodes);
+            endpoints.add(entry);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("unit", "ms");
+        report.put("endpoints", endpoints);
+
+        Path file = directory.resolve(REPORT_FILE);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                gson.toJson(report, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write latency report to " + file, e);
+        }
+        logger.info("Latency report for {} endpoints written to {}", endpoints.size(), file);
+        return file;
+    }
+
+    private static Map<String, Object> summarize(LatencyHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getCount());
+        summary.put("p50", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p90", millis(histogram.getValueAtPercentile(90)));
+        summary.put("p99", millis(histogram.getValueAtPercentile(99)));
+        summary.put("max", millis(histogram.getMaxMicros()));
+        summary.put("mean", Math.round(histogram.getMeanMicros()) / 1000.0);
+        return summary;
+    }
+
+    private static Map<String, Object> summarizePhase(LatencyHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("p50", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p90", millis(histogram.getValueAtPercentile(90)));
+        summary.put("mean", Math.round(histogram.getMeanMicros()) / 1000.0);
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private record Key(String endpoint, int statusCode) {
+    }
+
+    /**
+     * Total latency, per-phase latencies and new connection count of one endpoint and status code.
+     */
+    private static class Timings {
+
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram[] phases = new LatencyHistogram[PHASES.size()];
+        private final AtomicLong newConnections = new AtomicLong();
+
+        Timings() {
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        void record(long nanos, Map<String, Double> phasesMillis, boolean newConnection) {
+            total.record(nanos / 1_000);
+            for (int i = 0; i < phases.length; i++) {
+                phases[i].record(Math.round(phasesMillis.getOrDefault(PHASES.get(i), 0.0) * 1000));
+            }
+            if (newConnection) {
+                newConnections.incrementAndGet();
+            }
+        }
+
+        void add(Timings other) {
+            total.add(other.total);
+            for (int i = 0; i < phases.length; i++) {
+                phases[i].add(other.phases[i]);
+            }
+            newConnections.addAndGet(other.newConnections.get());
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.spritecloud.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Stores per-scenario durations and per-endpoint latency percentiles of a run and gates
+ * later runs against them.
+ *
+ * <p>Design Decision: The baseline is only written when none exists or when explicitly
+ * requested. Replacing it after every passing run would let performance creep up by just under
+ * the tolerance on each run without ever failing. Every run is still kept as
+ * {@code last-run.json}, so promoting it is a file copy. A metric only regresses when it is slower
+ * by more than its tolerance in percent and by at least a minimum number of milliseconds, so a
+ * 2 ms call taking 3 ms is not reported as 50% slower.
+ *
+ * <p>Each suite is gated on its own: surefire runs several runners in one JVM, with different tags
+ * and parallelism, so their metrics are not comparable. {@link PerformanceSuitePlugin} calls
+ * {@link #beginSuite(String)} when a runner starts, which names the suite and limits the snapshot to
+ * what that suite records. Baselines are stored per suite and per target API, see
+ * {@link #baselineDirectory(Path, String)}, so mock and real API runs never share one.
+ *
+ * <p>Comparisons are also written as a JUnit XML report with one test case per metric, so CI
+ * servers list each regression as a failed test.
+ */
+public final class PerformanceBaseline {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceBaseline.class);
+
+    /** Stored baseline in the baseline directory */
+    public static final String BASELINE_FILE = "baseline.json";
+    /** Metrics of the most recent run in the baseline directory */
+    public static final String LAST_RUN_FILE = "last-run.json";
+    /** Suite name used when no runner named one, e.g. for command line runs */
+    public static final String DEFAULT_SUITE = "default";
+    /** JUnit XML report written into the performance report directory, followed by the suite name */
+    public static final String JUNIT_REPORT_PREFIX = "TEST-performance-baseline-";
+
+    private static final String[] ENDPOINT_PERCENTILES = {"p50", "p90"};
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static volatile String suite = DEFAULT_SUITE;
+    private static volatile Map<String, Map<Integer, LatencyHistogram>> latenciesAtSuiteStart = Map.of();
+
+    private PerformanceBaseline() {
+    }
+
+    /**
+     * Starts a new suite: later snapshots only hold the scenarios and endpoint latencies recorded from now on.
+     *
+     * @param name suite name, e.g. the runner's report directory name
+     */
+    public static synchronized void beginSuite(String name) {
+        suite = name == null || name.isBlank() ? DEFAULT_SUITE : name;
+        ScenarioTimings.reset();
+        latenciesAtSuiteStart = LatencyRecorder.snapshot();
+    }
+
+    /**
+     * @return name of the current suite
+     */
+    public static String currentSuite() {
+        return suite;
+    }
+
+    /**
+     * Resolves the directory holding the baseline of the current suite against a target API.
+     *
+     * @param root configured baseline directory
+     * @param target target the suite ran against, e.g. {@code mock} or the API base URL
+     * @return {@code root/<suite>/<target>}, with both names reduced to file-name-safe characters
+     */
+    public static Path baselineDirectory(Path root, String target) {
+        return root.resolve(fileName(suite)).resolve(fileName(target.replaceFirst("^[a-zA-Z]+://", "")));
+    }
+
+    /**
+     * Metrics of one run, in milliseconds.
+     *
+     * @param recordedAt when the run finished
+     * @param scenarios mean duration per scenario
+     * @param endpoints latency percentiles per endpoint, e.g. {@code {"p50": 12.3, "p90": 40.1}}
+     */
+    public record Snapshot(String recordedAt, Map<String, Double> scenarios, Map<String, Map<String, Double>> endpoints) {
+    }
+
+    /**
+     * Allowed slowdown before a metric counts as a regression.
+     *
+     * @param scenarioPercent tolerance for scenario durations, in percent
+     * @param endpointPercent tolerance for endpoint percentiles, in percent
+     * @param minDeltaMs smallest slowdown that can count as a regression
+     */
+    public record Tolerances(double scenarioPercent, double endpointPercent, double minDeltaMs) {
+    }
+
+    /**
+     * One metric compared with its baseline.
+     *
+     * @param metric metric name, e.g. {@code endpoint GET /products/{id} p90}
+     * @param baselineMs baseline value
+     * @param currentMs value of this run
+     * @param limitMs largest value that does not count as a regression
+     */
+    public record Comparison(String metric, double baselineMs, double currentMs, double limitMs) {
+
+        public boolean isRegression() {
+            return currentMs > limitMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.1f ms (baseline %.1f ms, limit %.1f ms, %+.1f%%)", metric, currentMs,
+                    baselineMs, limitMs, baselineMs == 0 ? 0.0 : 100.0 * (currentMs - baselineMs) / baselineMs);
+        }
+    }
+
+    /**
+     * Captures the metrics recorded in {@link ScenarioTimings} and {@link LatencyRecorder}
+     * since the current suite began.
+     *
+     * @return snapshot of this run
+     */
+    public static Snapshot capture() {
+        Map<String, Double> scenarios = new TreeMap<>();
+        ScenarioTimings.snapshot().forEach((scenario, histogram) ->
+                scenarios.put(scenario, round(histogram.getMeanMicros() / 1000.0)));
+
+        Map<String, Map<String, Double>> endpoints = new TreeMap<>();
+        Map<String, Map<Integer, LatencyHistogram>> atSuiteStart = latenciesAtSuiteStart;
+        LatencyRecorder.snapshot().forEach((endpoint, byStatus) -> {
+            Map<Integer, LatencyHistogram> earlier = atSuiteStart.getOrDefault(endpoint, Map.of());
+            LatencyHistogram overall = new LatencyHistogram();
+            byStatus.forEach((status, histogram) ->
+                    overall.add(earlier.containsKey(status) ? histogram.since(earlier.get(status)) : histogram));
+            if (overall.getCount() == 0) {
+                return;
+            }
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            percentiles.put("p50", overall.getValueAtPercentile(50) / 1000.0);
+            percentiles.put("p90", overall.getValueAtPercentile(90) / 1000.0);
+            endpoints.put(endpoint, percentiles);
+        });
+        return new Snapshot(Instant.now().toString(), scenarios, endpoints);
+    }
+
+    /**
+     * Compares this run with the baseline in {@code baselineDir}, writes the JUnit XML report and
+     * stores this run as the last run, and as the baseline if none exists or {@code updateBaseline} is set.
+     *
+     * @param current metrics of this run
+     * @param baselineDir directory holding the baseline, created if missing
+     * @param reportDir directory the JUnit XML report is written to
+     * @param tolerances allowed slowdowns
+     * @param updateBaseline true to replace an existing baseline with this run
+     * @return all comparisons; empty when there was no baseline yet
+     */
+    public static List<Comparison> evaluate(Snapshot current, Path baselineDir, Path reportDir,
+                                            Tolerances tolerances, boolean updateBaseline) {
+        Path baselineFile = baselineDir.resolve(BASELINE_FILE);
+        Optional<Snapshot> baseline = read(baselineFile);
+        List<Comparison> comparisons = baseline.map(stored -> compare(stored, current, tolerances)).orElse(List.of());
+
+        write(current, baselineDir.resolve(LAST_RUN_FILE));
+        if (baseline.isEmpty() || updateBaseline) {
+            write(current, baselineFile);
+            logger.info("Performance baseline {} {}", baseline.isEmpty() ? "created at" : "updated at", baselineFile);
+        }
+        if (baseline.isPresent()) {
+            writeJUnitReport(comparisons, reportDir);
+            long regressions = comparisons.stream().filter(Comparison::isRegression).count();
+            logger.info("Compared {} metrics with baseline from {}: {} regressions",
+                    comparisons.size(), baseline.get().recordedAt(), regressions);
+        }
+        return comparisons;
+    }
+
+    /**
+     * Compares every metric present in both snapshots.
+     *
+     * @param baseline stored baseline
+     * @param current metrics of this run
+     * @param tolerances allowed slowdowns
+     * @return comparisons, scenarios first, then endpoints
+     */
+    public static List<Comparison> compare(Snapshot baseline, Snapshot current, Tolerances tolerances) {
+        List<Comparison> comparisons = new ArrayList<>();
+        current.scenarios().forEach((scenario, duration) -> {
+            Double stored = baseline.scenarios().get(scenario);
+            if (stored != null) {
+                comparisons.add(comparison("scenario " + scenario, stored, duration,
+                        tolerances.scenarioPercent(), tolerances.minDeltaMs()));
+            }
+        });
+        current.endpoints().forEach((endpoint, percentiles) -> {
+            Map<String, Double> stored = baseline.endpoints().get(endpoint);
+            if (stored == null) {
+                return;
+            }
+            for (String percentile : ENDPOINT_PERCENTILES) {
+                if (stored.containsKey(percentile) && percentiles.containsKey(percentile)) {
+                    comparisons.add(comparison("endpoint " + endpoint + " " + percentile, stored.get(percentile),
+                            percentiles.get(percentile), tolerances.endpointPercent(), tolerances.minDeltaMs()));
+                }
+            }
+        });
+        return comparisons;
+    }
+
+    private static Comparison comparison(String metric, double baseline, double current,
+                                         double tolerancePercent, double minDeltaMs) {
+        double limit = Math.max(baseline * (1 + tolerancePercent / 100.0), baseline + minDeltaMs);
+        return new Comparison(metric, baseline, current, round(limit));
+    }
+
+    /**
+     * Reads a stored snapshot.
+     *
+     * @param file snapshot file
+     * @return the snapshot, or empty if the file does not exist
+     */
+    public static Optional<Snapshot> read(Path file) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(GSON.fromJson(reader, Snapshot.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read performance baseline " + file, e);
+        }
+    }
+
+    private static void write(Snapshot snapshot, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                GSON.toJson(snapshot, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write performance snapshot " + file, e);
+        }
+    }
+
+    private static void writeJUnitReport(List<Comparison> comparisons, Path directory) {
+        Path file = directory.resolve(JUNIT_REPORT_PREFIX + fileName(suite) + ".xml");
+        long failures = comparisons.stream().filter(Comparison::isRegression).count();
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+                xml.writeStartDocument("UTF-8", "1.0");
+                xml.writeStartElement("testsuite");
+                xml.writeAttribute("name", "performance-baseline-" + suite);
+                xml.writeAttribute("tests", String.valueOf(comparisons.size()));
+                xml.writeAttribute("failures", String.valueOf(failures));
+                xml.writeAttribute("errors", "0");
+                xml.writeAttribute("skipped", "0");
+                for (Comparison comparison : comparisons) {
+                    xml.writeStartElement("testcase");
+                    xml.writeAttribute("classname", "performance-baseline-" + suite);
+                    xml.writeAttribute("name", comparison.metric());
+                    xml.writeAttribute("time", String.valueOf(comparison.currentMs() / 1000.0));
+                    if (comparison.isRegression()) {
+                        xml.writeStartElement("failure");
+                        xml.writeAttribute("message", "Performance regression");
+                        xml.writeAttribute("type", "PerformanceRegression");
+                        xml.writeCharacters(comparison.toString());
+                        xml.writeEndElement();
+                    }
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+                xml.writeEndDocument();
+                xml.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write performance JUnit report " + file, e);
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write performance JUnit report " + file, e);
+        }
+    }
+
+    private static String fileName(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]+", "_");
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
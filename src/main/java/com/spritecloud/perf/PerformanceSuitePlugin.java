@@ -0,0 +1,32 @@
+package com.spritecloud.perf;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunStarted;
+
+/**
+ * Cucumber plugin that names the suite a runner executes, so its performance baseline is kept
+ * and gated apart from the other runners sharing the JVM.
+ *
+ * <p>Cucumber publishes {@code TestRunStarted} before any {@code @BeforeAll} hook or scenario runs,
+ * so {@link PerformanceBaseline#beginSuite(String)} scopes the recorded metrics to this runner.
+ *
+ * <p>Usage: register {@code com.spritecloud.perf.PerformanceSuitePlugin:<suite>} as a Cucumber plugin,
+ * e.g. {@code com.spritecloud.perf.PerformanceSuitePlugin:api}.
+ */
+public class PerformanceSuitePlugin implements ConcurrentEventListener {
+
+    private final String suite;
+
+    /**
+     * @param suite suite name, taken from the plugin argument
+     */
+    public PerformanceSuitePlugin(String suite) {
+        this.suite = suite;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> PerformanceBaseline.beginSuite(suite));
+    }
+}
@@ -0,0 +1,169 @@
+package com.spritecloud.perf;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Response times of a repeated request after warmup, with outliers separated from the kept samples.
+ *
+ * <p>Design Decision: Outliers are rejected with Tukey's fences on the interquartile range, which
+ * unlike a mean/standard-deviation cut is not itself dragged by the outliers it is meant to find.
+ * Rejected samples are never hidden: they are counted and listed in {@link #describe()}, so a
+ * failing assertion shows whether the tail was noise or the endpoint really is slow.
+ * Percentiles are exact (nearest rank over the sorted samples) since sample counts are small.
+ */
+public final class ResponseTimeDistribution {
+
+    private static final int HISTOGRAM_BINS = 10;
+    private static final int HISTOGRAM_WIDTH = 40;
+
+    private final String label;
+    private final double[] keptMillis;
+    private final double[] rejectedMillis;
+    private final int warmupCalls;
+    private final double outlierFence;
+    private final Map<Integer, Integer> statusCodes;
+
+    /**
+     * Splits raw samples into kept samples and outliers.
+     *
+     * @param label what was measured, e.g. {@code GET /products}
+     * @param samplesMillis measured response times in milliseconds, warmup excluded
+     * @param warmupCalls number of discarded warmup calls, for reporting
+     * @param outlierFence IQR multiplier for Tukey's fences; 0 or less keeps every sample
+     * @param statusCodes number of measured responses per status code
+     */
+    public ResponseTimeDistribution(String label, double[] samplesMillis, int warmupCalls, double outlierFence,
+                                    Map<Integer, Integer> statusCodes) {
+        if (samplesMillis.length == 0) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        this.label = label;
+        this.warmupCalls = warmupCalls;
+        this.outlierFence = outlierFence;
+        this.statusCodes = Collections.unmodifiableMap(new TreeMap<>(statusCodes));
+
+        double[] sorted = samplesMillis.clone();
+        Arrays.sort(sorted);
+        if (outlierFence > 0) {
+            double q1 = percentileOf(sorted, 25);
+            double q3 = percentileOf(sorted, 75);
+            double iqr = q3 - q1;
+            double low = q1 - outlierFence * iqr;
+            double high = q3 + outlierFence * iqr;
+            this.keptMillis = Arrays.stream(sorted).filter(v -> v >= low && v <= high).toArray();
+            this.rejectedMillis = Arrays.stream(sorted).filter(v -> v < low || v > high).toArray();
+        } else {
+            this.keptMillis = sorted;
+            this.rejectedMillis = new double[0];
+        }
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return number of samples kept after outlier rejection
+     */
+    public int getCount() {
+        return keptMillis.length;
+    }
+
+    /**
+     * @return rejected outliers in milliseconds, ascending
+     */
+    public double[] getRejectedMillis() {
+        return rejectedMillis.clone();
+    }
+
+    /**
+     * @return number of measured responses per status code
+     */
+    public Map<Integer, Integer> getStatusCodes() {
+        return statusCodes;
+    }
+
+    /**
+     * Gets the response time at or below which the given percentage of kept samples fall.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return response time in milliseconds
+     */
+    public double getPercentile(double percentile) {
+        return percentileOf(keptMillis, percentile);
+    }
+
+    public double getMinMillis() {
+        return keptMillis[0];
+    }
+
+    public double getMaxMillis() {
+        return keptMillis[keptMillis.length - 1];
+    }
+
+    public double getMeanMillis() {
+        return Arrays.stream(keptMillis).average().orElse(0);
+    }
+
+    public double getStdDevMillis() {
+        double mean = getMeanMillis();
+        return Math.sqrt(Arrays.stream(keptMillis).map(v -> (v - mean) * (v - mean)).average().orElse(0));
+    }
+
+    /**
+     * Renders the full distribution: summary statistics, percentiles, status codes,
+     * rejected outliers and a text histogram of the kept samples.
+     *
+     * @return multi-line description
+     */
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Response times of %s: %d samples kept, %d outliers rejected, %d warmup calls discarded%n",
+                label, keptMillis.length, rejectedMillis.length, warmupCalls));
+        out.append(String.format("  min %.1f ms | p50 %.1f | p90 %.1f | p95 %.1f | p99 %.1f | max %.1f ms%n",
+                getMinMillis(), getPercentile(50), getPercentile(90), getPercentile(95), getPercentile(99), getMaxMillis()));
+        out.append(String.format("  mean %.1f ms, std dev %.1f ms, status codes %s%n",
+                getMeanMillis(), getStdDevMillis(), statusCodes));
+        if (rejectedMillis.length > 0) {
+            out.append(String.format("  outliers beyond %.1f x IQR (ms): %s%n", outlierFence, formatMillis(rejectedMillis)));
+        }
+        appendHistogram(out);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    private void appendHistogram(StringBuilder out) {
+        double min = getMinMillis();
+        double width = (getMaxMillis() - min) / HISTOGRAM_BINS;
+        int[] bins = new int[width > 0 ? HISTOGRAM_BINS : 1];
+        for (double value : keptMillis) {
+            bins[width > 0 ? Math.min(HISTOGRAM_BINS - 1, (int) ((value - min) / width)) : 0]++;
+        }
+        int largest = Arrays.stream(bins).max().orElse(1);
+        for (int i = 0; i < bins.length; i++) {
+            int bar = (int) Math.round((double) bins[i] / largest * HISTOGRAM_WIDTH);
+            out.append(String.format("  %8.1f - %8.1f ms | %-" + HISTOGRAM_WIDTH + "s %d%n",
+                    min + i * width, min + (i + 1) * width, "#".repeat(bar), bins[i]));
+        }
+    }
+
+    private static String formatMillis(double[] values) {
+        StringBuilder out = new StringBuilder();
+        for (double value : values) {
+            out.append(out.length() == 0 ? "" : ", ").append(String.format("%.1f", value));
+        }
+        return out.toString();
+    }
+
+    private static double percentileOf(double[] sorted, double percentile) {
+        int rank = (int) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
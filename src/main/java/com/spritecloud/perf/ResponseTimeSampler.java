@@ -0,0 +1,69 @@
+package com.spritecloud.perf;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Repeats a request to measure its response-time distribution instead of trusting a single sample.
+ *
+ * <p>Design Decision: Calls run sequentially on the calling thread, so the measurement reflects
+ * the endpoint and not contention inside the test. The first calls are discarded as warmup
+ * (connection setup, JIT compilation, server-side caches). Each sample is wall-clock time until
+ * the response body has been fully read, so download time is included.
+ */
+public final class ResponseTimeSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseTimeSampler.class);
+
+    private final int warmupCalls;
+    private final double outlierFence;
+
+    /**
+     * @param warmupCalls calls made and discarded before measuring
+     * @param outlierFence IQR multiplier for outlier rejection; 0 or less keeps every sample
+     */
+    public ResponseTimeSampler(int warmupCalls, double outlierFence) {
+        if (warmupCalls < 0) {
+            throw new IllegalArgumentException("warmupCalls must not be negative, was " + warmupCalls);
+        }
+        this.warmupCalls = warmupCalls;
+        this.outlierFence = outlierFence;
+    }
+
+    /**
+     * Calls the request {@code warmupCalls + calls} times and measures the last {@code calls}.
+     *
+     * @param label what is measured, e.g. {@code GET /products}
+     * @param calls number of measured calls
+     * @param request request to repeat
+     * @return distribution of the measured calls
+     */
+    public ResponseTimeDistribution sample(String label, int calls, Supplier<Response> request) {
+        if (calls < 1) {
+            throw new IllegalArgumentException("calls must be at least 1, was " + calls);
+        }
+        for (int i = 0; i < warmupCalls; i++) {
+            request.get().asByteArray();
+        }
+
+        double[] samples = new double[calls];
+        Map<Integer, Integer> statusCodes = new HashMap<>();
+        for (int i = 0; i < calls; i++) {
+            long start = System.nanoTime();
+            Response response = request.get();
+            response.asByteArray();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+            statusCodes.merge(response.getStatusCode(), 1, Integer::sum);
+        }
+
+        ResponseTimeDistribution distribution =
+                new ResponseTimeDistribution(label, samples, warmupCalls, outlierFence, statusCodes);
+        logger.info("{}", distribution.describe());
+        return distribution;
+    }
+}
@@ -0,0 +1,164 @@
+package com.spritecloud.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide record of the heap allocation and CPU time of each scenario, fed by the scenario hooks.
+ * Scenarios that run more than once (e.g. outline examples sharing a name) share one entry.
+ *
+ * <p>A scenario can declare an allocation budget with a {@code @MaxAllocationMB:<megabytes>} tag;
+ * the hooks fail it when its thread allocated more than that. The budget covers only the thread
+ * running the scenario: work it hands to other threads, such as async and bulk fetches or hedged
+ * requests, is not metered, so a scenario relying on those can exceed its budget unnoticed.
+ */
+public final class ScenarioResources {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioResources.class);
+
+    /** Report file written into the performance report directory */
+    public static final String REPORT_FILE = "scenario-resources.json";
+    private static final Pattern BUDGET_TAG = Pattern.compile("@MaxAllocationMB:(\\d+)");
+
+    private static final Map<String, Totals> SCENARIOS = new ConcurrentHashMap<>();
+
+    private ScenarioResources() {
+    }
+
+    /**
+     * Records the resources used by one scenario run.
+     *
+     * @param scenario scenario key, e.g. {@code products.feature: Get a product}
+     * @param usage allocation and CPU time of the scenario's thread
+     */
+    public static void record(String scenario, ThreadResourceUsage.Usage usage) {
+        SCENARIOS.computeIfAbsent(scenario, key -> new Totals()).record(usage);
+    }
+
+    /**
+     * Checks whether any scenario has been recorded.
+     *
+     * @return true if at least one scenario was recorded
+     */
+    public static boolean hasSamples() {
+        return !SCENARIOS.isEmpty();
+    }
+
+    /**
+     * Reads the allocation budget from a scenario's tags.
+     *
+     * @param tags scenario tags, e.g. {@code @MaxAllocationMB:64}
+     * @return budget in megabytes, empty if the scenario has none
+     */
+    public static OptionalLong allocationBudgetMegabytes(Collection<String> tags) {
+        for (String tag : tags) {
+            Matcher matcher = BUDGET_TAG.matcher(tag);
+            if (matcher.matches()) {
+                return OptionalLong.of(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Writes runs, mean and max allocation and CPU time per scenario as JSON into
+     * {@code directory/scenario-resources.json}, heaviest allocators first.
+     *
+     * @param directory report directory, created if missing
+     * @return path of the written report
+     */
+    public static Path writeReport(Path directory) {
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        long totalAllocated = 0;
+        long totalCpu = 0;
+        List<Map.Entry<String, Totals>> ranked = SCENARIOS.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Totals> entry) -> entry.getValue().allocated.get())
+                        .reversed())
+                .toList();
+        for (Map.Entry<String, Totals> entry : ranked) {
+            Totals totals = entry.getValue();
+            long runs = totals.runs.get();
+            totalAllocated += totals.allocated.get();
+            totalCpu += totals.cpu.get();
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("scenario", entry.getKey());
+            summary.put("runs", runs);
+            summary.put("allocatedMbMean", megabytes(totals.allocated.get() / runs));
+            summary.put("allocatedMbMax", megabytes(totals.maxAllocated.get()));
+            summary.put("cpuMsMean", millis(totals.cpu.get() / runs));
+            summary.put("cpuMsMax", millis(totals.maxCpu.get()));
+            scenarios.add(summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("allocatedMbTotal", megabytes(totalAllocated));
+        report.put("cpuMsTotal", millis(totalCpu));
+        report.put("scenarios", scenarios);
+
+        Path file = directory.resolve(REPORT_FILE);
+        Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                gson.toJson(report, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write scenario resource report to " + file, e);
+        }
+        logger.info("Allocation and CPU time of {} scenarios written to {}", scenarios.size(), file);
+        return file;
+    }
+
+    private static double megabytes(long bytes) {
+        return Math.round(bytes / (1024.0 * 1024.0) * 100) / 100.0;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+
+    /**
+     * Accumulated usage of one scenario. Unsupported counters (-1) are recorded as 0.
+     */
+    private static class Totals {
+
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong allocated = new AtomicLong();
+        private final AtomicLong maxAllocated = new AtomicLong();
+        private final AtomicLong cpu = new AtomicLong();
+        private final AtomicLong maxCpu = new AtomicLong();
+
+        void record(ThreadResourceUsage.Usage usage) {
+            long allocatedBytes = Math.max(0, usage.allocatedBytes());
+            long cpuNanos = Math.max(0, usage.cpuNanos());
+            runs.incrementAndGet();
+            allocated.addAndGet(allocatedBytes);
+            maxAllocated.accumulateAndGet(allocatedBytes, Math::max);
+            cpu.addAndGet(cpuNanos);
+            maxCpu.accumulateAndGet(cpuNanos, Math::max);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.spritecloud.perf;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide record of how long each scenario took, fed by the scenario hooks.
+ * Scenarios that run more than once (e.g. outline examples sharing a name) share one histogram.
+ * The record only covers the current suite: {@link PerformanceBaseline#beginSuite(String)} clears it,
+ * so suites sharing a JVM are never gated on each other's scenarios.
+ */
+public final class ScenarioTimings {
+
+    private static final Map<String, LatencyHistogram> SCENARIOS = new ConcurrentHashMap<>();
+
+    private ScenarioTimings() {
+    }
+
+    /**
+     * Records the duration of one scenario run.
+     *
+     * @param scenario scenario key, e.g. {@code products.feature: Get a product}
+     * @param nanos duration in nanoseconds
+     */
+    public static void record(String scenario, long nanos) {
+        SCENARIOS.computeIfAbsent(scenario, key -> new LatencyHistogram()).record(nanos / 1_000);
+    }
+
+    /**
+     * Forgets all recorded scenarios.
+     */
+    static void reset() {
+        SCENARIOS.clear();
+    }
+
+    /**
+     * @return histogram per scenario, sorted by scenario
+     */
+    public static Map<String, LatencyHistogram> snapshot() {
+        return new TreeMap<>(SCENARIOS);
+    }
+}
@@ -0,0 +1,204 @@
+package com.spritecloud.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.spritecloud.config.ConfigurationManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cucumber plugin that times every step of the run and ranks the slowest ones.
+ *
+ * <p>Design Decision: Durations come from Cucumber's own step results, so the profile needs no
+ * code in step definitions. Steps are aggregated twice: by step definition pattern, e.g.
+ * {@code I add the following products to cart:}, which shows which Gherkin steps cost the most
+ * across all scenarios; and by glue method, which also covers hooks and shows when several patterns
+ * share one slow implementation. Steps skipped after a failure never ran and are left out.
+ *
+ * <p>Timings are process-wide, like {@link LatencyRecorder}: surefire runs every runner in one JVM,
+ * each with its own plugin instance, and all of them add to the same rankings. At the end of each
+ * run the top {@code PERF_STEP_PROFILE_TOP} entries of both rankings, ordered by total time, are
+ * logged and written to {@code step-profile.json} in the performance report directory, with count,
+ * failures, total, mean, p50/p90/p99 and max per entry; the file written last covers every runner.
+ *
+ * <p>Usage: register {@code com.spritecloud.perf.StepProfiler} as a Cucumber plugin.
+ */
+public class StepProfiler implements ConcurrentEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepProfiler.class);
+
+    /** Report file written into the performance report directory */
+    public static final String REPORT_FILE = "step-profile.json";
+
+    private static final Map<String, Timings> BY_PATTERN = new ConcurrentHashMap<>();
+    private static final Map<String, Timings> BY_GLUE_METHOD = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> onRunFinished());
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        Result result = event.getResult();
+        if (result.getStatus() != Status.PASSED && result.getStatus() != Status.FAILED) {
+            return;
+        }
+        TestStep testStep = event.getTestStep();
+        if (testStep instanceof PickleStepTestStep step) {
+            String pattern = step.getPattern() != null ? step.getPattern() : step.getStep().getText();
+            BY_PATTERN.computeIfAbsent(pattern, key -> new Timings()).record(result);
+        }
+        String glueMethod = testStep instanceof HookTestStep hook
+                ? hook.getHookType() + " " + hook.getCodeLocation()
+                : testStep.getCodeLocation();
+        if (glueMethod != null) {
+            BY_GLUE_METHOD.computeIfAbsent(glueMethod, key -> new Timings()).record(result);
+        }
+    }
+
+    private void onRunFinished() {
+        if (BY_GLUE_METHOD.isEmpty()) {
+            return;
+        }
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        int top = config.getPerfStepProfileTop();
+        logger.info("Slowest steps by total time:\n{}", render(top));
+        writeReport(Path.of(config.getPerfReportDir()), top);
+    }
+
+    /**
+     * Renders the slowest step patterns as a text table.
+     *
+     * @param top number of steps to list
+     * @return multi-line table, ordered by total time
+     */
+    public String render(int top) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%10s %7s %9s %9s %9s %9s %6s  %s%n",
+                "total ms", "count", "mean ms", "p90 ms", "p99 ms", "max ms", "share", "step"));
+        double allMillis = totalMillis(BY_PATTERN);
+        for (Map.Entry<String, Timings> entry : ranked(BY_PATTERN, top)) {
+            Timings timings = entry.getValue();
+            LatencyHistogram histogram = timings.histogram;
+            out.append(String.format("%10.0f %7d %9.1f %9.1f %9.1f %9.1f %5.1f%%  %s%n",
+                    timings.totalMillis(), histogram.getCount(), histogram.getMeanMicros() / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxMicros() / 1000.0, share(timings, allMillis), entry.getKey()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the slowest step patterns and glue methods as JSON into {@code directory/step-profile.json}.
+     *
+     * @param directory report directory, created if missing
+     * @param top number of entries per ranking
+     * @return path of the written report
+     */
+    public Path writeReport(Path directory, int top) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("unit", "ms");
+        report.put("top", top);
+        report.put("distinctPatterns", BY_PATTERN.size());
+        report.put("distinctGlueMethods", BY_GLUE_METHOD.size());
+        report.put("byPattern", summarize(BY_PATTERN, "step", top));
+        report.put("byGlueMethod", summarize(BY_GLUE_METHOD, "glueMethod", top));
+
+        Path file = directory.resolve(REPORT_FILE);
+        Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                gson.toJson(report, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write step profile to " + file, e);
+        }
+        logger.info("Step profile of {} step patterns written to {}", BY_PATTERN.size(), file);
+        return file;
+    }
+
+    private static List<Map<String, Object>> summarize(Map<String, Timings> timingsByKey, String keyName, int top) {
+        double allMillis = totalMillis(timingsByKey);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Map.Entry<String, Timings> entry : ranked(timingsByKey, top)) {
+            Timings timings = entry.getValue();
+            LatencyHistogram histogram = timings.histogram;
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put(keyName, entry.getKey());
+            summary.put("count", histogram.getCount());
+            summary.put("failures", timings.failures.get());
+            summary.put("total", Math.round(timings.totalMillis()));
+            summary.put("sharePercent", Math.round(share(timings, allMillis) * 10) / 10.0);
+            summary.put("mean", Math.round(histogram.getMeanMicros()) / 1000.0);
+            summary.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+            summary.put("p90", histogram.getValueAtPercentile(90) / 1000.0);
+            summary.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+            summary.put("max", histogram.getMaxMicros() / 1000.0);
+            entries.add(summary);
+        }
+        return entries;
+    }
+
+    private static List<Map.Entry<String, Timings>> ranked(Map<String, Timings> timingsByKey, int top) {
+        return timingsByKey.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Timings> entry) -> entry.getValue().totalMillis())
+                        .reversed())
+                .limit(Math.max(0, top))
+                .toList();
+    }
+
+    private static double totalMillis(Map<String, Timings> timingsByKey) {
+        return timingsByKey.values().stream().mapToDouble(Timings::totalMillis).sum();
+    }
+
+    private static double share(Timings timings, double allMillis) {
+        return allMillis == 0 ? 0.0 : timings.totalMillis() / allMillis * 100;
+    }
+
+    /**
+     * Duration histogram and failure count of one step pattern or glue method.
+     */
+    private static class Timings {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicLong failures = new AtomicLong();
+
+        void record(Result result) {
+            histogram.record(result.getDuration().toNanos() / 1_000);
+            if (result.getStatus() == Status.FAILED) {
+                failures.incrementAndGet();
+            }
+        }
+
+        double totalMillis() {
+            return histogram.getMeanMicros() * histogram.getCount() / 1000.0;
+        }
+    }
+}
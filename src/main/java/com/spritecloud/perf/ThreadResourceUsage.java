@@ -0,0 +1,88 @@
+package com.spritecloud.perf;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Meter for the heap bytes allocated and CPU time used by one thread since the meter was started.
+ *
+ * <p>Design Decision: Cucumber runs a scenario's hooks and steps on one thread, so the thread's
+ * allocation and CPU counters from {@link com.sun.management.ThreadMXBean} attribute the JVM cost
+ * of a scenario exactly, even with scenarios running in parallel. Work handed to other threads,
+ * such as async fan-out or hedged requests, is not included. Both counters are read in well under
+ * a microsecond, so every scenario can be metered.
+ */
+public final class ThreadResourceUsage {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static {
+        if (THREADS.isThreadAllocatedMemorySupported() && !THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (THREADS.isThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    private final long threadId;
+    private final long startAllocatedBytes;
+    private final long startCpuNanos;
+
+    private ThreadResourceUsage() {
+        this.threadId = Thread.currentThread().getId();
+        this.startAllocatedBytes = allocatedBytes();
+        this.startCpuNanos = cpuNanos();
+    }
+
+    /**
+     * Starts metering the calling thread.
+     *
+     * @return meter bound to the calling thread
+     */
+    public static ThreadResourceUsage start() {
+        return new ThreadResourceUsage();
+    }
+
+    /**
+     * Reads the usage of the metered thread since {@link #start()}.
+     *
+     * @return bytes allocated and CPU time used so far; -1 for a counter the JVM does not support
+     */
+    public Usage measure() {
+        long allocated = allocatedBytes();
+        long cpu = cpuNanos();
+        return new Usage(allocated < 0 || startAllocatedBytes < 0 ? -1 : allocated - startAllocatedBytes,
+                cpu < 0 || startCpuNanos < 0 ? -1 : cpu - startCpuNanos);
+    }
+
+    private long allocatedBytes() {
+        return THREADS.isThreadAllocatedMemoryEnabled() ? THREADS.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    private long cpuNanos() {
+        return THREADS.isThreadCpuTimeEnabled() ? THREADS.getThreadCpuTime(threadId) : -1;
+    }
+
+    /**
+     * Resources used by a thread over a period.
+     *
+     * @param allocatedBytes heap bytes allocated, -1 if not supported
+     * @param cpuNanos CPU time in nanoseconds, user and system, -1 if not supported
+     */
+    public record Usage(long allocatedBytes, long cpuNanos) {
+
+        public double allocatedMegabytes() {
+            return allocatedBytes / (1024.0 * 1024.0);
+        }
+
+        public double cpuMillis() {
+            return cpuNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("allocated %.1f MB, CPU %.0f ms", allocatedMegabytes(), cpuMillis());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.spritecloud.services;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.http.FlightRecorderFilter;
+import com.spritecloud.http.Http2TransportFilter;
+import com.spritecloud.http.HttpConnectionPool;
+import com.spritecloud.http.HttpTransport;
+import com.spritecloud.http.LatencyRecordingFilter;
+import com.spritecloud.http.MockNetworkProfileFilter;
+import com.spritecloud.http.ResponseCacheFilter;
+import com.spritecloud.http.TrafficCaptureFilter;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable client configuration for API services: base URL, RestAssured config
+ * and the request specification templates built for that base URL.
+ *
+ * <p>Design Decision: Services carry their own configuration instead of writing
+ * RestAssured's static {@code baseURI}/config from every constructor, so any number of
+ * parallel scenarios (or services pointed at different servers) can run without sharing
+ * mutable state. Instances are built once per base URL and only read afterwards.
+ */
+public final class ApiClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiClientConfig.class);
+
+    /** Client configurations, built once per base URL and shared by all services */
+    private static final Map<String, ApiClientConfig> BY_BASE_URL = new ConcurrentHashMap<>();
+
+    /** Emits a Flight Recorder event per call; first in the chain so it spans all other filters */
+    private static final Filter FLIGHT_RECORDER_FILTER = new FlightRecorderFilter();
+
+    /** Emits Flight Recorder events for streamed calls without reading the response body */
+    private static final Filter STREAMING_FLIGHT_RECORDER_FILTER = new FlightRecorderFilter(false);
+
+    /** Records every exchange into the scenario's traffic log instead of logging it eagerly */
+    private static final Filter TRAFFIC_CAPTURE_FILTER = new TrafficCaptureFilter();
+
+    /** Records streamed exchanges without reading, and thereby buffering, the response body */
+    private static final Filter STREAMING_CAPTURE_FILTER = new TrafficCaptureFilter(false);
+
+    /** Sends the scenario's @MockLatency/@MockBandwidthKbps overrides to the mock API when MOCK_API is enabled */
+    private static final Filter MOCK_NETWORK_PROFILE_FILTER = new MockNetworkProfileFilter();
+
+    /** Serves repeated GETs from the run-scoped response cache when API_RESPONSE_CACHE_ENABLED is set */
+    private static final Filter RESPONSE_CACHE_FILTER = new ResponseCacheFilter();
+
+    /** Feeds per-endpoint latency histograms; placed after the cache so only real calls are measured */
+    private static final Filter LATENCY_FILTER = new LatencyRecordingFilter();
+
+    /** Measures streamed calls up to the response headers, leaving the body unread */
+    private static final Filter STREAMING_LATENCY_FILTER = new LatencyRecordingFilter(false);
+
+    private final String baseUrl;
+    private final HttpTransport transport;
+    private final RestAssuredConfig restAssuredConfig;
+    private final RequestSpecification requestSpec;
+    private final RequestSpecification uncachedRequestSpec;
+    private final RequestSpecification minimalRequestSpec;
+    private final RequestSpecification streamingRequestSpec;
+
+    private ApiClientConfig(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.restAssuredConfig = RestAssuredConfig.config()
+                .httpClient(HttpConnectionPool.getInstance().httpClientConfig());
+
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        this.transport = HttpTransport.fromName(config.getHttpTransport());
+
+        // Filter order matters: capture sees cache hits, latency only sees real calls,
+        // and the HTTP/2 transport must come last because it ends the chain
+        List<Filter> filters = new ArrayList<>(List.of(FLIGHT_RECORDER_FILTER, TRAFFIC_CAPTURE_FILTER));
+        if (config.isMockApiEnabled()) {
+            filters.add(MOCK_NETWORK_PROFILE_FILTER);
+        }
+        if (config.isApiResponseCacheEnabled()) {
+            filters.add(RESPONSE_CACHE_FILTER);
+        }
+        filters.add(LATENCY_FILTER);
+        if (transport == HttpTransport.HTTP2) {
+            filters.add(Http2Transport.FILTER);
+        }
+
+        this.requestSpec = browserLikeSpec(filters);
+        List<Filter> uncachedFilters = new ArrayList<>(filters);
+        uncachedFilters.remove(RESPONSE_CACHE_FILTER);
+        this.uncachedRequestSpec = browserLikeSpec(uncachedFilters);
+        // Streamed bodies are never cached or sent over HTTP/2: both would buffer them in full
+        List<Filter> streamingFilters = new ArrayList<>(List.of(STREAMING_FLIGHT_RECORDER_FILTER, STREAMING_CAPTURE_FILTER));
+        if (config.isMockApiEnabled()) {
+            streamingFilters.add(MOCK_NETWORK_PROFILE_FILTER);
+        }
+        streamingFilters.add(STREAMING_LATENCY_FILTER);
+        this.streamingRequestSpec = browserLikeSpec(streamingFilters);
+        this.minimalRequestSpec = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(restAssuredConfig)
+                .addFilters(filters)
+                .build();
+
+        logger.info("API client configuration built for base URL: {} (transport: {})", baseUrl, transport);
+    }
+
+    private RequestSpecification browserLikeSpec(List<Filter> filters) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(restAssuredConfig)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                .addHeader("Accept-Language", "en-US,en;q=0.9")
+                .addHeader("sec-ch-ua", "\"Not_A Brand\";v=\"8\", \"Chromium\";v=\"120\", \"Google Chrome\";v=\"120\"")
+                .addHeader("sec-ch-ua-mobile", "?0")
+                .addHeader("sec-ch-ua-platform", "\"Windows\"")
+                .addHeader("sec-fetch-site", "same-origin")
+                .addHeader("sec-fetch-mode", "cors")
+                .addHeader("sec-fetch-dest", "empty")
+                .addHeader("Referer", baseUrl)
+                .addHeader("Origin", baseUrl)
+                .addFilters(filters)
+                .build();
+    }
+
+    /**
+     * Gets the client configuration for a base URL, building it on first use.
+     *
+     * @param baseUrl API base URL
+     * @return shared ApiClientConfig for that base URL
+     */
+    public static ApiClientConfig forBaseUrl(String baseUrl) {
+        if (baseUrl == null || baseUrl.isEmpty()) {
+            throw new IllegalStateException("Base URL is not configured");
+        }
+        return BY_BASE_URL.computeIfAbsent(baseUrl, ApiClientConfig::new);
+    }
+
+    /**
+     * Gets the client configuration for the current environment.
+     * Uses the mock API server when MOCK_API is enabled, the real API otherwise.
+     *
+     * @param config configuration manager
+     * @return shared ApiClientConfig for the configured base URL
+     */
+    public static ApiClientConfig fromConfiguration(ConfigurationManager config) {
+        return forBaseUrl(config.isMockApiEnabled() ? config.getMockApiUrl() : config.getApiBaseUrl());
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    public RestAssuredConfig getRestAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Gets the request specification template with all standard headers.
+     * Never modify it directly; overlay requests with {@code given().spec(...)}.
+     *
+     * @return shared RequestSpecification template
+     */
+    public RequestSpecification getRequestSpec() {
+        return requestSpec;
+    }
+
+    /**
+     * Gets a request specification template like {@link #getRequestSpec()} that always goes
+     * to the server, even when the response cache is enabled. Used where the request itself
+     * is measured, such as response-time sampling.
+     *
+     * @return shared uncached RequestSpecification template
+     */
+    public RequestSpecification getUncachedRequestSpec() {
+        return uncachedRequestSpec;
+    }
+
+    /**
+     * Gets the request specification template for streamed responses. Same headers as
+     * {@link #getRequestSpec()}, but traffic capture leaves the response body unread.
+     *
+     * @return shared streaming RequestSpecification template
+     */
+    public RequestSpecification getStreamingRequestSpec() {
+        return streamingRequestSpec;
+    }
+
+    /**
+     * Gets the minimal request specification template with only base URI and traffic capture.
+     *
+     * @return shared minimal RequestSpecification template
+     */
+    public RequestSpecification getMinimalRequestSpec() {
+        return minimalRequestSpec;
+    }
+
+    /**
+     * Lazily created HTTP/2 transport, so the JDK client is only started when selected.
+     */
+    private static final class Http2Transport {
+        private static final Filter FILTER = new Http2TransportFilter(ConfigurationManager.getInstance());
+    }
+}
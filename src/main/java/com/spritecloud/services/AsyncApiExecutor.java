@@ -0,0 +1,54 @@
+package com.spritecloud.services;
+
+import com.spritecloud.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide executor for asynchronous service calls.
+ *
+ * <p>Design Decision: The framework targets Java 17, so virtual threads are not available
+ * and RestAssured only offers a blocking client. Async calls therefore run the existing
+ * blocking requests on a bounded pool of daemon threads sized by API_ASYNC_THREADS; the
+ * pool size caps how many requests are in flight at once, and further calls queue.
+ */
+final class AsyncApiExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncApiExecutor.class);
+
+    private AsyncApiExecutor() {
+    }
+
+    /**
+     * Gets the shared executor, creating it on first use.
+     *
+     * @return executor for async API calls
+     */
+    static ExecutorService executor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = create(ConfigurationManager.getInstance().getApiAsyncThreads());
+
+        private static ExecutorService create(int threads) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                    30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "api-async-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            logger.info("Async API executor initialized with {} threads", threads);
+            return executor;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import io.restassured.response.Response;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static io.restassured.RestAssured.given;
 
@@ -14,6 +15,22 @@ import static io.restassured.RestAssured.given;
  */
 public class AuthService extends BaseApiService {
 
+    /**
+     * Creates a AuthService for the configured environment.
+     */
+    public AuthService() {
+        super();
+    }
+
+    /**
+     * Creates a AuthService bound to an explicit client configuration.
+     *
+     * @param clientConfig client configuration to send requests with
+     */
+    public AuthService(ApiClientConfig clientConfig) {
+        super(clientConfig);
+    }
+
     /**
      * Performs user login and returns authentication token.
      *
@@ -91,4 +108,15 @@ public class AuthService extends BaseApiService {
         logResponse(response.getStatusCode(), AUTH_ENDPOINT);
         return response;
     }
+
+    /**
+     * Performs login asynchronously and returns the token.
+     *
+     * @param username User's username
+     * @param password User's password
+     * @return future completed with the AuthToken string
+     */
+    public CompletableFuture<String> loginAndGetTokenAsync(String username, String password) {
+        return async(() -> loginAndGetToken(username, password));
+    }
 }
@@ -1,16 +1,32 @@
 package com.spritecloud.services;
 
 import com.spritecloud.config.ConfigurationManager;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
+import com.spritecloud.http.HedgingPolicy;
+import com.spritecloud.http.MockNetworkProfileFilter;
+import com.spritecloud.http.TrafficLog;
 import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.LogDetail;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+
 /**
  * Abstract base class for all API service classes.
  * Provides common REST API functionality using RestAssured.
@@ -22,10 +38,16 @@ import org.slf4j.LoggerFactory;
  * <p>Key Features:
  * <ul>
  *   <li>Automatic base URL configuration from ConfigurationManager</li>
- *   <li>Reusable request and response specifications</li>
+ *   <li>Immutable per-service client configuration, no global RestAssured state</li>
+ *   <li>Shared keep-alive connection pool across all services and threads</li>
+ *   <li>Request and response specifications built once and reused by every call</li>
  *   <li>Standard HTTP status code constants</li>
  *   <li>Browser-like request headers for realistic API testing</li>
- *   <li>Comprehensive request/response logging</li>
+ *   <li>Request/response capture, rendered only for failed scenarios</li>
+ *   <li>Asynchronous execution helpers for fanning out requests</li>
+ *   <li>Order-preserving bulk fetches with bounded concurrency</li>
+ *   <li>Constant-memory streaming of large list responses</li>
+ *   <li>Optional hedging of slow idempotent GET requests</li>
  *   <li>Configuration validation</li>
  * </ul>
  */
@@ -34,6 +56,8 @@ public abstract class BaseApiService {
     protected static final Logger logger = LoggerFactory.getLogger(BaseApiService.class);
     protected final ConfigurationManager config;
     protected final String baseUrl;
+    protected final RestAssuredConfig restAssuredConfig;
+    protected final ApiClientConfig clientConfig;
 
     /** Endpoint path for authentication operations */
     protected static final String AUTH_ENDPOINT = "/auth/login";
@@ -59,94 +83,287 @@ public abstract class BaseApiService {
     /** HTTP status code for internal server errors */
     protected static final int HTTP_INTERNAL_ERROR = 500;
 
+    /** Response specification expecting HTTP 200 OK with JSON content */
+    private static final ResponseSpecification SUCCESS_RESPONSE_SPEC = new ResponseSpecBuilder()
+            .expectStatusCode(HTTP_OK)
+            .expectContentType(ContentType.JSON)
+            .build();
+
+    /** Response specification expecting HTTP 201 Created with JSON content */
+    private static final ResponseSpecification CREATED_RESPONSE_SPEC = new ResponseSpecBuilder()
+            .expectStatusCode(HTTP_CREATED)
+            .expectContentType(ContentType.JSON)
+            .build();
+
     /**
-     * Constructs a BaseApiService and configures RestAssured.
-     * Loads configuration and sets up the base URL for API requests.
+     * Constructs a BaseApiService for the configured environment.
      * Uses mock API server in CI/CD environments, real API in local development.
      */
     public BaseApiService() {
-        this.config = ConfigurationManager.getInstance();
-        // Use mock API in CI/CD (when MOCK_API=true), real API locally
-        this.baseUrl = config.isMockApiEnabled()
-            ? config.getMockApiUrl()
-            : config.getApiBaseUrl();
-        configureRestAssured();
-        logger.info("API Service initialized with base URL: {} (Mock mode: {})",
-            baseUrl, config.isMockApiEnabled());
+        this(ApiClientConfig.fromConfiguration(ConfigurationManager.getInstance()));
     }
 
     /**
-     * Configures RestAssured with base URI and logging settings.
-     * Enables automatic logging when validation fails.
+     * Constructs a BaseApiService bound to an explicit client configuration.
+     * No global RestAssured state is touched, so services can be created
+     * concurrently and pointed at different servers.
+     *
+     * @param clientConfig immutable client configuration to send requests with
      */
-    private void configureRestAssured() {
-        RestAssured.baseURI = baseUrl;
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
-        logger.info("RestAssured configured with base URL: {}", baseUrl);
+    protected BaseApiService(ApiClientConfig clientConfig) {
+        this.config = ConfigurationManager.getInstance();
+        this.clientConfig = clientConfig;
+        this.baseUrl = clientConfig.getBaseUrl();
+        this.restAssuredConfig = clientConfig.getRestAssuredConfig();
+        logger.info("API Service initialized with base URL: {}", baseUrl);
     }
 
     /**
-     * Creates a complete request specification with all standard headers.
+     * Returns the shared request specification with all standard headers.
      * Includes browser-like headers to mimic real user requests.
      *
-     * @return configured RequestSpecification with JSON content type and all headers
+     * <p>The specification is a template built once per base URL. Overlay per-request
+     * details (body, query params, auth headers) on top of it with
+     * {@code given().spec(getRequestSpec())}, which copies the template into a new
+     * request; never modify the returned instance directly.
+     *
+     * @return shared RequestSpecification with JSON content type and all headers
      */
     protected RequestSpecification getRequestSpec() {
-        return new RequestSpecBuilder()
-                .setBaseUri(baseUrl)
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                .addHeader("Accept-Language", "en-US,en;q=0.9")
-                .addHeader("sec-ch-ua", "\"Not_A Brand\";v=\"8\", \"Chromium\";v=\"120\", \"Google Chrome\";v=\"120\"")
-                .addHeader("sec-ch-ua-mobile", "?0")
-                .addHeader("sec-ch-ua-platform", "\"Windows\"")
-                .addHeader("sec-fetch-site", "same-origin")
-                .addHeader("sec-fetch-mode", "cors")
-                .addHeader("sec-fetch-dest", "empty")
-                .addHeader("Referer", baseUrl)
-                .addHeader("Origin", baseUrl)
-                .log(LogDetail.ALL)
-                .build();
-    }
-
-    /**
-     * Creates a response specification expecting HTTP 200 OK with JSON content.
+        return clientConfig.getRequestSpec();
+    }
+
+    /**
+     * Returns the shared request specification without the response cache, for requests
+     * whose round trip is measured. Same template rules as {@link #getRequestSpec()}.
+     *
+     * @return shared RequestSpecification that always reaches the server
+     */
+    protected RequestSpecification getUncachedRequestSpec() {
+        return clientConfig.getUncachedRequestSpec();
+    }
+
+    /**
+     * Returns the shared response specification expecting HTTP 200 OK with JSON content.
      *
      * @return ResponseSpecification configured for successful responses
      */
     protected ResponseSpecification getSuccessResponseSpec() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(HTTP_OK)
-                .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
-                .build();
+        return SUCCESS_RESPONSE_SPEC;
     }
 
     /**
-     * Creates a response specification expecting HTTP 201 Created with JSON content.
+     * Returns the shared response specification expecting HTTP 201 Created with JSON content.
      *
      * @return ResponseSpecification configured for resource creation responses
      */
     protected ResponseSpecification getCreatedResponseSpec() {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(HTTP_CREATED)
-                .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
-                .build();
+        return CREATED_RESPONSE_SPEC;
     }
 
     /**
-     * Creates a minimal request specification with only base URI and logging.
-     * Used when full headers are not needed.
+     * Returns the shared minimal request specification with only base URI and traffic capture.
+     * Used when full headers are not needed. Same template rules as {@link #getRequestSpec()}.
      *
      * @return minimal RequestSpecification
      */
     protected RequestSpecification getMinimalRequestSpec() {
-        return new RequestSpecBuilder()
-                .setBaseUri(baseUrl)
-                .log(LogDetail.ALL)
-                .build();
+        return clientConfig.getMinimalRequestSpec();
+    }
+
+    /**
+     * Runs a service call asynchronously on the shared async executor.
+     * The caller's traffic log is carried over to the worker thread so the
+     * exchange still shows up in the scenario's failure report, and so are the
+     * caller's mock API latency and bandwidth overrides.
+     *
+     * @param call blocking service call to run
+     * @param <T> result type
+     * @return future completed with the call's result, or exceptionally if it throws
+     */
+    protected <T> CompletableFuture<T> async(Supplier<T> call) {
+        CallerContext caller = CallerContext.capture();
+        return CompletableFuture.supplyAsync(() -> caller.run(call), AsyncApiExecutor.executor());
+    }
+
+    /**
+     * Fetches many resources by ID with at most {@code maxConcurrency} requests in flight.
+     *
+     * <p>Design Decision: Runs {@code maxConcurrency} lanes that each pull the next
+     * ID from a shared cursor as soon as their previous request completes, so a slow
+     * request never holds back the rest of the batch and no worker thread sits blocked
+     * waiting for a permit. Results are written back by input position, which keeps
+     * them in input order regardless of completion order. Lanes continue on the async
+     * executor, so every fetch is started with the caller's traffic log and mock overrides
+     * bound, as if the caller had started it.
+     *
+     * @param ids IDs to fetch, in the order the results should be returned
+     * @param maxConcurrency maximum number of requests in flight
+     * @param fetch asynchronous fetch for a single ID
+     * @param <T> result type
+     * @return one entry per ID, holding either the value or the failure
+     */
+    protected <T> BulkResult<T> fetchAll(Collection<Integer> ids, int maxConcurrency,
+                                         Function<Integer, CompletableFuture<T>> fetch) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, was " + maxConcurrency);
+        }
+        List<Integer> idList = new ArrayList<>(ids);
+        List<BulkResult.Entry<T>> entries = new ArrayList<>(idList.size());
+        for (Integer id : idList) {
+            entries.add(null);
+        }
+
+        CallerContext caller = CallerContext.capture();
+        Function<Integer, CompletableFuture<T>> callerFetch = id -> caller.run(() -> fetch.apply(id));
+        long start = System.nanoTime();
+        AtomicInteger cursor = new AtomicInteger();
+        int lanes = Math.min(maxConcurrency, idList.size());
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            laneFutures[lane] = nextInLane(idList, cursor, callerFetch, entries);
+        }
+        CompletableFuture.allOf(laneFutures).join();
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        BulkResult<T> result = new BulkResult<>(entries, elapsedMs);
+        logger.info("Bulk fetch of {} IDs with concurrency {} finished in {} ms ({} failed)",
+                idList.size(), lanes, elapsedMs, idList.size() - result.getValues().size());
+        return result;
+    }
+
+    private <T> CompletableFuture<Void> nextInLane(List<Integer> ids, AtomicInteger cursor,
+                                                   Function<Integer, CompletableFuture<T>> fetch,
+                                                   List<BulkResult.Entry<T>> entries) {
+        int index = cursor.getAndIncrement();
+        if (index >= ids.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Integer id = ids.get(index);
+        CompletableFuture<T> request;
+        try {
+            request = fetch.apply(id);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        return request
+                .handle((value, error) -> {
+                    // Each index is written by exactly one lane; allOf().join() publishes the writes
+                    entries.set(index, new BulkResult.Entry<>(id, error == null ? value : null, unwrap(error)));
+                    return null;
+                })
+                // Continue on the executor rather than in the completing stack frame, so a lane
+                // of already-completed fetches does not nest one call per ID on the stack
+                .thenComposeAsync(ignored -> nextInLane(ids, cursor, fetch, entries), AsyncApiExecutor.executor());
+    }
+
+    /**
+     * Per-thread state of the thread that issued a call: its traffic log and mock API overrides.
+     */
+    private record CallerContext(TrafficLog trafficLog, MockNetworkProfileFilter.Binding networkProfile) {
+
+        static CallerContext capture() {
+            return new CallerContext(TrafficLog.current(), MockNetworkProfileFilter.current());
+        }
+
+        /**
+         * Runs a call with this context bound to the current thread, restoring the thread's own afterwards.
+         */
+        <T> T run(Supplier<T> call) {
+            TrafficLog previousLog = TrafficLog.current();
+            MockNetworkProfileFilter.Binding previousProfile = MockNetworkProfileFilter.current();
+            TrafficLog.bind(trafficLog);
+            MockNetworkProfileFilter.bind(networkProfile);
+            try {
+                return call.get();
+            } finally {
+                TrafficLog.bind(previousLog);
+                MockNetworkProfileFilter.bind(previousProfile);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Sends a GET request and streams the JSON array in the response body element by element.
+     * The body is read from the connection as the stream is consumed, so memory use does not
+     * depend on the number of elements. The stream must be closed to release the connection.
+     *
+     * @param endpoint the API endpoint returning a JSON array
+     * @param elementType model type each element is bound to
+     * @param <T> element type
+     * @return lazily populated stream of elements
+     * @throws IllegalStateException if the status code is not successful
+     */
+    protected <T> Stream<T> streamArray(String endpoint, Class<T> elementType) {
+        logRequest("GET", endpoint + " (streaming)");
+        Response response = given()
+                .spec(clientConfig.getStreamingRequestSpec())
+                .when()
+                .get(endpoint);
+        logResponse(response.getStatusCode(), endpoint);
+
+        InputStream body = response.asInputStream();
+        try {
+            expectSuccess(response, endpoint);
+        } catch (IllegalStateException e) {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+                // Already failing on the status code
+            }
+            throw e;
+        }
+        return JsonArrayStream.of(body, elementType);
+    }
+
+    /**
+     * Sends an idempotent GET request under the hedging policy: if hedging is enabled and the
+     * request is slower than the endpoint's latency percentile, a duplicate is sent and the
+     * first response wins. Without hedging the request simply runs on the calling thread.
+     *
+     * @param endpointKey endpoint template used to group latencies, e.g. {@code /products/{id}}
+     * @param request GET request to send
+     * @return the first successful response
+     */
+    protected Response hedged(String endpointKey, Supplier<Response> request) {
+        return HedgingPolicy.getInstance().execute(endpointKey, request);
+    }
+
+    /**
+     * Ensures a response has a 2xx status code before it is mapped to a model.
+     *
+     * @param response API response
+     * @param endpoint the API endpoint that responded, used in the error message
+     * @return the same response, for chaining
+     * @throws IllegalStateException if the status code is not successful
+     */
+    protected Response expectSuccess(Response response, String endpoint) {
+        int statusCode = response.getStatusCode();
+        if (statusCode < HTTP_OK || statusCode >= 300) {
+            throw new IllegalStateException(String.format("%s returned HTTP %d", endpoint, statusCode));
+        }
+        return response;
+    }
+
+    /**
+     * Ensures a lookup by ID found a resource. The API answers unknown IDs with
+     * HTTP 200 and a {@code null} body, which maps to a null model.
+     *
+     * @param value model mapped from the response
+     * @param endpoint the API endpoint that responded, used in the error message
+     * @param <T> model type
+     * @return the same value, for chaining
+     * @throws IllegalStateException if the value is null
+     */
+    protected <T> T expectFound(T value, String endpoint) {
+        if (value == null) {
+            throw new IllegalStateException(String.format("%s returned no resource", endpoint));
+        }
+        return value;
     }
 
     /**
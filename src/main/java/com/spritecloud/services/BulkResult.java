@@ -0,0 +1,106 @@
+package com.spritecloud.services;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of a bulk fetch: one entry per requested ID, in the order the IDs were given.
+ * Each entry holds either the fetched value or the failure for that ID, so a single
+ * failing ID does not hide the results for the others.
+ *
+ * @param <T> type of the fetched resource
+ */
+public class BulkResult<T> {
+
+    private final List<Entry<T>> entries;
+    private final long elapsedMs;
+
+    BulkResult(List<Entry<T>> entries, long elapsedMs) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * Gets all entries in input order.
+     *
+     * @return entries, one per requested ID
+     */
+    public List<Entry<T>> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets the successfully fetched values in input order.
+     *
+     * @return fetched values, skipping failed IDs
+     */
+    public List<T> getValues() {
+        return entries.stream()
+                .filter(Entry::isSuccess)
+                .map(Entry::value)
+                .toList();
+    }
+
+    /**
+     * Gets the failures keyed by ID, in input order.
+     *
+     * @return failure per failed ID
+     */
+    public Map<Integer, Throwable> getFailures() {
+        Map<Integer, Throwable> failures = new LinkedHashMap<>();
+        entries.stream()
+                .filter(entry -> !entry.isSuccess())
+                .forEach(entry -> failures.put(entry.id(), entry.error()));
+        return failures;
+    }
+
+    /**
+     * Checks whether every ID was fetched successfully.
+     *
+     * @return true if there are no failures
+     */
+    public boolean isAllSuccessful() {
+        return entries.stream().allMatch(Entry::isSuccess);
+    }
+
+    /**
+     * Gets the wall-clock time of the whole bulk fetch.
+     *
+     * @return elapsed time in milliseconds
+     */
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{requested=" + entries.size()
+                + ", failed=" + entries.stream().filter(entry -> !entry.isSuccess()).count()
+                + ", elapsedMs=" + elapsedMs + "}";
+    }
+
+    /**
+     * Outcome for a single requested ID.
+     *
+     * @param id requested ID
+     * @param value fetched value, null if the fetch failed
+     * @param error failure, null if the fetch succeeded
+     * @param <T> type of the fetched resource
+     */
+    public record Entry<T>(Integer id, T value, Throwable error) {
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess()
+                    ? "Entry{id=" + id + ", value=" + value + "}"
+                    : "Entry{id=" + id + ", error=" + Objects.toString(error.getMessage()) + "}";
+        }
+    }
+}
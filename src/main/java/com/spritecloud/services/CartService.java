@@ -3,9 +3,13 @@ package com.spritecloud.services;
 import com.spritecloud.models.api.Cart;
 import io.restassured.response.Response;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 
@@ -15,6 +19,22 @@ import static io.restassured.RestAssured.given;
  */
 public class CartService extends BaseApiService {
 
+    /**
+     * Creates a CartService for the configured environment.
+     */
+    public CartService() {
+        super();
+    }
+
+    /**
+     * Creates a CartService bound to an explicit client configuration.
+     *
+     * @param clientConfig client configuration to send requests with
+     */
+    public CartService(ApiClientConfig clientConfig) {
+        super(clientConfig);
+    }
+
     /**
      * Creates a new cart with products.
      *
@@ -49,10 +69,10 @@ public class CartService extends BaseApiService {
     public Response getAllCarts() {
         logRequest("GET", CARTS_ENDPOINT);
 
-        Response response = given()
+        Response response = hedged(CARTS_ENDPOINT, () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(CARTS_ENDPOINT);
+                .get(CARTS_ENDPOINT));
 
         logResponse(response.getStatusCode(), CARTS_ENDPOINT);
         return response;
@@ -68,10 +88,10 @@ public class CartService extends BaseApiService {
         String endpoint = CARTS_ENDPOINT + "/" + cartId;
         logRequest("GET", endpoint);
 
-        Response response = given()
+        Response response = hedged(CARTS_ENDPOINT + "/{id}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -87,10 +107,10 @@ public class CartService extends BaseApiService {
         String endpoint = CARTS_ENDPOINT + "/user/" + userId;
         logRequest("GET", endpoint);
 
-        Response response = given()
+        Response response = hedged(CARTS_ENDPOINT + "/user/{userId}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -174,4 +194,117 @@ public class CartService extends BaseApiService {
         logResponse(response.getStatusCode(), CARTS_ENDPOINT);
         return response;
     }
+
+    /**
+     * Extracts list of carts from response.
+     *
+     * @param response API response
+     * @return List of Cart objects
+     */
+    public List<Cart> extractCartList(Response response) {
+        Cart[] cartsArray = response.as(Cart[].class);
+        List<Cart> carts = Arrays.asList(cartsArray);
+        logger.info("Extracted {} carts", carts.size());
+        return carts;
+    }
+
+    /**
+     * Retrieves all carts asynchronously.
+     *
+     * @return future completed with the list of carts
+     */
+    public CompletableFuture<List<Cart>> getAllCartsAsync() {
+        return async(() -> extractCartList(expectSuccess(getAllCarts(), CARTS_ENDPOINT)));
+    }
+
+    /**
+     * Retrieves a specific cart by ID asynchronously.
+     *
+     * @param cartId Cart ID to retrieve
+     * @return future completed with the cart, or exceptionally if no cart has that ID
+     */
+    public CompletableFuture<Cart> getCartByIdAsync(Integer cartId) {
+        String endpoint = CARTS_ENDPOINT + "/" + cartId;
+        return async(() -> expectFound(extractCart(expectSuccess(getCartById(cartId), endpoint)), endpoint));
+    }
+
+    /**
+     * Retrieves carts for a specific user asynchronously.
+     *
+     * @param userId User ID
+     * @return future completed with the user's carts
+     */
+    public CompletableFuture<List<Cart>> getUserCartsAsync(Integer userId) {
+        return async(() -> extractCartList(
+                expectSuccess(getUserCarts(userId), CARTS_ENDPOINT + "/user/" + userId)));
+    }
+
+    /**
+     * Creates a new cart with products asynchronously.
+     *
+     * @param userId User ID
+     * @param date Cart date
+     * @param products List of products with quantities
+     * @return future completed with the created cart
+     */
+    public CompletableFuture<Cart> createCartAsync(Integer userId, String date,
+                                                   List<Map<String, Integer>> products) {
+        return async(() -> extractCart(expectSuccess(createCart(userId, date, products), CARTS_ENDPOINT)));
+    }
+
+    /**
+     * Updates an existing cart asynchronously.
+     *
+     * @param cartId Cart ID to update
+     * @param userId User ID
+     * @param date Cart date
+     * @param products List of products with quantities
+     * @return future completed with the updated cart
+     */
+    public CompletableFuture<Cart> updateCartAsync(Integer cartId, Integer userId, String date,
+                                                   List<Map<String, Integer>> products) {
+        return async(() -> extractCart(
+                expectSuccess(updateCart(cartId, userId, date, products), CARTS_ENDPOINT + "/" + cartId)));
+    }
+
+    /**
+     * Deletes a cart asynchronously.
+     *
+     * @param cartId Cart ID to delete
+     * @return future completed with the deleted cart
+     */
+    public CompletableFuture<Cart> deleteCartAsync(Integer cartId) {
+        return async(() -> extractCart(expectSuccess(deleteCart(cartId), CARTS_ENDPOINT + "/" + cartId)));
+    }
+
+    /**
+     * Retrieves many carts by ID, using the configured bulk concurrency.
+     *
+     * @param cartIds Cart IDs to retrieve
+     * @return one entry per ID in input order, holding the cart or the failure
+     */
+    public BulkResult<Cart> getCartsByIds(Collection<Integer> cartIds) {
+        return getCartsByIds(cartIds, config.getApiBulkConcurrency());
+    }
+
+    /**
+     * Retrieves many carts by ID with at most {@code maxConcurrency} requests in flight.
+     *
+     * @param cartIds Cart IDs to retrieve
+     * @param maxConcurrency maximum number of concurrent requests
+     * @return one entry per ID in input order, holding the cart or the failure
+     */
+    public BulkResult<Cart> getCartsByIds(Collection<Integer> cartIds, int maxConcurrency) {
+        return fetchAll(cartIds, maxConcurrency, this::getCartByIdAsync);
+    }
+
+    /**
+     * Streams all carts from the list endpoint without buffering the response.
+     * Use for very large catalogues; close the stream, e.g. with try-with-resources.
+     *
+     * @return lazily populated stream of carts
+     */
+    public Stream<Cart> streamAllCarts() {
+        return streamArray(CARTS_ENDPOINT, Cart.class);
+    }
 }
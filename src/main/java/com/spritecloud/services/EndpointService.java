@@ -0,0 +1,51 @@
+package com.spritecloud.services;
+
+import io.restassured.response.Response;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Service class for calling an arbitrary endpoint by method and path.
+ * Used where the endpoint itself is the subject of a test, such as repeated
+ * response-time sampling, rather than a specific resource operation.
+ *
+ * <p>Requests use the shared request headers but bypass the response cache and are
+ * never hedged, so a measured latency always belongs to exactly one round trip.
+ */
+public class EndpointService extends BaseApiService {
+
+    /**
+     * Creates an EndpointService for the configured environment.
+     */
+    public EndpointService() {
+        super();
+    }
+
+    /**
+     * Creates an EndpointService bound to an explicit client configuration.
+     *
+     * @param clientConfig client configuration to send requests with
+     */
+    public EndpointService(ApiClientConfig clientConfig) {
+        super(clientConfig);
+    }
+
+    /**
+     * Sends a request without a body to the given endpoint.
+     *
+     * @param method HTTP method, e.g. GET
+     * @param endpoint endpoint path relative to the base URL, e.g. /products/1
+     * @return Response of the endpoint
+     */
+    public Response send(String method, String endpoint) {
+        logRequest(method, endpoint);
+
+        Response response = given()
+                .spec(getUncachedRequestSpec())
+                .when()
+                .request(method, endpoint);
+
+        logResponse(response.getStatusCode(), endpoint);
+        return response;
+    }
+}
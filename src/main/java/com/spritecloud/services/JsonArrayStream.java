@@ -0,0 +1,93 @@
+package com.spritecloud.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily deserializes a top-level JSON array, one element at a time.
+ *
+ * <p>Design Decision: {@code response.as(Product[].class)} reads the whole body into memory,
+ * builds the full array and copies it into a list, so heap use grows with the size of the
+ * catalogue. Here a Jackson streaming parser reads the body straight from the connection and
+ * binds one element per {@link Stream} step; only the current element is held in memory.
+ */
+final class JsonArrayStream {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private JsonArrayStream() {
+    }
+
+    /**
+     * Opens a stream over the elements of a JSON array. The returned stream owns the input
+     * and must be closed, e.g. with try-with-resources.
+     *
+     * @param input JSON body starting with a top-level array
+     * @param elementType type each element is bound to
+     * @param <T> element type
+     * @return sequential stream of elements, closing the input when closed
+     * @throws UncheckedIOException if the body cannot be read or is not a JSON array
+     */
+    static <T> Stream<T> of(InputStream input, Class<T> elementType) {
+        JsonParser parser;
+        try {
+            parser = MAPPER.getFactory().createParser(input);
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IOException("Expected a JSON array but found " + first);
+            }
+        } catch (IOException e) {
+            closeQuietly(input);
+            throw new UncheckedIOException(e);
+        }
+
+        Spliterator<T> elements = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY) {
+                        return false;
+                    }
+                    if (token == null) {
+                        throw new IOException("Unexpected end of input inside JSON array");
+                    }
+                    action.accept(MAPPER.readValue(parser, elementType));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(elements, false).onClose(() -> {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void closeQuietly(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException ignored) {
+            // Already failing; the original error is the one worth reporting
+        }
+    }
+}
@@ -4,7 +4,10 @@ import com.spritecloud.models.api.Product;
 import io.restassured.response.Response;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 
@@ -14,6 +17,22 @@ import static io.restassured.RestAssured.given;
  */
 public class ProductService extends BaseApiService {
 
+    /**
+     * Creates a ProductService for the configured environment.
+     */
+    public ProductService() {
+        super();
+    }
+
+    /**
+     * Creates a ProductService bound to an explicit client configuration.
+     *
+     * @param clientConfig client configuration to send requests with
+     */
+    public ProductService(ApiClientConfig clientConfig) {
+        super(clientConfig);
+    }
+
     /**
      * Retrieves all products.
      *
@@ -22,10 +41,10 @@ public class ProductService extends BaseApiService {
     public Response getAllProducts() {
         logRequest("GET", PRODUCTS_ENDPOINT);
 
-        Response response = given()
+        Response response = hedged(PRODUCTS_ENDPOINT, () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(PRODUCTS_ENDPOINT);
+                .get(PRODUCTS_ENDPOINT));
 
         logResponse(response.getStatusCode(), PRODUCTS_ENDPOINT);
         return response;
@@ -41,10 +60,10 @@ public class ProductService extends BaseApiService {
         String endpoint = PRODUCTS_ENDPOINT + "/" + productId;
         logRequest("GET", endpoint);
 
-        Response response = given()
+        Response response = hedged(PRODUCTS_ENDPOINT + "/{id}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -85,10 +104,10 @@ public class ProductService extends BaseApiService {
         String endpoint = PRODUCTS_ENDPOINT + "/category/" + category;
         logRequest("GET", endpoint);
 
-        Response response = given()
+        Response response = hedged(PRODUCTS_ENDPOINT + "/category/{category}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -103,10 +122,10 @@ public class ProductService extends BaseApiService {
         String endpoint = PRODUCTS_ENDPOINT + "/categories";
         logRequest("GET", endpoint);
 
-        Response response = given()
+        Response response = hedged(PRODUCTS_ENDPOINT + "/categories", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -122,10 +141,10 @@ public class ProductService extends BaseApiService {
         String endpoint = PRODUCTS_ENDPOINT + "/" + invalidId;
         logRequest("GET", endpoint + " (Invalid ID)");
 
-        Response response = given()
+        Response response = hedged(PRODUCTS_ENDPOINT + "/{id}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -141,12 +160,84 @@ public class ProductService extends BaseApiService {
         String endpoint = PRODUCTS_ENDPOINT + "/" + nonExistentId;
         logRequest("GET", endpoint + " (Non-existent)");
 
-        Response response = given()
+        Response response = hedged(PRODUCTS_ENDPOINT + "/{id}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
     }
+
+    /**
+     * Retrieves all products asynchronously.
+     *
+     * @return future completed with the list of products
+     */
+    public CompletableFuture<List<Product>> getAllProductsAsync() {
+        return async(() -> extractProductList(expectSuccess(getAllProducts(), PRODUCTS_ENDPOINT)));
+    }
+
+    /**
+     * Retrieves a specific product by ID asynchronously.
+     *
+     * @param productId Product ID to retrieve
+     * @return future completed with the product, or exceptionally if no product has that ID
+     */
+    public CompletableFuture<Product> getProductByIdAsync(Integer productId) {
+        String endpoint = PRODUCTS_ENDPOINT + "/" + productId;
+        return async(() -> expectFound(extractProduct(expectSuccess(getProductById(productId), endpoint)), endpoint));
+    }
+
+    /**
+     * Retrieves products by category asynchronously.
+     *
+     * @param category Product category
+     * @return future completed with the filtered products
+     */
+    public CompletableFuture<List<Product>> getProductsByCategoryAsync(String category) {
+        return async(() -> extractProductList(
+                expectSuccess(getProductsByCategory(category), PRODUCTS_ENDPOINT + "/category/" + category)));
+    }
+
+    /**
+     * Retrieves all product categories asynchronously.
+     *
+     * @return future completed with the category names
+     */
+    public CompletableFuture<List<String>> getAllCategoriesAsync() {
+        return async(() -> expectSuccess(getAllCategories(), PRODUCTS_ENDPOINT + "/categories")
+                .jsonPath().getList("", String.class));
+    }
+
+    /**
+     * Retrieves many products by ID, using the configured bulk concurrency.
+     *
+     * @param productIds Product IDs to retrieve
+     * @return one entry per ID in input order, holding the product or the failure
+     */
+    public BulkResult<Product> getProductsByIds(Collection<Integer> productIds) {
+        return getProductsByIds(productIds, config.getApiBulkConcurrency());
+    }
+
+    /**
+     * Retrieves many products by ID with at most {@code maxConcurrency} requests in flight.
+     *
+     * @param productIds Product IDs to retrieve
+     * @param maxConcurrency maximum number of concurrent requests
+     * @return one entry per ID in input order, holding the product or the failure
+     */
+    public BulkResult<Product> getProductsByIds(Collection<Integer> productIds, int maxConcurrency) {
+        return fetchAll(productIds, maxConcurrency, this::getProductByIdAsync);
+    }
+
+    /**
+     * Streams all products from the list endpoint without buffering the response.
+     * Use for very large catalogues; close the stream, e.g. with try-with-resources.
+     *
+     * @return lazily populated stream of products
+     */
+    public Stream<Product> streamAllProducts() {
+        return streamArray(PRODUCTS_ENDPOINT, Product.class);
+    }
 }
@@ -4,8 +4,11 @@ import com.spritecloud.models.api.User;
 import io.restassured.response.Response;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 
@@ -15,6 +18,22 @@ import static io.restassured.RestAssured.given;
  */
 public class UserService extends BaseApiService {
 
+    /**
+     * Creates a UserService for the configured environment.
+     */
+    public UserService() {
+        super();
+    }
+
+    /**
+     * Creates a UserService bound to an explicit client configuration.
+     *
+     * @param clientConfig client configuration to send requests with
+     */
+    public UserService(ApiClientConfig clientConfig) {
+        super(clientConfig);
+    }
+
     /**
      * Retrieves all users.
      *
@@ -23,10 +42,10 @@ public class UserService extends BaseApiService {
     public Response getAllUsers() {
         logRequest("GET", USERS_ENDPOINT);
 
-        Response response = given()
+        Response response = hedged(USERS_ENDPOINT, () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(USERS_ENDPOINT);
+                .get(USERS_ENDPOINT));
 
         logResponse(response.getStatusCode(), USERS_ENDPOINT);
         return response;
@@ -42,10 +61,10 @@ public class UserService extends BaseApiService {
         String endpoint = USERS_ENDPOINT + "/" + userId;
         logRequest("GET", endpoint);
 
-        Response response = given()
+        Response response = hedged(USERS_ENDPOINT + "/{id}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
@@ -144,11 +163,11 @@ public class UserService extends BaseApiService {
     public Response getUsersWithLimit(Integer limit) {
         logRequest("GET", USERS_ENDPOINT + "?limit=" + limit);
 
-        Response response = given()
+        Response response = hedged(USERS_ENDPOINT, () -> given()
                 .spec(getRequestSpec())
                 .queryParam("limit", limit)
                 .when()
-                .get(USERS_ENDPOINT);
+                .get(USERS_ENDPOINT));
 
         logResponse(response.getStatusCode(), USERS_ENDPOINT);
         return response;
@@ -163,11 +182,11 @@ public class UserService extends BaseApiService {
     public Response getUsersSorted(String sort) {
         logRequest("GET", USERS_ENDPOINT + "?sort=" + sort);
 
-        Response response = given()
+        Response response = hedged(USERS_ENDPOINT, () -> given()
                 .spec(getRequestSpec())
                 .queryParam("sort", sort)
                 .when()
-                .get(USERS_ENDPOINT);
+                .get(USERS_ENDPOINT));
 
         logResponse(response.getStatusCode(), USERS_ENDPOINT);
         return response;
@@ -202,12 +221,95 @@ public class UserService extends BaseApiService {
         String endpoint = USERS_ENDPOINT + "/" + invalidId;
         logRequest("GET", endpoint + " (Invalid ID)");
 
-        Response response = given()
+        Response response = hedged(USERS_ENDPOINT + "/{id}", () -> given()
                 .spec(getRequestSpec())
                 .when()
-                .get(endpoint);
+                .get(endpoint));
 
         logResponse(response.getStatusCode(), endpoint);
         return response;
     }
+
+    /**
+     * Retrieves all users asynchronously.
+     *
+     * @return future completed with the list of users
+     */
+    public CompletableFuture<List<User>> getAllUsersAsync() {
+        return async(() -> extractUserList(expectSuccess(getAllUsers(), USERS_ENDPOINT)));
+    }
+
+    /**
+     * Retrieves a specific user by ID asynchronously.
+     *
+     * @param userId User ID to retrieve
+     * @return future completed with the user, or exceptionally if no user has that ID
+     */
+    public CompletableFuture<User> getUserByIdAsync(Integer userId) {
+        String endpoint = USERS_ENDPOINT + "/" + userId;
+        return async(() -> expectFound(extractUser(expectSuccess(getUserById(userId), endpoint)), endpoint));
+    }
+
+    /**
+     * Creates a new user asynchronously.
+     *
+     * @param userData User data map
+     * @return future completed with the created user
+     */
+    public CompletableFuture<User> createUserAsync(Map<String, Object> userData) {
+        return async(() -> extractUser(expectSuccess(createUser(userData), USERS_ENDPOINT)));
+    }
+
+    /**
+     * Updates an existing user asynchronously.
+     *
+     * @param userId User ID to update
+     * @param userData Updated user data
+     * @return future completed with the updated user
+     */
+    public CompletableFuture<User> updateUserAsync(Integer userId, Map<String, Object> userData) {
+        return async(() -> extractUser(
+                expectSuccess(updateUser(userId, userData), USERS_ENDPOINT + "/" + userId)));
+    }
+
+    /**
+     * Deletes a user asynchronously.
+     *
+     * @param userId User ID to delete
+     * @return future completed with the deleted user
+     */
+    public CompletableFuture<User> deleteUserAsync(Integer userId) {
+        return async(() -> extractUser(expectSuccess(deleteUser(userId), USERS_ENDPOINT + "/" + userId)));
+    }
+
+    /**
+     * Retrieves many users by ID, using the configured bulk concurrency.
+     *
+     * @param userIds User IDs to retrieve
+     * @return one entry per ID in input order, holding the user or the failure
+     */
+    public BulkResult<User> getUsersByIds(Collection<Integer> userIds) {
+        return getUsersByIds(userIds, config.getApiBulkConcurrency());
+    }
+
+    /**
+     * Retrieves many users by ID with at most {@code maxConcurrency} requests in flight.
+     *
+     * @param userIds User IDs to retrieve
+     * @param maxConcurrency maximum number of concurrent requests
+     * @return one entry per ID in input order, holding the user or the failure
+     */
+    public BulkResult<User> getUsersByIds(Collection<Integer> userIds, int maxConcurrency) {
+        return fetchAll(userIds, maxConcurrency, this::getUserByIdAsync);
+    }
+
+    /**
+     * Streams all users from the list endpoint without buffering the response.
+     * Use for very large catalogues; close the stream, e.g. with try-with-resources.
+     *
+     * @return lazily populated stream of users
+     */
+    public Stream<User> streamAllUsers() {
+        return streamArray(USERS_ENDPOINT, User.class);
+    }
 }
@@ -2,15 +2,18 @@ package com.spritecloud.testrail;
 
 import com.codepine.api.testrail.TestRail;
 import com.codepine.api.testrail.model.*;
+import com.spritecloud.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Client for interacting with TestRail API.
  * Handles test case creation, test run management, and result reporting.
+ * The duration and outcome of every TestRail call are recorded as run metrics.
  */
 public class TestRailClient {
 
@@ -44,7 +47,7 @@ public class TestRailClient {
     public int getOrCreateSuite(String suiteName, String description) {
         try {
             // Try to find existing suite
-            List<Suite> suites = testRail.suites().list(config.getProjectId()).execute();
+            List<Suite> suites = call("get_suites", () -> testRail.suites().list(config.getProjectId()).execute());
             for (Suite suite : suites) {
                 if (suite.getName().equals(suiteName)) {
                     logger.info("Found existing suite: {} (ID: {})", suiteName, suite.getId());
@@ -54,8 +57,8 @@ public class TestRailClient {
             }
 
             // Create new suite if not found
-            Suite newSuite = testRail.suites().add(config.getProjectId(),
-                    new Suite().setName(suiteName).setDescription(description)).execute();
+            Suite newSuite = call("add_suite", () -> testRail.suites().add(config.getProjectId(),
+                    new Suite().setName(suiteName).setDescription(description)).execute());
             logger.info("Created new suite: {} (ID: {})", suiteName, newSuite.getId());
             this.suiteId = newSuite.getId();
             return newSuite.getId();
@@ -76,7 +79,7 @@ public class TestRailClient {
                     .setTypeId(1) // Automated
                     .setPriorityId(tags.contains("@Smoke") ? 4 : 2); // Critical for smoke, Medium for others
 
-            Case createdCase = testRail.cases().add(suiteId, testCase, new ArrayList<>()).execute();
+            Case createdCase = call("add_case", () -> testRail.cases().add(suiteId, testCase, new ArrayList<>()).execute());
             logger.info("Created test case: {} (ID: C{})", title, createdCase.getId());
             return createdCase.getId();
 
@@ -101,7 +104,7 @@ public class TestRailClient {
                 run.setCaseIds(caseIds);
             }
 
-            Run createdRun = testRail.runs().add(config.getProjectId(), run).execute();
+            Run createdRun = call("add_run", () -> testRail.runs().add(config.getProjectId(), run).execute());
             this.runId = createdRun.getId();
             logger.info("Created test run: {} (ID: {})", runName, createdRun.getId());
             return createdRun.getId();
@@ -130,7 +133,7 @@ public class TestRailClient {
                 result.setElapsed(elapsedSeconds + "s");
             }
 
-            testRail.results().addForCase(runId, caseId, result, new ArrayList<>()).execute();
+            call("add_result_for_case", () -> testRail.results().addForCase(runId, caseId, result, new ArrayList<>()).execute());
             logger.info("Added result for case C{}: {} - {}", caseId, getStatusName(statusId), comment);
 
         } catch (Exception e) {
@@ -148,7 +151,7 @@ public class TestRailClient {
         }
 
         try {
-            testRail.runs().close(runId).execute();
+            call("close_run", () -> testRail.runs().close(runId).execute());
             logger.info("Closed test run: {}", runId);
             runId = null;
         } catch (Exception e) {
@@ -156,6 +159,29 @@ public class TestRailClient {
         }
     }
 
+    /**
+     * Executes a TestRail API call and records its duration, and a failure if it throws.
+     *
+     * @param operation TestRail API method, used as metric label
+     * @param request the call to execute
+     * @param <T> response type
+     * @return the call's response
+     */
+    private <T> T call(String operation, Supplier<T> request) {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        long start = System.nanoTime();
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            metrics.counter("testrail_request_failures_total", "TestRail API calls that failed",
+                    "operation", operation).increment();
+            throw e;
+        } finally {
+            metrics.timer("testrail_request_duration_seconds", "TestRail API call duration",
+                    "operation", operation).recordSince(start);
+        }
+    }
+
     private String getStatusName(int statusId) {
         return switch (statusId) {
             case STATUS_PASSED -> "PASSED";
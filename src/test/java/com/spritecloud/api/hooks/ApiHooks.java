@@ -1,16 +1,38 @@
 package com.spritecloud.api.hooks;
 
 import com.spritecloud.api.mock.MockApiServer;
+import com.spritecloud.api.perf.LoadRunner;
 import com.spritecloud.api.steps.TestContext;
 import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.http.HedgingPolicy;
+import com.spritecloud.http.HttpConnectionPool;
+import com.spritecloud.http.MockNetworkProfileFilter;
+import com.spritecloud.http.ResponseCache;
+import com.spritecloud.http.TrafficLog;
+import com.spritecloud.http.TransferStats;
+import com.spritecloud.metrics.MetricsRegistry;
+import com.spritecloud.metrics.MetricsServer;
+import com.spritecloud.perf.LatencyRecorder;
+import com.spritecloud.perf.PerformanceBaseline;
+import com.spritecloud.perf.ScenarioResources;
+import com.spritecloud.perf.ScenarioTimings;
+import com.spritecloud.perf.ThreadResourceUsage;
+import com.spritecloud.utils.AssertionUtils;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
+import io.cucumber.java.Status;
+import org.junit.jupiter.api.Assumptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
 /**
  * Cucumber hooks for API test lifecycle management.
  * Handles setup, teardown, and logging for API test scenarios.
@@ -20,6 +42,7 @@ public class ApiHooks {
     private static final Logger logger = LoggerFactory.getLogger(ApiHooks.class);
     private final TestContext context;
     private final ConfigurationManager config;
+    private long scenarioStartNanos;
 
     /**
      * Starts the mock API server before all API tests (once per test run).
@@ -33,7 +56,7 @@ public class ApiHooks {
             logger.info("========================================");
             logger.info("Mock API mode is ENABLED - starting WireMock server");
             logger.info("This bypasses Cloudflare protection in CI/CD");
-            MockApiServer.start();
+            MockApiServer.getInstance().start();
             logger.info("Mock server started at: {}", config.getMockApiUrl());
             logger.info("========================================");
         } else {
@@ -46,13 +69,125 @@ public class ApiHooks {
      */
     @AfterAll
     public static void stopMockServer() {
-        if (MockApiServer.isRunning()) {
+        if (MockApiServer.isInitialized() && MockApiServer.getInstance().isRunning()) {
             logger.info("Stopping mock API server");
-            MockApiServer.stop();
+            MockApiServer.getInstance().stop();
             logger.info("Mock API server stopped successfully");
         }
     }
 
+    /**
+     * Logs HTTP connection pool and transfer counters after all API tests complete,
+     * showing how many handshakes and bytes were saved through reuse and compression.
+     */
+    @AfterAll
+    public static void logConnectionPoolStats() {
+        if (HttpConnectionPool.isInitialized()) {
+            HttpConnectionPool.getInstance().logStats();
+        }
+        TransferStats.logStats();
+    }
+
+    /**
+     * Serves run metrics on METRICS_PORT while the API tests run, if a port is configured.
+     */
+    @BeforeAll
+    public static void startMetricsServer() {
+        MetricsServer.startIfConfigured();
+    }
+
+    /**
+     * Writes the run metrics to metrics.prom in the performance report directory
+     * and stops the metrics endpoint.
+     */
+    @AfterAll
+    public static void writeMetrics() {
+        MetricsRegistry.getInstance().writeReport(Path.of(ConfigurationManager.getInstance().getPerfReportDir()));
+        MetricsServer.stop();
+    }
+
+    /**
+     * Writes the heap allocation and CPU time of every scenario to scenario-resources.json
+     * in the performance report directory.
+     */
+    @AfterAll
+    public static void writeScenarioResourceReport() {
+        if (ScenarioResources.hasSamples()) {
+            ScenarioResources.writeReport(Path.of(ConfigurationManager.getInstance().getPerfReportDir()));
+        }
+    }
+
+    /**
+     * Writes per-endpoint latency percentiles recorded by every service call
+     * to latency.json in the performance report directory.
+     */
+    @AfterAll
+    public static void writeLatencyReport() {
+        if (LatencyRecorder.hasSamples()) {
+            LatencyRecorder.writeReport(Path.of(ConfigurationManager.getInstance().getPerfReportDir()));
+        }
+    }
+
+    /**
+     * Compares scenario durations and endpoint latencies of this suite with its stored performance
+     * baseline, kept per runner and per target API, and fails the run when anything regressed beyond
+     * tolerance (if PERF_BASELINE_GATE is enabled). Each comparison is also written as a JUnit XML test case. Skipped during load runs,
+     * whose durations under concurrent users say nothing about the single-user baseline.
+     */
+    @AfterAll
+    public static void checkPerformanceBaseline() {
+        if (LoadRunner.isRunning()) {
+            return;
+        }
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        PerformanceBaseline.Snapshot current = PerformanceBaseline.capture();
+        if (current.scenarios().isEmpty() && current.endpoints().isEmpty()) {
+            return;
+        }
+        PerformanceBaseline.Tolerances tolerances = new PerformanceBaseline.Tolerances(
+                config.getPerfScenarioTolerancePercent(),
+                config.getPerfEndpointTolerancePercent(),
+                config.getPerfToleranceMinDeltaMs());
+        List<PerformanceBaseline.Comparison> regressions = PerformanceBaseline.evaluate(current,
+                        PerformanceBaseline.baselineDirectory(Path.of(config.getPerfBaselineDir()),
+                                config.isMockApiEnabled() ? "mock" : config.getApiBaseUrl()),
+                        Path.of(config.getPerfReportDir()),
+                        tolerances, config.isPerfBaselineUpdateEnabled()).stream()
+                .filter(PerformanceBaseline.Comparison::isRegression)
+                .toList();
+        if (regressions.isEmpty()) {
+            return;
+        }
+
+        String summary = regressions.stream()
+                .map(PerformanceBaseline.Comparison::toString)
+                .collect(Collectors.joining("\n  ", "Performance regressed against baseline:\n  ", ""));
+        if (config.isPerfBaselineGateEnabled()) {
+            throw new AssertionError(summary);
+        }
+        logger.warn(summary);
+    }
+
+    /**
+     * Logs response cache counters after all API tests complete, when caching was enabled.
+     */
+    @AfterAll
+    public static void logResponseCacheStats() {
+        if (ResponseCache.isInitialized()) {
+            ResponseCache.getInstance().logStats();
+        }
+    }
+
+    /**
+     * Logs how often hedged GET requests fired and won, when hedging was enabled.
+     */
+    @AfterAll
+    public static void logHedgingStats() {
+        if (HedgingPolicy.isInitialized() && HedgingPolicy.getInstance().isEnabled()) {
+            HedgingPolicy.getInstance().logStats();
+        }
+    }
+
     /**
      * Constructs ApiHooks with shared test context.
      *
@@ -66,6 +201,8 @@ public class ApiHooks {
     /**
      * Executes before each scenario to initialize test environment.
      * Logs scenario details, validates configuration, and resets context.
+     * In mock API mode, binds the scenario's {@code @MockLatency:<profile>} and
+     * {@code @MockBandwidthKbps:<n>} tags to the requests it sends.
      *
      * @param scenario the Cucumber scenario being executed
      */
@@ -80,16 +217,27 @@ public class ApiHooks {
 
         config.validateConfiguration();
         context.reset();
+        TrafficLog.begin(config.getApiLogCaptureMaxBytes());
+        if (config.isMockApiEnabled()) {
+            MockNetworkProfileFilter.bind(tagValue(scenario, "@MockLatency:"), tagValue(scenario, "@MockBandwidthKbps:"));
+        }
+        scenarioStartNanos = System.nanoTime();
+        context.setResourceUsage(ThreadResourceUsage.start());
     }
 
     /**
      * Executes after each scenario to log results and perform cleanup.
-     * Captures detailed error information for failed scenarios.
+     * Captures detailed error information for failed scenarios, including the
+     * request/response traffic recorded during the scenario. Attaches the phase timings of
+     * every request to failed scenarios and to those slower than API_TIMINGS_ATTACH_MIN_MS,
+     * so slow scenarios can be diagnosed even when they pass. Records the heap allocation and
+     * CPU time of the scenario and fails it when a {@code @MaxAllocationMB:<n>} budget is exceeded.
      *
      * @param scenario the Cucumber scenario that was executed
      */
     @After
     public void afterScenario(Scenario scenario) {
+        long scenarioNanos = System.nanoTime() - scenarioStartNanos;
         logger.info("========================================");
         logger.info("Finished Scenario: {}", scenario.getName());
         logger.info("Status: {}", scenario.getStatus());
@@ -101,11 +249,59 @@ public class ApiHooks {
                 logger.error("Response Status: {}", context.getResponse().getStatusCode());
                 logger.error("Response Body: {}", context.getResponse().getBody().asPrettyString());
             }
-        } else {
+
+            TrafficLog trafficLog = TrafficLog.current();
+            if (trafficLog != null && trafficLog.size() > 0) {
+                String traffic = trafficLog.render();
+                logger.error("API traffic for failed scenario:\n{}", traffic);
+                scenario.attach(traffic, "text/plain", "api-traffic");
+            }
+        } else if (scenario.getStatus() == Status.PASSED) {
             logger.info("Scenario PASSED: {}", scenario.getName());
+            if (!LoadRunner.isRunning()) {
+                ScenarioTimings.record(scenarioKey(scenario), scenarioNanos);
+            }
+        }
+
+        TrafficLog timedLog = TrafficLog.current();
+        if (timedLog != null && timedLog.size() > 0
+                && (scenario.isFailed() || scenarioNanos >= config.getApiTimingsAttachMinMs() * 1_000_000)) {
+            scenario.attach(timedLog.renderTimings(), "text/plain", "api-timings");
+        }
+
+        TrafficLog.end();
+        MockNetworkProfileFilter.clear();
+
+        ThreadResourceUsage.Usage usage = null;
+        if (context.getResourceUsage() != null) {
+            usage = context.getResourceUsage().measure();
+            ScenarioResources.record(scenarioKey(scenario), usage);
+            logger.info("Scenario resources: {}", usage);
         }
 
         logger.info("========================================\n");
+
+        OptionalLong budget = ScenarioResources.allocationBudgetMegabytes(scenario.getSourceTagNames());
+        if (usage != null && budget.isPresent() && !scenario.isFailed()) {
+            AssertionUtils.assertAllocationWithinBudget(scenario.getName(), usage, budget.getAsLong());
+        }
+    }
+
+    /**
+     * Gets the value of the first scenario tag with the given prefix, e.g. {@code fixed:300}
+     * for {@code @MockLatency:fixed:300}.
+     */
+    private static String tagValue(Scenario scenario, String prefix) {
+        return scenario.getSourceTagNames().stream()
+                .filter(tag -> tag.startsWith(prefix))
+                .map(tag -> tag.substring(prefix.length()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String scenarioKey(Scenario scenario) {
+        String path = scenario.getUri().toString();
+        return path.substring(path.lastIndexOf('/') + 1) + ": " + scenario.getName();
     }
 
     /**
@@ -119,6 +315,16 @@ public class ApiHooks {
         logger.info("Initializing API test scenario");
     }
 
+    /**
+     * Skips scenarios that only make sense against the mock API, such as injected latency,
+     * store writes or request volumes the real API must not receive, when MOCK_API is disabled.
+     * Tagged with @MockApi in feature files.
+     */
+    @Before(value = "@MockApi", order = 0)
+    public void requireMockApi() {
+        Assumptions.assumeTrue(config.isMockApiEnabled(), "Scenario requires MOCK_API=true");
+    }
+
     /**
      * Executes after negative test scenarios to log error responses.
      * Tagged with @NegativeTest in feature files.
@@ -0,0 +1,193 @@
+package com.spritecloud.api.mock;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.spritecloud.api.mock.MockDataStore.Resource;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes FakeStoreAPI requests to a {@link MockDataStore}, independent of the HTTP server in front of it.
+ *
+ * <p>Follows FakeStoreAPI semantics where the suite depends on them: an unknown id answers 200 with
+ * a {@code null} body, creates answer 201, and a login succeeds for any stored user name and password.
+ */
+public class MockApiHandler {
+
+    /** Token returned for every successful login */
+    static final String TOKEN = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJzdWIiOjEsInVzZXIiOiJqb2huZCIsImlhdCI6MTY0NjkyOTUwMH0.test";
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final MockDataStore store;
+
+    public MockApiHandler(MockDataStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Handles one request.
+     *
+     * @param method HTTP method
+     * @param url request path including the query string
+     * @param body request body, may be null or empty
+     * @return status code and JSON body to answer with
+     */
+    public Result handle(String method, String url, String body) {
+        URI uri = URI.create(url);
+        List<String> segments = new ArrayList<>();
+        for (String segment : uri.getRawPath().split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+        }
+        if (segments.isEmpty()) {
+            return notFound();
+        }
+        if (segments.equals(List.of("auth", "login")) && "POST".equals(method)) {
+            return login(body);
+        }
+
+        Resource resource = Resource.fromPath(segments.get(0));
+        if (resource == null) {
+            return notFound();
+        }
+        try {
+            return switch (segments.size()) {
+                case 1 -> handleCollection(resource, method, queryOf(uri), body);
+                case 2 -> handleEntity(resource, method, segments.get(1), body);
+                case 3 -> handleIndex(resource, method, segments.get(1), segments.get(2), queryOf(uri));
+                default -> notFound();
+            };
+        } catch (NumberFormatException | JsonParseException | IllegalStateException e) {
+            return error(400, "Invalid request: " + e.getMessage());
+        }
+    }
+
+    private Result handleCollection(Resource resource, String method, Map<String, String> query, String body) {
+        return switch (method) {
+            case "GET" -> json(200, limitAndSort(store.all(resource), query));
+            case "POST" -> json(201, store.create(resource, parseObject(body)));
+            default -> notFound();
+        };
+    }
+
+    private Result handleEntity(Resource resource, String method, String segment, String body) {
+        if (resource == Resource.PRODUCTS && "categories".equals(segment) && "GET".equals(method)) {
+            return json(200, store.keys(Resource.PRODUCTS));
+        }
+        int id = Integer.parseInt(segment);
+        return switch (method) {
+            case "GET" -> json(200, store.get(resource, id));
+            case "PUT" -> json(200, store.update(resource, id, parseObject(body), false));
+            case "PATCH" -> json(200, store.update(resource, id, parseObject(body), true));
+            case "DELETE" -> json(200, store.delete(resource, id));
+            default -> notFound();
+        };
+    }
+
+    private Result handleIndex(Resource resource, String method, String index, String key, Map<String, String> query) {
+        if (!"GET".equals(method)) {
+            return notFound();
+        }
+        boolean productsByCategory = resource == Resource.PRODUCTS && "category".equals(index);
+        boolean cartsByUser = resource == Resource.CARTS && "user".equals(index);
+        if (!productsByCategory && !cartsByUser) {
+            return notFound();
+        }
+        String indexKey = cartsByUser ? String.valueOf(Integer.parseInt(key)) : key;
+        return json(200, limitAndSort(store.find(resource, indexKey), query));
+    }
+
+    private Result login(String body) {
+        JsonObject credentials;
+        try {
+            credentials = parseObject(body);
+        } catch (JsonParseException | IllegalStateException e) {
+            credentials = new JsonObject();
+        }
+        JsonElement username = credentials.get("username");
+        JsonElement password = credentials.get("password");
+        if (username == null || password == null || username.isJsonNull() || password.isJsonNull()) {
+            return error(400, "username and password are not provided in JSON format");
+        }
+        boolean valid = store.find(Resource.USERS, username.getAsString()).stream()
+                .anyMatch(user -> password.getAsString().equals(user.get("password").getAsString()));
+        if (!valid) {
+            return error(401, "username or password is incorrect");
+        }
+        JsonObject token = new JsonObject();
+        token.addProperty("token", TOKEN);
+        return json(201, token);
+    }
+
+    private static List<JsonObject> limitAndSort(List<JsonObject> entities, Map<String, String> query) {
+        if ("desc".equalsIgnoreCase(query.get("sort"))) {
+            Collections.reverse(entities);
+        }
+        String limit = query.get("limit");
+        if (limit != null) {
+            int max = Integer.parseInt(limit);
+            if (max >= 0 && max < entities.size()) {
+                return entities.subList(0, max);
+            }
+        }
+        return entities;
+    }
+
+    private static JsonObject parseObject(String body) {
+        if (body == null || body.isBlank()) {
+            return new JsonObject();
+        }
+        return JsonParser.parseString(body).getAsJsonObject();
+    }
+
+    private static Map<String, String> queryOf(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw != null) {
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                String name = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static Result json(int status, Object body) {
+        return new Result(status, GSON.toJson(body == null ? JsonNull.INSTANCE : body));
+    }
+
+    private static Result error(int status, String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        return json(status, error);
+    }
+
+    private static Result notFound() {
+        return error(404, "Not found");
+    }
+
+    /**
+     * Status code and JSON body of a handled request.
+     *
+     * @param status HTTP status code
+     * @param body JSON response body
+     */
+    public record Result(int status, String body) {
+    }
+}
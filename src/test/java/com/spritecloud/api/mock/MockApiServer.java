@@ -2,9 +2,15 @@ package com.spritecloud.api.mock;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.metrics.MetricsRegistry;
+import com.spritecloud.services.ApiClientConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
 /**
@@ -15,283 +21,263 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
  * used in the test suite.
  *
  * Architecture Decision:
- * - Mock server runs on port 8089 to avoid conflicts
+ * - Binds a free ephemeral port by default (MOCK_API_PORT), so several surefire forks
+ *   or pipelines can run on one host without port clashes
+ * - The shared per-JVM instance publishes its actual URL to ConfigurationManager,
+ *   from which all services resolve their base URL
+ * - Further independent instances can run side by side in one JVM for isolated
+ *   scenario groups; services reach them through {@link #clientConfig()}
  * - Conditionally enabled via MOCK_API environment variable
- * - Provides realistic response data matching FakeStoreAPI schema
- * - Supports all CRUD operations tested in the framework
+ * - Serves every endpoint from an indexed in-memory {@link MockDataStore} seeded with
+ *   FakeStoreAPI sample data; writes persist only when MOCK_API_PERSIST_WRITES is true
+ * - Optionally adds a large, seed-driven synthetic catalogue (MOCK_API_SYNTHETIC_*),
+ *   generated once and reused from MOCK_API_DATASET_FILE
+ * - Replays interactions recorded from the real API (MOCK_API_CASSETTE) before falling back to the
+ *   store; with MOCK_API_RECORD the shared instance proxies to API_BASE_URL and records them instead
+ * - Injects per-endpoint latency and bandwidth limits (MOCK_API_LATENCY, MOCK_API_BANDWIDTH_KBPS,
+ *   or @MockLatency / @MockBandwidthKbps scenario tags) to mimic slow and jittery backends
+ * - Counts served requests per method and status in the run metrics
  */
 public class MockApiServer {
 
     private static final Logger logger = LoggerFactory.getLogger(MockApiServer.class);
-    private static WireMockServer wireMockServer;
-    private static final int MOCK_PORT = 8089;
+    private static MockApiServer instance;
+
+    private final int requestedPort;
+    private final boolean publishUrl;
+    private final MockDataStore dataStore;
+    private final Path cassetteFile;
+    private final boolean recording;
+    private final MockCassette cassette;
+    private volatile MockNetworkProfile networkProfile;
+    private WireMockServer wireMockServer;
+
+    /**
+     * Creates an independent mock server with its own copy of the configured data,
+     * not published to ConfigurationManager.
+     *
+     * @param port port to bind, or 0 for a free ephemeral port
+     */
+    public MockApiServer(int port) {
+        this(port, createDataStore(ConfigurationManager.getInstance()));
+    }
+
+    /**
+     * Creates an independent mock server serving the given data,
+     * not published to ConfigurationManager.
+     *
+     * @param port port to bind, or 0 for a free ephemeral port
+     * @param dataStore data served by the server
+     */
+    public MockApiServer(int port, MockDataStore dataStore) {
+        this(port, dataStore, false, ConfigurationManager.getInstance().getMockApiCassette());
+    }
+
+    /**
+     * Creates an independent mock server that replays the given cassette before falling back
+     * to the given data, not published to ConfigurationManager.
+     *
+     * @param port port to bind, or 0 for a free ephemeral port
+     * @param dataStore data served for requests missing from the cassette
+     * @param cassetteFile cassette to replay, written by {@link MockCassette#write(Path)}
+     */
+    public MockApiServer(int port, MockDataStore dataStore, Path cassetteFile) {
+        this(port, dataStore, false, cassetteFile.toString());
+    }
+
+    private MockApiServer(int port, MockDataStore dataStore, boolean publishUrl, String file) {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Invalid mock API port: " + port);
+        }
+        this.requestedPort = port;
+        this.dataStore = dataStore;
+        this.publishUrl = publishUrl;
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        this.networkProfile = MockNetworkProfile.fromConfiguration(config);
+        // Independent instances only replay, so they never overwrite the shared instance's recording
+        this.recording = publishUrl && config.isMockApiRecordEnabled();
+        if (file.isEmpty()) {
+            if (recording) {
+                throw new IllegalStateException("MOCK_API_RECORD requires MOCK_API_CASSETTE to name the cassette file");
+            }
+            this.cassetteFile = null;
+            this.cassette = null;
+        } else {
+            this.cassetteFile = Path.of(file);
+            if (Files.exists(cassetteFile)) {
+                this.cassette = MockCassette.load(cassetteFile);
+            } else if (recording) {
+                this.cassette = new MockCassette();
+            } else {
+                throw new IllegalStateException("Mock API cassette not found: " + cassetteFile
+                        + " (record it with MOCK_API_RECORD=true)");
+            }
+        }
+    }
+
+    /**
+     * Gets the shared mock server of this JVM, bound to MOCK_API_PORT once started.
+     *
+     * @return shared MockApiServer instance
+     */
+    public static synchronized MockApiServer getInstance() {
+        if (instance == null) {
+            ConfigurationManager config = ConfigurationManager.getInstance();
+            instance = new MockApiServer(config.getMockApiPort(), createDataStore(config), true,
+                    config.getMockApiCassette());
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the data store configured by the MOCK_API_* settings: the FakeStoreAPI sample data
+     * plus, if configured, a synthetic catalogue loaded from or generated into MOCK_API_DATASET_FILE.
+     */
+    private static MockDataStore createDataStore(ConfigurationManager config) {
+        MockDataStore store = MockDataStore.seeded(config.isMockApiPersistWritesEnabled());
+        MockDatasetGenerator generator = MockDatasetGenerator.fromConfiguration(config);
+        String datasetFile = config.getMockApiDatasetFile();
+        if (!datasetFile.isEmpty()) {
+            Path file = Path.of(datasetFile);
+            if (Files.notExists(file)) {
+                generator.write(file, store);
+            }
+            store.load(file);
+            logger.info("Mock API data set loaded from {}", file);
+        } else if (!generator.isEmpty()) {
+            generator.populate(store);
+        }
+        return store;
+    }
+
+    /**
+     * Checks whether the shared mock server has been created during this run.
+     *
+     * @return true if {@link #getInstance()} has been called
+     */
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
 
     /**
      * Starts the WireMock server and configures all API stubs
+     *
+     * @return this server, for chaining
      */
-    public static void start() {
-        if (wireMockServer != null && wireMockServer.isRunning()) {
-            logger.warn("Mock API server is already running on port {}", MOCK_PORT);
-            return;
+    public synchronized MockApiServer start() {
+        if (isRunning()) {
+            logger.warn("Mock API server is already running on port {}", getPort());
+            return this;
         }
 
-        wireMockServer = new WireMockServer(
-            WireMockConfiguration.options()
-                .port(MOCK_PORT)
-                .disableRequestJournal() // Reduce memory usage
-        );
+        WireMockConfiguration options = WireMockConfiguration.options()
+                .extensions(new MockApiTransformer(new MockApiHandler(dataStore), networkProfile, cassette,
+                        recording ? ConfigurationManager.getInstance().getApiBaseUrl() : null))
+                .disableRequestJournal(); // Reduce memory usage
+        wireMockServer = new WireMockServer(requestedPort == 0 ? options.dynamicPort() : options.port(requestedPort));
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        wireMockServer.addMockServiceRequestListener((request, response) -> metrics
+                .counter("mock_api_requests_total", "Requests served by the mock API server",
+                        "method", request.getMethod().getName(), "status", String.valueOf(response.getStatus()))
+                .increment());
 
         wireMockServer.start();
         configureStubs();
-        logger.info("Mock API server started successfully on port {}", MOCK_PORT);
+        if (publishUrl) {
+            ConfigurationManager.getInstance().publishMockApiUrl(getBaseUrl());
+        }
+        logger.info("Mock API server started successfully on port {}{}", getPort(),
+                networkProfile.isEmpty() ? "" : " with latency/bandwidth shaping");
+        if (recording) {
+            logger.info("Recording mock API cassette {} from {}", cassetteFile, ConfigurationManager.getInstance().getApiBaseUrl());
+        } else if (cassette != null) {
+            logger.info("Replaying {} recorded interactions from {}", cassette.size(), cassetteFile);
+        }
+        return this;
     }
 
     /**
-     * Stops the WireMock server
+     * Stops the WireMock server and, when recording, writes the cassette
      */
-    public static void stop() {
-        if (wireMockServer != null && wireMockServer.isRunning()) {
+    public synchronized void stop() {
+        if (isRunning()) {
+            int port = getPort();
             wireMockServer.stop();
-            logger.info("Mock API server stopped");
+            if (recording) {
+                cassette.write(cassetteFile);
+                logger.info("Recorded {} interactions to {}", cassette.size(), cassetteFile);
+            }
+            if (publishUrl) {
+                ConfigurationManager.getInstance().publishMockApiUrl(null);
+            }
+            logger.info("Mock API server on port {} stopped", port);
         }
     }
 
     /**
      * Checks if mock server is running
      */
-    public static boolean isRunning() {
+    public synchronized boolean isRunning() {
         return wireMockServer != null && wireMockServer.isRunning();
     }
 
     /**
-     * Gets the base URL of the mock server
+     * Gets the port the server is bound to
+     *
+     * @return actual port, resolved from the ephemeral range if 0 was requested
+     * @throws IllegalStateException if the server is not running
      */
-    public static String getBaseUrl() {
-        return "http://localhost:" + MOCK_PORT;
+    public synchronized int getPort() {
+        if (!isRunning()) {
+            throw new IllegalStateException("Mock API server is not running");
+        }
+        return wireMockServer.port();
     }
 
     /**
-     * Configures all API endpoint stubs with realistic responses
+     * Gets the base URL of the mock server
      */
-    private static void configureStubs() {
-        configureAuthStubs();
-        configureProductStubs();
-        configureUserStubs();
-        configureCartStubs();
-        logger.info("All API stubs configured successfully");
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
     }
 
     /**
-     * Configure authentication endpoint stubs
+     * Gets the data served by this server
+     *
+     * @return backing data store
      */
-    private static void configureAuthStubs() {
-        // POST /auth/login - Successful login
-        wireMockServer.stubFor(post(urlEqualTo("/auth/login"))
-            .withRequestBody(matchingJsonPath("$.username"))
-            .withRequestBody(matchingJsonPath("$.password"))
-            .willReturn(aResponse()
-                .withStatus(201) // FakeStoreAPI returns 201 for successful login
-                .withHeader("Content-Type", "application/json")
-                .withBody("{\"token\":\"eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJzdWIiOjEsInVzZXIiOiJqb2huZCIsImlhdCI6MTY0NjkyOTUwMH0.test\"}")));
-
-        // POST /auth/login - Invalid credentials
-        wireMockServer.stubFor(post(urlEqualTo("/auth/login"))
-            .withRequestBody(equalToJson("{\"username\":\"invalid\",\"password\":\"wrong\"}", true, true))
-            .willReturn(aResponse()
-                .withStatus(401)
-                .withHeader("Content-Type", "application/json")
-                .withBody("{\"error\":\"username or password is incorrect\"}")));
+    public MockDataStore getDataStore() {
+        return dataStore;
     }
 
     /**
-     * Configure product endpoint stubs
+     * Sets the latency and bandwidth shaping of all responses; takes effect on the next start
+     *
+     * @param networkProfile shaping profile, {@link MockNetworkProfile#NONE} to answer immediately
      */
-    private static void configureProductStubs() {
-        // GET /products - Get all products (need at least 6 for test validation)
-        wireMockServer.stubFor(get(urlEqualTo("/products"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    [
-                        {
-                            "id": 1,
-                            "title": "Fjallraven - Foldsack No. 1 Backpack, Fits 15 Laptops",
-                            "price": 109.95,
-                            "description": "Your perfect pack for everyday use",
-                            "category": "men's clothing",
-                            "image": "https://fakestoreapi.com/img/81fPKd-2AYL._AC_SL1500_.jpg",
-                            "rating": {"rate": 3.9, "count": 120}
-                        },
-                        {
-                            "id": 2,
-                            "title": "Mens Casual Premium Slim Fit T-Shirts",
-                            "price": 22.3,
-                            "description": "Slim-fitting style",
-                            "category": "men's clothing",
-                            "image": "https://fakestoreapi.com/img/71-3HjGNDUL._AC_SY879._SX._UX._SY._UY_.jpg",
-                            "rating": {"rate": 4.1, "count": 259}
-                        },
-                        {
-                            "id": 3,
-                            "title": "Mens Cotton Jacket",
-                            "price": 55.99,
-                            "description": "Great outerwear jackets",
-                            "category": "men's clothing",
-                            "image": "https://fakestoreapi.com/img/71li-ujtlUL._AC_UX679_.jpg",
-                            "rating": {"rate": 4.7, "count": 500}
-                        },
-                        {
-                            "id": 4,
-                            "title": "Mens Casual Slim Fit",
-                            "price": 15.99,
-                            "description": "The color could be slightly different",
-                            "category": "men's clothing",
-                            "image": "https://fakestoreapi.com/img/71YXzeOuslL._AC_UY879_.jpg",
-                            "rating": {"rate": 2.1, "count": 430}
-                        },
-                        {
-                            "id": 5,
-                            "title": "John Hardy Women's Legends Naga Gold & Silver Dragon Station Chain Bracelet",
-                            "price": 695,
-                            "description": "From our Legends Collection",
-                            "category": "jewelery",
-                            "image": "https://fakestoreapi.com/img/71pWzhdJNwL._AC_UL640_QL65_ML3_.jpg",
-                            "rating": {"rate": 4.6, "count": 400}
-                        },
-                        {
-                            "id": 6,
-                            "title": "Solid Gold Petite Micropave",
-                            "price": 168,
-                            "description": "Satisfaction Guaranteed",
-                            "category": "jewelery",
-                            "image": "https://fakestoreapi.com/img/61sbMiUnoGL._AC_UL640_QL65_ML3_.jpg",
-                            "rating": {"rate": 3.9, "count": 70}
-                        }
-                    ]
-                    """)));
-
-        // GET /products/1 - Get single product
-        wireMockServer.stubFor(get(urlEqualTo("/products/1"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    {
-                        "id": 1,
-                        "title": "Fjallraven - Foldsack No. 1 Backpack, Fits 15 Laptops",
-                        "price": 109.95,
-                        "description": "Your perfect pack for everyday use",
-                        "category": "men's clothing",
-                        "image": "https://fakestoreapi.com/img/81fPKd-2AYL._AC_SL1500_.jpg",
-                        "rating": {"rate": 3.9, "count": 120}
-                    }
-                    """)));
-
-        // GET /products/999999 - Non-existent product (FakeStoreAPI returns null with 200)
-        wireMockServer.stubFor(get(urlEqualTo("/products/999999"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("null")));
-
-        // GET /products/categories - Get all categories
-        wireMockServer.stubFor(get(urlEqualTo("/products/categories"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    ["electronics","jewelery","men's clothing","women's clothing"]
-                    """)));
+    public void setNetworkProfile(MockNetworkProfile networkProfile) {
+        this.networkProfile = networkProfile;
     }
 
     /**
-     * Configure user endpoint stubs
+     * Gets the API client configuration pointing at this server, for services
+     * of a scenario group that must not share state with other instances.
+     *
+     * @return shared ApiClientConfig for this server's base URL
      */
-    private static void configureUserStubs() {
-        // GET /users/1 - Get single user
-        wireMockServer.stubFor(get(urlEqualTo("/users/1"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    {
-                        "id": 1,
-                        "email": "john@gmail.com",
-                        "username": "johnd",
-                        "password": "m38rmF$",
-                        "name": {"firstname": "john", "lastname": "doe"},
-                        "address": {
-                            "city": "killeen",
-                            "street": "7835 new road",
-                            "number": 3,
-                            "zipcode": "12926-3874",
-                            "geolocation": {"lat": "-37.3159", "long": "81.1496"}
-                        },
-                        "phone": "1-570-236-7033"
-                    }
-                    """)));
-
-        // DELETE /users/1 - Delete user
-        wireMockServer.stubFor(delete(urlEqualTo("/users/1"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    {
-                        "id": 1,
-                        "email": "john@gmail.com",
-                        "username": "johnd",
-                        "password": "m38rmF$",
-                        "name": {"firstname": "john", "lastname": "doe"},
-                        "address": {
-                            "city": "killeen",
-                            "street": "7835 new road",
-                            "number": 3,
-                            "zipcode": "12926-3874",
-                            "geolocation": {"lat": "-37.3159", "long": "81.1496"}
-                        },
-                        "phone": "1-570-236-7033"
-                    }
-                    """)));
+    public ApiClientConfig clientConfig() {
+        return ApiClientConfig.forBaseUrl(getBaseUrl());
     }
 
     /**
-     * Configure cart endpoint stubs
+     * Routes every request to the in-memory data store
      */
-    private static void configureCartStubs() {
-        // GET /carts/user/1 - Get user's carts
-        wireMockServer.stubFor(get(urlEqualTo("/carts/user/1"))
-            .willReturn(aResponse()
-                .withStatus(200)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    [
-                        {
-                            "id": 1,
-                            "userId": 1,
-                            "date": "2020-03-02T00:00:00.000Z",
-                            "products": [
-                                {"productId": 1, "quantity": 4},
-                                {"productId": 2, "quantity": 1}
-                            ]
-                        }
-                    ]
-                    """)));
-
-        // POST /carts - Accept all cart creation requests (FakeStoreAPI is permissive)
-        // Returns 201 even for invalid data as FakeStoreAPI doesn't validate strictly
-        wireMockServer.stubFor(post(urlEqualTo("/carts"))
-            .willReturn(aResponse()
-                .withStatus(201)
-                .withHeader("Content-Type", "application/json")
-                .withBody("""
-                    {
-                        "id": 21,
-                        "userId": 1,
-                        "date": "2020-02-03T00:00:00.000Z",
-                        "products": [{"productId": 1, "quantity": 2}]
-                    }
-                    """)));
+    private void configureStubs() {
+        wireMockServer.stubFor(any(anyUrl())
+            .willReturn(aResponse().withTransformers(MockApiTransformer.NAME)));
+        logger.info("API stubs configured over {} products, {} users and {} carts",
+                dataStore.size(MockDataStore.Resource.PRODUCTS), dataStore.size(MockDataStore.Resource.USERS),
+                dataStore.size(MockDataStore.Resource.CARTS));
     }
 }
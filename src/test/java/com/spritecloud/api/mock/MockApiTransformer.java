@@ -0,0 +1,183 @@
+package com.spritecloud.api.mock;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.spritecloud.http.LatencyRecordingFilter;
+import com.spritecloud.metrics.Counter;
+import com.spritecloud.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * WireMock extension that answers requests from a {@link MockApiHandler}, so WireMock only
+ * contributes the HTTP server while responses come from the in-memory {@link MockDataStore}.
+ *
+ * <p>With a {@link MockCassette}, recorded requests are answered from it and the rest from the store.
+ * In record mode every request is instead forwarded to the real API and its response recorded.
+ *
+ * <p>Each response is delayed and throttled according to the {@link MockNetworkProfile}, using
+ * WireMock's fixed delay before the response and chunked dribble delay for the body.
+ *
+ * <p>Successful GET responses carry an ETag derived from their body, and a GET whose
+ * {@code If-None-Match} matches it is answered with 304 Not Modified and no body, like the
+ * conditional requests a caching client sends to revalidate.
+ */
+public class MockApiTransformer implements ResponseDefinitionTransformerV2 {
+
+    /** Name stubs refer to in {@code withTransformers(...)} */
+    public static final String NAME = "mock-api-store";
+
+    /** Request headers not forwarded to the real API: hop-by-hop, restricted by HttpClient, or mock-only */
+    private static final Set<String> UNFORWARDED_HEADERS = Set.of("host", "connection", "content-length",
+            "expect", "upgrade", "date", "from", "via", "warning", "keep-alive", "transfer-encoding", "accept-encoding",
+            MockNetworkProfile.LATENCY_HEADER.toLowerCase(), MockNetworkProfile.BANDWIDTH_HEADER.toLowerCase());
+
+    private final MockApiHandler handler;
+    private final MockNetworkProfile networkProfile;
+    private final MockCassette cassette;
+    private final String recordFrom;
+    private final HttpClient upstream;
+
+    /**
+     * @param handler answers requests that are not replayed or recorded
+     * @param networkProfile shaping applied to every response
+     * @param cassette interactions to replay or record into, or null
+     * @param recordFrom base URL of the real API to record from, or null to replay the cassette
+     */
+    public MockApiTransformer(MockApiHandler handler, MockNetworkProfile networkProfile,
+                              MockCassette cassette, String recordFrom) {
+        if (recordFrom != null && cassette == null) {
+            throw new IllegalArgumentException("Recording requires a cassette to record into");
+        }
+        this.handler = handler;
+        this.networkProfile = networkProfile;
+        this.cassette = cassette;
+        this.recordFrom = recordFrom == null ? null : recordFrom.replaceAll("/+$", "");
+        this.upstream = recordFrom == null ? null : HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        Request request = serveEvent.getRequest();
+        String method = request.getMethod().getName();
+        MockCassette.Interaction interaction = answer(request, method);
+        MockNetworkProfile.Shaping shaping;
+        try {
+            shaping = networkProfile.shape(LatencyRecordingFilter.endpointOf(method, request.getUrl()),
+                    interaction.responseBody().getBytes(StandardCharsets.UTF_8).length,
+                    request.getHeader(MockNetworkProfile.LATENCY_HEADER),
+                    request.getHeader(MockNetworkProfile.BANDWIDTH_HEADER));
+        } catch (IllegalArgumentException e) {
+            return ResponseDefinitionBuilder.responseDefinition()
+                    .withStatus(400)
+                    .withHeader("Content-Type", "text/plain")
+                    .withBody(e.getMessage())
+                    .build();
+        }
+
+        ResponseDefinitionBuilder response = ResponseDefinitionBuilder.responseDefinition();
+        String etag = method.equals("GET") && interaction.status() == 200 ? etagOf(interaction.responseBody()) : null;
+        if (etag != null && etag.equals(request.getHeader("If-None-Match"))) {
+            response.withStatus(304);
+        } else {
+            response.withStatus(interaction.status()).withBody(interaction.responseBody());
+        }
+        if (etag != null) {
+            response.withHeader("ETag", etag);
+        }
+        if (interaction.contentType() != null) {
+            response.withHeader("Content-Type", interaction.contentType());
+        }
+        if (shaping.delayMillis() > 0) {
+            response.withFixedDelay((int) shaping.delayMillis());
+        }
+        if (shaping.transferMillis() > 0) {
+            response.withChunkedDribbleDelay(shaping.chunks(), (int) shaping.transferMillis());
+        }
+        return response.build();
+    }
+
+    /**
+     * Records the request against the real API, replays it from the cassette, or falls back to the store.
+     */
+    private MockCassette.Interaction answer(Request request, String method) {
+        String url = request.getUrl();
+        String body = request.getBodyAsString();
+        if (recordFrom != null) {
+            return record(request, method, url, body);
+        }
+        if (cassette != null) {
+            MockCassette.Interaction recorded = cassette.find(method, url, body);
+            cassetteCounter(recorded != null ? "hit" : "miss").increment();
+            if (recorded != null) {
+                return recorded;
+            }
+        }
+        MockApiHandler.Result result = handler.handle(method, url, body);
+        return new MockCassette.Interaction(method, url, body, result.status(), "application/json", result.body());
+    }
+
+    private MockCassette.Interaction record(Request request, String method, String url, String body) {
+        HttpRequest.Builder forward = HttpRequest.newBuilder(URI.create(recordFrom + url))
+                .timeout(Duration.ofSeconds(30))
+                .method(method, body == null || body.isEmpty()
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        for (HttpHeader header : request.getHeaders().all()) {
+            if (!UNFORWARDED_HEADERS.contains(header.key().toLowerCase())) {
+                header.values().forEach(value -> forward.header(header.key(), value));
+            }
+        }
+        try {
+            HttpResponse<String> response = upstream.send(forward.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            MockCassette.Interaction interaction = new MockCassette.Interaction(method, url,
+                    body == null || body.isEmpty() ? null : body, response.statusCode(),
+                    response.headers().firstValue("Content-Type").orElse(null), response.body());
+            cassette.add(interaction);
+            cassetteCounter("recorded").increment();
+            return interaction;
+        } catch (IOException e) {
+            return new MockCassette.Interaction(method, url, body, 502, "text/plain",
+                    "Recording from " + recordFrom + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new MockCassette.Interaction(method, url, body, 502, "text/plain", "Recording interrupted");
+        }
+    }
+
+    private static String etagOf(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return String.format("\"%08x\"", crc.getValue());
+    }
+
+    private static Counter cassetteCounter(String result) {
+        return MetricsRegistry.getInstance().counter("mock_api_cassette_requests_total",
+                "Mock API requests by cassette outcome (hit, miss, recorded)", "result", result);
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,208 @@
+package com.spritecloud.api.mock;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Recorded FakeStoreAPI interactions, replayed by {@link MockApiServer} instead of hand-written stubs.
+ *
+ * <p>Design Decision: Interactions are indexed by a SHA-256 hash of the request's method, path,
+ * query and normalized body, so a replayed request is matched with one hash lookup however large the
+ * cassette grows. Query parameters are sorted and JSON bodies are compared with sorted keys and
+ * without whitespace, so requests that only differ in formatting share one recording.
+ *
+ * <p>Cassette files are gzip-compressed JSON lines, one interaction per line, sorted by path so
+ * re-recordings produce stable files. Recording a request again replaces the earlier interaction.
+ */
+public final class MockCassette {
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final Map<String, Interaction> byKey = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty cassette to record into.
+     */
+    public MockCassette() {
+    }
+
+    /**
+     * Loads a cassette file.
+     *
+     * @param file gzip-compressed cassette written by {@link #write(Path)}
+     * @return loaded cassette
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is not a valid interaction
+     */
+    public static MockCassette load(Path file) {
+        MockCassette cassette = new MockCassette();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    cassette.add(GSON.fromJson(line, Interaction.class));
+                } catch (JsonParseException | NullPointerException e) {
+                    throw new IllegalArgumentException("Invalid interaction on line " + lineNumber + " of cassette " + file, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mock API cassette " + file, e);
+        }
+        return cassette;
+    }
+
+    /**
+     * Finds the recorded response to a request.
+     *
+     * @param method HTTP method
+     * @param url request path including the query string
+     * @param body request body, may be null or empty
+     * @return recorded interaction, or null if the request was not recorded
+     */
+    public Interaction find(String method, String url, String body) {
+        return byKey.get(key(method, url, body));
+    }
+
+    /**
+     * Records an interaction, replacing an earlier recording of the same request.
+     *
+     * @param interaction request and the response it received
+     */
+    public void add(Interaction interaction) {
+        byKey.put(key(interaction.method(), interaction.url(), interaction.requestBody()), interaction);
+    }
+
+    /**
+     * @return number of recorded interactions
+     */
+    public int size() {
+        return byKey.size();
+    }
+
+    /**
+     * Writes the cassette as gzip-compressed JSON lines, replacing the file.
+     *
+     * @param file cassette file; parent directories are created
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void write(Path file) {
+        List<Interaction> interactions = new ArrayList<>(byKey.values());
+        interactions.sort(Comparator.comparing(Interaction::url).thenComparing(Interaction::method)
+                .thenComparing(interaction -> String.valueOf(interaction.requestBody())));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+                for (Interaction interaction : interactions) {
+                    writer.write(GSON.toJson(interaction));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write mock API cassette " + file, e);
+        }
+    }
+
+    /**
+     * Computes the index key of a request: a hash of the method, path, sorted query and normalized body.
+     *
+     * @param method HTTP method
+     * @param url request path including the query string
+     * @param body request body, may be null or empty
+     * @return hex-encoded SHA-256 hash
+     */
+    static String key(String method, String url, String body) {
+        URI uri = URI.create(url);
+        String query = uri.getRawQuery();
+        String sortedQuery = "";
+        if (query != null && !query.isEmpty()) {
+            String[] params = query.split("&");
+            Arrays.sort(params);
+            sortedQuery = String.join("&", params);
+        }
+        String canonical = method.toUpperCase() + ' ' + uri.getRawPath() + '?' + sortedQuery + '\n' + normalizeBody(body);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalizeBody(String body) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        try {
+            return GSON.toJson(sortKeys(JsonParser.parseString(body)));
+        } catch (JsonParseException e) {
+            return body.trim();
+        }
+    }
+
+    private static JsonElement sortKeys(JsonElement element) {
+        if (element.isJsonObject()) {
+            Map<String, JsonElement> sorted = new TreeMap<>(element.getAsJsonObject().asMap());
+            JsonObject object = new JsonObject();
+            sorted.forEach((name, value) -> object.add(name, sortKeys(value)));
+            return object;
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = new JsonArray();
+            element.getAsJsonArray().forEach(value -> array.add(sortKeys(value)));
+            return array;
+        }
+        return element;
+    }
+
+    /**
+     * One recorded request and the response it received.
+     *
+     * @param method HTTP method
+     * @param url request path including the query string
+     * @param requestBody request body, null if there was none
+     * @param status response status code
+     * @param contentType response content type, null if there was none
+     * @param responseBody response body
+     */
+    public record Interaction(String method, String url, String requestBody,
+                              int status, String contentType, String responseBody) {
+    }
+}
@@ -0,0 +1,442 @@
+package com.spritecloud.api.mock;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory store of the products, users and carts served by {@link MockApiServer}.
+ *
+ * <p>Design Decision: Entities are kept as JSON objects exactly as the API serves them, in hash maps
+ * keyed by id, with secondary hash indexes on product category, user name and cart user id, so every
+ * lookup the services make is a hash probe instead of a scan, however large the data set. Stored
+ * objects are never modified in place; writes swap in a new object, so readers can serialize what
+ * they got without holding the lock.
+ *
+ * <p>FakeStoreAPI acknowledges writes without persisting them, and the suite (parallel scenarios
+ * deleting and reading the same user) relies on that. A store created with {@code persistWrites}
+ * applies creates, updates and deletes for real, for runs that need genuine CRUD behaviour.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Hash indexes by id, by category, by user name and by cart owner</li>
+ *   <li>Insertion-ordered listings without sorting on every read</li>
+ *   <li>Read/write lock, so concurrent reads never block each other</li>
+ *   <li>Seeded from {@code mock/fakestore-seed.json} or any data set of the same shape</li>
+ *   <li>Data set files are streamed entity by entity, so large catalogues load without a full JSON tree</li>
+ * </ul>
+ */
+public class MockDataStore {
+
+    /** Classpath resource with the default FakeStoreAPI sample data */
+    public static final String SEED_RESOURCE = "/mock/fakestore-seed.json";
+
+    /**
+     * Resource collections served by the mock API, with the field each is indexed by besides its id.
+     */
+    public enum Resource {
+        PRODUCTS("products", "category"),
+        USERS("users", "username"),
+        CARTS("carts", "userId");
+
+        private final String path;
+        private final String indexedField;
+
+        Resource(String path, String indexedField) {
+            this.path = path;
+            this.indexedField = indexedField;
+        }
+
+        /**
+         * @return first path segment of the collection, e.g. {@code products}
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return field of the secondary index, e.g. {@code category}
+         */
+        public String getIndexedField() {
+            return indexedField;
+        }
+
+        /**
+         * Finds the collection served under a path segment.
+         *
+         * @param path first path segment
+         * @return matching resource, or null if none
+         */
+        public static Resource fromPath(String path) {
+            for (Resource resource : values()) {
+                if (resource.path.equals(path)) {
+                    return resource;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final boolean persistWrites;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Resource, Table> tables = new EnumMap<>(Resource.class);
+
+    /**
+     * Creates an empty store.
+     *
+     * @param persistWrites true to apply writes, false to only acknowledge them like FakeStoreAPI
+     */
+    public MockDataStore(boolean persistWrites) {
+        this.persistWrites = persistWrites;
+        for (Resource resource : Resource.values()) {
+            tables.put(resource, new Table(resource.indexedField));
+        }
+    }
+
+    /**
+     * Creates a store holding the FakeStoreAPI sample data.
+     *
+     * @param persistWrites true to apply writes, false to only acknowledge them like FakeStoreAPI
+     * @return seeded store
+     */
+    public static MockDataStore seeded(boolean persistWrites) {
+        MockDataStore store = new MockDataStore(persistWrites);
+        try (InputStream in = MockDataStore.class.getResourceAsStream(SEED_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Mock API seed data not found on classpath: " + SEED_RESOURCE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                store.load(JsonParser.parseReader(reader).getAsJsonObject());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mock API seed data " + SEED_RESOURCE, e);
+        }
+        return store;
+    }
+
+    /**
+     * Adds a data set with optional {@code products}, {@code users} and {@code carts} arrays.
+     * Entities without an id get the next free one; entities with a known id replace it.
+     *
+     * @param dataset JSON object holding the arrays
+     */
+    public void load(JsonObject dataset) {
+        lock.writeLock().lock();
+        try {
+            for (Resource resource : Resource.values()) {
+                JsonArray entities = dataset.getAsJsonArray(resource.path);
+                if (entities != null) {
+                    Table table = tables.get(resource);
+                    entities.forEach(entity -> table.put(entity.getAsJsonObject().deepCopy()));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Streams a data set file of the same shape as {@link #load(JsonObject)} into the store,
+     * one entity at a time.
+     *
+     * @param file JSON data set file, e.g. written by {@link MockDatasetGenerator}
+     */
+    public void load(Path file) {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                Resource resource = Resource.fromPath(name);
+                if (resource == null) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    add(resource, JsonParser.parseReader(reader).getAsJsonObject());
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mock API data set " + file, e);
+        }
+    }
+
+    /**
+     * Adds or replaces one entity. An entity without id gets the next free one.
+     *
+     * @param resource collection
+     * @param entity entity to store; owned by the store afterwards
+     */
+    public void add(Resource resource, JsonObject entity) {
+        lock.writeLock().lock();
+        try {
+            tables.get(resource).put(entity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the id the next created entity of a collection receives.
+     *
+     * @param resource collection
+     * @return next free id, above every id stored so far
+     */
+    public int nextId(Resource resource) {
+        lock.readLock().lock();
+        try {
+            return tables.get(resource).nextId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isPersistWrites() {
+        return persistWrites;
+    }
+
+    /**
+     * Gets the number of stored entities of a collection.
+     *
+     * @param resource collection
+     * @return entity count
+     */
+    public int size(Resource resource) {
+        lock.readLock().lock();
+        try {
+            return tables.get(resource).byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lists all entities of a collection in insertion order. The returned objects must not be modified.
+     *
+     * @param resource collection
+     * @return snapshot of the entities
+     */
+    public List<JsonObject> all(Resource resource) {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(tables.get(resource).byId.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up an entity by id. The returned object must not be modified.
+     *
+     * @param resource collection
+     * @param id entity id
+     * @return entity, or null if there is none with that id
+     */
+    public JsonObject get(Resource resource, int id) {
+        lock.readLock().lock();
+        try {
+            return tables.get(resource).byId.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up entities through the secondary index of a collection, e.g. products by category.
+     * The returned objects must not be modified.
+     *
+     * @param resource collection
+     * @param key value of the indexed field
+     * @return matching entities in insertion order, empty if none
+     */
+    public List<JsonObject> find(Resource resource, String key) {
+        lock.readLock().lock();
+        try {
+            Table table = tables.get(resource);
+            Set<Integer> ids = table.byIndexedField.getOrDefault(key, Collections.emptySet());
+            List<JsonObject> entities = new ArrayList<>(ids.size());
+            ids.forEach(id -> entities.add(table.byId.get(id)));
+            return entities;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lists the distinct values of the indexed field of a collection, e.g. all product categories.
+     *
+     * @param resource collection
+     * @return indexed values in order of first appearance
+     */
+    public List<String> keys(Resource resource) {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(tables.get(resource).byIndexedField.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Creates an entity with the next free id.
+     *
+     * @param resource collection
+     * @param entity entity without id; not modified
+     * @return created entity including its id
+     */
+    public JsonObject create(Resource resource, JsonObject entity) {
+        lock.writeLock().lock();
+        try {
+            Table table = tables.get(resource);
+            JsonObject created = withId(entity, table.nextId);
+            if (persistWrites) {
+                table.put(created);
+            }
+            return created;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Updates an entity, replacing it (PUT) or merging the given fields into it (PATCH).
+     *
+     * @param resource collection
+     * @param id entity id
+     * @param entity new content; not modified
+     * @param merge true to keep fields absent from {@code entity}
+     * @return updated entity, or null if there is none with that id
+     */
+    public JsonObject update(Resource resource, int id, JsonObject entity, boolean merge) {
+        lock.writeLock().lock();
+        try {
+            Table table = tables.get(resource);
+            JsonObject existing = table.byId.get(id);
+            if (existing == null) {
+                return null;
+            }
+            JsonObject updated;
+            if (merge) {
+                updated = existing.deepCopy();
+                entity.entrySet().forEach(field -> updated.add(field.getKey(), field.getValue().deepCopy()));
+                updated.addProperty("id", id);
+            } else {
+                updated = withId(entity, id);
+            }
+            if (persistWrites) {
+                table.put(updated);
+            }
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes an entity.
+     *
+     * @param resource collection
+     * @param id entity id
+     * @return deleted entity, or null if there is none with that id
+     */
+    public JsonObject delete(Resource resource, int id) {
+        lock.writeLock().lock();
+        try {
+            Table table = tables.get(resource);
+            return persistWrites ? table.remove(id) : table.byId.get(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static JsonObject withId(JsonObject entity, int id) {
+        JsonObject copy = new JsonObject();
+        copy.addProperty("id", id);
+        entity.entrySet().stream()
+                .filter(field -> !"id".equals(field.getKey()))
+                .forEach(field -> copy.add(field.getKey(), field.getValue().deepCopy()));
+        return copy;
+    }
+
+    /**
+     * Entities of one collection, hashed by id and by their indexed field. Guarded by the store lock.
+     */
+    private static final class Table {
+
+        private final String indexedField;
+        private final Map<Integer, JsonObject> byId = new LinkedHashMap<>();
+        private final Map<String, Set<Integer>> byIndexedField = new LinkedHashMap<>();
+        private int nextId = 1;
+
+        Table(String indexedField) {
+            this.indexedField = indexedField;
+        }
+
+        void put(JsonObject entity) {
+            JsonElement idElement = entity.get("id");
+            int id;
+            if (idElement == null || idElement.isJsonNull()) {
+                id = nextId;
+                entity.addProperty("id", id);
+            } else {
+                id = idElement.getAsInt();
+            }
+            JsonObject previous = byId.put(id, entity);
+            if (previous != null) {
+                unindex(previous, id);
+            }
+            String key = indexKey(entity);
+            if (key != null) {
+                byIndexedField.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(id);
+            }
+            nextId = Math.max(nextId, id + 1);
+        }
+
+        JsonObject remove(int id) {
+            JsonObject removed = byId.remove(id);
+            if (removed != null) {
+                unindex(removed, id);
+            }
+            return removed;
+        }
+
+        private void unindex(JsonObject entity, int id) {
+            String key = indexKey(entity);
+            Set<Integer> ids = key == null ? null : byIndexedField.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    byIndexedField.remove(key);
+                }
+            }
+        }
+
+        private String indexKey(JsonObject entity) {
+            JsonElement value = entity.get(indexedField);
+            return value == null || !value.isJsonPrimitive() ? null : value.getAsString();
+        }
+    }
+}
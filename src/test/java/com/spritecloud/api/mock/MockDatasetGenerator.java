@@ -0,0 +1,346 @@
+package com.spritecloud.api.mock;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.spritecloud.api.mock.MockDataStore.Resource;
+import com.spritecloud.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Deterministic generator of synthetic FakeStoreAPI catalogues for {@link MockDataStore}.
+ *
+ * <p>Design Decision: Each collection draws from its own random stream derived from the seed, so the
+ * same seed always yields the same products whatever number of users or carts is requested, and a
+ * data set can be regenerated instead of checked in. Ids continue after the data already in the
+ * target store, so the FakeStoreAPI sample entities the scenarios rely on stay untouched.
+ *
+ * <p>Field sizes follow skewed, long-tailed distributions rather than fixed lengths, because that is
+ * what stresses deserialization, assertions and reports realistically:
+ * <ul>
+ *   <li>Titles of 2 to 20 words and descriptions of 3 to 200 words, log-normally distributed</li>
+ *   <li>Log-normal prices and rating counts, normally distributed ratings between 1 and 5</li>
+ *   <li>Categories with Zipf-like popularity, complete nested name, address and geolocation objects</li>
+ *   <li>Carts of mostly one to three lines that favour popular (low id) products</li>
+ * </ul>
+ *
+ * <p>Entities are produced one at a time, so a catalogue can be streamed to disk or into a store
+ * without ever holding the whole data set as one JSON tree.
+ *
+ * <p>Usage:
+ * <pre>
+ * MOCK_API_SYNTHETIC_PRODUCTS=100000 MOCK_API_SYNTHETIC_USERS=10000 MOCK_API_SYNTHETIC_CARTS=50000 \
+ *     MOCK_API_DATASET_FILE=target/mock-dataset.json \
+ *     mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.spritecloud.api.mock.MockDatasetGenerator
+ * </pre>
+ */
+public class MockDatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockDatasetGenerator.class);
+
+    private static final List<String> CATEGORIES = List.of("electronics", "jewelery", "men's clothing",
+            "women's clothing", "home & kitchen", "sports", "books", "toys");
+    private static final List<String> ADJECTIVES = List.of("Casual", "Premium", "Slim", "Fit", "Classic",
+            "Portable", "Wireless", "Solid", "Gold", "Silver", "Cotton", "Leather", "Waterproof", "Lightweight",
+            "Vintage", "Ultra", "Compact", "Organic", "Rechargeable", "Adjustable");
+    private static final List<String> NOUNS = List.of("Backpack", "T-Shirt", "Jacket", "Bracelet", "Ring",
+            "Hard Drive", "Monitor", "Headphones", "Sneakers", "Watch", "Coat", "Dress", "Blender", "Lamp",
+            "Novel", "Puzzle", "Bottle", "Charger", "Wallet", "Scarf");
+    private static final List<String> WORDS = List.of("your", "perfect", "pack", "for", "everyday", "use",
+            "and", "walks", "in", "the", "forest", "stash", "laptop", "up", "to", "inches", "padded", "sleeve",
+            "great", "outerwear", "suitable", "many", "occasions", "such", "as", "working", "hiking", "camping",
+            "satisfaction", "guaranteed", "return", "or", "exchange", "any", "order", "within", "days", "made",
+            "with", "high", "quality", "materials", "designed", "comfort", "durable", "stylish", "gift");
+    private static final List<String> FIRST_NAMES = List.of("john", "david", "kevin", "don", "derek",
+            "miriam", "william", "kate", "jimmie", "emma", "olivia", "liam", "noah", "sophia", "mia", "lucas",
+            "amelia", "ethan", "ava");
+    private static final List<String> LAST_NAMES = List.of("doe", "morrison", "ryan", "romer", "powell",
+            "russell", "snyder", "hopkins", "hale", "klein", "smith", "jones", "garcia", "miller", "davis",
+            "martinez", "lopez", "wilson", "anderson", "taylor");
+    private static final List<String> CITIES = List.of("kilcoole", "cullman", "san Antonio", "el paso",
+            "fresno", "mesa", "miami", "fort wayne", "killeen", "amsterdam", "rotterdam", "utrecht");
+    private static final List<String> STREET_SUFFIXES = List.of("Ln", "Rd", "St", "Ave", "Blvd", "Way");
+    private static final String PASSWORD_CHARS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!@#$%^&*_";
+    private static final LocalDate FIRST_CART_DATE = LocalDate.of(2019, 1, 1);
+    /** Cumulative Zipf weights of {@link #CATEGORIES}: category i is chosen with probability proportional to 1 / (i + 1) */
+    private static final double[] CATEGORY_CUMULATIVE_WEIGHTS = new double[CATEGORIES.size()];
+
+    static {
+        double total = 0;
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            total += 1.0 / (i + 1);
+            CATEGORY_CUMULATIVE_WEIGHTS[i] = total;
+        }
+    }
+
+    private final long seed;
+    private final int products;
+    private final int users;
+    private final int carts;
+
+    /**
+     * @param seed seed of all random streams; equal seeds produce equal data sets
+     * @param products number of products to generate
+     * @param users number of users to generate
+     * @param carts number of carts to generate
+     */
+    public MockDatasetGenerator(long seed, int products, int users, int carts) {
+        if (products < 0 || users < 0 || carts < 0) {
+            throw new IllegalArgumentException("Entity counts must not be negative");
+        }
+        this.seed = seed;
+        this.products = products;
+        this.users = users;
+        this.carts = carts;
+    }
+
+    /**
+     * Creates a generator from the MOCK_API_SYNTHETIC_* settings.
+     *
+     * @param config configuration manager
+     * @return configured generator
+     */
+    public static MockDatasetGenerator fromConfiguration(ConfigurationManager config) {
+        return new MockDatasetGenerator(config.getMockApiSyntheticSeed(), config.getMockApiSyntheticProducts(),
+                config.getMockApiSyntheticUsers(), config.getMockApiSyntheticCarts());
+    }
+
+    /**
+     * Checks whether the generator produces any entity.
+     *
+     * @return true if at least one count is positive
+     */
+    public boolean isEmpty() {
+        return products == 0 && users == 0 && carts == 0;
+    }
+
+    /**
+     * Generates the data set directly into a store, with ids following its current content.
+     *
+     * @param store target store
+     */
+    public void populate(MockDataStore store) {
+        long start = System.nanoTime();
+        generate(Ids.of(store), store::add);
+        logger.info("Generated {} products, {} users and {} carts (seed {}) in {} ms",
+                products, users, carts, seed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Streams the data set to a JSON file that {@link MockDataStore#load(Path)} reads back,
+     * with ids following the content of {@code base}.
+     *
+     * @param file target file; parent directories are created
+     * @param base store the data set will be loaded into, used only for its next free ids
+     * @return path of the written file
+     */
+    public Path write(Path file, MockDataStore base) {
+        Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                 JsonWriter writer = new JsonWriter(out)) {
+                writer.beginObject();
+                Resource[] open = {null};
+                generate(Ids.of(base), (resource, entity) -> {
+                    try {
+                        if (open[0] != resource) {
+                            if (open[0] != null) {
+                                writer.endArray();
+                            }
+                            writer.name(resource.getPath()).beginArray();
+                            open[0] = resource;
+                        }
+                        gson.toJson(entity, writer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (open[0] != null) {
+                    writer.endArray();
+                }
+                writer.endObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write mock API data set to " + file, e);
+        }
+        logger.info("Mock API data set with {} products, {} users and {} carts (seed {}) written to {}",
+                products, users, carts, seed, file);
+        return file;
+    }
+
+    private void generate(Ids ids, BiConsumer<Resource, JsonObject> sink) {
+        SplittableRandom productRandom = new SplittableRandom(seed);
+        for (int i = 0; i < products; i++) {
+            sink.accept(Resource.PRODUCTS, product(ids.firstProduct() + i, productRandom));
+        }
+        SplittableRandom userRandom = new SplittableRandom(seed * 31 + 1);
+        for (int i = 0; i < users; i++) {
+            sink.accept(Resource.USERS, user(ids.firstUser() + i, userRandom));
+        }
+        SplittableRandom cartRandom = new SplittableRandom(seed * 31 + 2);
+        int productCount = ids.firstProduct() - 1 + products;
+        int userCount = ids.firstUser() - 1 + users;
+        for (int i = 0; i < carts; i++) {
+            sink.accept(Resource.CARTS, cart(ids.firstCart() + i, productCount, userCount, cartRandom));
+        }
+    }
+
+    private JsonObject product(int id, SplittableRandom random) {
+        JsonObject product = new JsonObject();
+        product.addProperty("id", id);
+        product.addProperty("title", title(random));
+        product.addProperty("price", Math.round(clamp(logNormal(random, 40, 1.0), 0.99, 2500) * 100) / 100.0);
+        product.addProperty("description", sentence(random, logNormalCount(random, 25, 0.8, 3, 200)));
+        product.addProperty("category", CATEGORIES.get(categoryIndex(random)));
+        product.addProperty("image", "https://fakestoreapi.com/img/synthetic-" + id + ".jpg");
+        JsonObject rating = new JsonObject();
+        rating.addProperty("rate", Math.round(clamp(3.8 + random.nextGaussian() * 0.7, 1, 5) * 10) / 10.0);
+        rating.addProperty("count", (int) clamp(logNormal(random, 150, 1.1), 0, 10_000));
+        product.add("rating", rating);
+        return product;
+    }
+
+    private JsonObject user(int id, SplittableRandom random) {
+        String firstname = pick(random, FIRST_NAMES);
+        String lastname = pick(random, LAST_NAMES);
+        JsonObject user = new JsonObject();
+        user.addProperty("id", id);
+        user.addProperty("email", firstname + "." + lastname + id + "@example.com");
+        user.addProperty("username", firstname.charAt(0) + lastname + "_" + id);
+        StringBuilder password = new StringBuilder();
+        for (int i = 6 + random.nextInt(9); i > 0; i--) {
+            password.append(PASSWORD_CHARS.charAt(random.nextInt(PASSWORD_CHARS.length())));
+        }
+        user.addProperty("password", password.toString());
+        JsonObject name = new JsonObject();
+        name.addProperty("firstname", firstname);
+        name.addProperty("lastname", lastname);
+        user.add("name", name);
+        JsonObject geolocation = new JsonObject();
+        geolocation.addProperty("lat", String.format(Locale.ROOT, "%.4f", random.nextDouble(-90, 90)));
+        geolocation.addProperty("long", String.format(Locale.ROOT, "%.4f", random.nextDouble(-180, 180)));
+        JsonObject address = new JsonObject();
+        address.addProperty("city", pick(random, CITIES));
+        address.addProperty("street", capitalize(pick(random, WORDS)) + " " + pick(random, STREET_SUFFIXES));
+        address.addProperty("number", 1 + random.nextInt(9999));
+        address.addProperty("zipcode", String.format(Locale.ROOT, "%05d-%04d",
+                random.nextInt(100_000), random.nextInt(10_000)));
+        address.add("geolocation", geolocation);
+        user.add("address", address);
+        user.addProperty("phone", String.format(Locale.ROOT, "1-%03d-%03d-%04d",
+                random.nextInt(200, 1000), random.nextInt(1000), random.nextInt(10_000)));
+        return user;
+    }
+
+    private JsonObject cart(int id, int productCount, int userCount, SplittableRandom random) {
+        JsonObject cart = new JsonObject();
+        cart.addProperty("id", id);
+        cart.addProperty("userId", userCount == 0 ? 1 : 1 + random.nextInt(userCount));
+        cart.addProperty("date", FIRST_CART_DATE.plusDays(random.nextInt(730)) + "T00:00:00.000Z");
+        JsonArray lines = new JsonArray();
+        int lineCount = 1;
+        while (lineCount < 10 && random.nextDouble() < 0.45) {
+            lineCount++;
+        }
+        for (int i = 0; i < lineCount; i++) {
+            JsonObject line = new JsonObject();
+            // The power skews draws towards low ids, so a few products appear in most carts
+            line.addProperty("productId", productCount == 0 ? 1
+                    : 1 + (int) (productCount * Math.pow(random.nextDouble(), 2.5)));
+            line.addProperty("quantity", 1 + (int) clamp(logNormal(random, 1.5, 0.7), 0, 9));
+            lines.add(line);
+        }
+        cart.add("products", lines);
+        return cart;
+    }
+
+    private static String title(SplittableRandom random) {
+        int words = logNormalCount(random, 5, 0.5, 2, 20);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words - 1; i++) {
+            title.append(pick(random, ADJECTIVES)).append(' ');
+        }
+        return title.append(pick(random, NOUNS)).toString();
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder(capitalize(pick(random, WORDS)));
+        for (int i = 1; i < words; i++) {
+            sentence.append(' ').append(pick(random, WORDS));
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static int logNormalCount(SplittableRandom random, double median, double sigma, int min, int max) {
+        return (int) Math.round(clamp(logNormal(random, median, sigma), min, max));
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(random.nextGaussian() * sigma);
+    }
+
+    private static int categoryIndex(SplittableRandom random) {
+        double target = random.nextDouble() * CATEGORY_CUMULATIVE_WEIGHTS[CATEGORY_CUMULATIVE_WEIGHTS.length - 1];
+        for (int i = 0; i < CATEGORY_CUMULATIVE_WEIGHTS.length - 1; i++) {
+            if (target < CATEGORY_CUMULATIVE_WEIGHTS[i]) {
+                return i;
+            }
+        }
+        return CATEGORY_CUMULATIVE_WEIGHTS.length - 1;
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Writes the data set configured by the MOCK_API_SYNTHETIC_* settings to MOCK_API_DATASET_FILE,
+     * with ids following the FakeStoreAPI sample data.
+     */
+    public static void main(String[] args) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        String file = config.getMockApiDatasetFile();
+        if (file.isEmpty()) {
+            throw new IllegalStateException("MOCK_API_DATASET_FILE is not configured");
+        }
+        fromConfiguration(config).write(Path.of(file), MockDataStore.seeded(false));
+    }
+
+    /**
+     * First id of each generated collection.
+     */
+    private record Ids(int firstProduct, int firstUser, int firstCart) {
+
+        static Ids of(MockDataStore store) {
+            return new Ids(store.nextId(Resource.PRODUCTS), store.nextId(Resource.USERS), store.nextId(Resource.CARTS));
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.spritecloud.api.mock;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.http.MockNetworkProfileFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Latency and bandwidth shaping applied by {@link MockApiServer} to its responses, per endpoint.
+ *
+ * <p>Design Decision: The mock answers from memory in microseconds, so without shaping CI never
+ * exercises timeouts, hedging or response-time assertions. Each response is delayed by a sample of
+ * the endpoint's latency profile before the first byte and, when a bandwidth is set, its body is
+ * dribbled out in chunks over the time the transfer would take on that link.
+ *
+ * <p>Latency profiles:
+ * <ul>
+ *   <li>{@code none} - answer immediately</li>
+ *   <li>{@code fixed:<ms>} - constant delay</li>
+ *   <li>{@code uniform:<min>-<max>} - uniformly distributed delay in milliseconds</li>
+ *   <li>{@code lognormal:<median>,<sigma>} - long-tailed delay, as seen from real backends</li>
+ *   <li>{@code replay:<file>} - delays drawn from recorded samples (milliseconds, separated by
+ *       whitespace or commas); only accepted from MOCK_API_LATENCY</li>
+ * </ul>
+ *
+ * <p>Settings map endpoints to values, e.g. {@code GET /products/{id}=lognormal:120,0.5;*=fixed:20}.
+ * Endpoints are normalized like the latency report ({@code GET /carts/user/{id}}); {@code *} or an
+ * entry without endpoint applies to all others. Requests may override both settings for themselves
+ * with the {@link #LATENCY_HEADER} and {@link #BANDWIDTH_HEADER} headers, see {@link MockNetworkProfileFilter}.
+ * A request cannot make the server read a file, so overrides are limited to the computed profiles;
+ * they are parsed per request and not cached, as any client may send any value.
+ */
+public final class MockNetworkProfile {
+
+    /** Request header overriding the latency profile of that request */
+    public static final String LATENCY_HEADER = MockNetworkProfileFilter.LATENCY_HEADER;
+    /** Request header overriding the bandwidth of that request, in kilobits per second */
+    public static final String BANDWIDTH_HEADER = MockNetworkProfileFilter.BANDWIDTH_HEADER;
+
+    /** Profile that answers immediately */
+    public static final MockNetworkProfile NONE = new MockNetworkProfile(Map.of(), Map.of());
+
+    private static final String ALL_ENDPOINTS = "*";
+    /** Target interval between dribbled chunks */
+    private static final long CHUNK_INTERVAL_MS = 20;
+
+    private final Map<String, LatencyProfile> latencyByEndpoint;
+    private final Map<String, Integer> bandwidthByEndpoint;
+
+    private MockNetworkProfile(Map<String, LatencyProfile> latencyByEndpoint, Map<String, Integer> bandwidthByEndpoint) {
+        this.latencyByEndpoint = latencyByEndpoint;
+        this.bandwidthByEndpoint = bandwidthByEndpoint;
+    }
+
+    /**
+     * Creates the profile configured by MOCK_API_LATENCY and MOCK_API_BANDWIDTH_KBPS.
+     *
+     * @param config configuration manager
+     * @return configured profile
+     */
+    public static MockNetworkProfile fromConfiguration(ConfigurationManager config) {
+        return parse(config.getMockApiLatency(), config.getMockApiBandwidthKbps());
+    }
+
+    /**
+     * Parses per-endpoint latency and bandwidth settings.
+     *
+     * @param latency endpoint to latency profile mapping, empty for none
+     * @param bandwidthKbps endpoint to kilobits per second mapping, empty or 0 for unlimited
+     * @return parsed profile
+     * @throws IllegalArgumentException if a setting is malformed
+     */
+    public static MockNetworkProfile parse(String latency, String bandwidthKbps) {
+        return new MockNetworkProfile(parseEndpointMap(latency, LatencyProfile::parse),
+                parseEndpointMap(bandwidthKbps, MockNetworkProfile::parseBandwidth));
+    }
+
+    /**
+     * Checks whether the profile shapes any response.
+     *
+     * @return false if every endpoint is answered immediately at full speed, ignoring request overrides
+     */
+    public boolean isEmpty() {
+        return latencyByEndpoint.isEmpty() && bandwidthByEndpoint.isEmpty();
+    }
+
+    /**
+     * Samples the shaping of one response.
+     *
+     * @param endpoint normalized endpoint, e.g. {@code GET /products/{id}}
+     * @param bodyBytes size of the response body
+     * @param latencyOverride value of the {@link #LATENCY_HEADER} request header, or null
+     * @param bandwidthOverride value of the {@link #BANDWIDTH_HEADER} request header, or null
+     * @return delay before the response and duration of the body transfer
+     * @throws IllegalArgumentException if an override is malformed or a {@code replay} profile
+     */
+    public Shaping shape(String endpoint, int bodyBytes, String latencyOverride, String bandwidthOverride) {
+        LatencyProfile latency = latencyOverride != null
+                ? LatencyProfile.parseOverride(latencyOverride)
+                : lookup(latencyByEndpoint, endpoint);
+        Integer kbps = bandwidthOverride != null ? parseBandwidth(bandwidthOverride) : lookup(bandwidthByEndpoint, endpoint);
+
+        long delayMillis = latency == null ? 0 : latency.sampleMillis();
+        if (kbps == null || kbps == 0 || bodyBytes == 0) {
+            return new Shaping(delayMillis, 0, 0);
+        }
+        // One kilobit per second moves one bit per millisecond
+        long transferMillis = Math.max(1, (long) bodyBytes * 8 / kbps);
+        int chunks = (int) Math.max(1, Math.min(bodyBytes, transferMillis / CHUNK_INTERVAL_MS));
+        return new Shaping(delayMillis, transferMillis, chunks);
+    }
+
+    private static <T> T lookup(Map<String, T> byEndpoint, String endpoint) {
+        T value = byEndpoint.get(endpoint);
+        return value != null ? value : byEndpoint.get(ALL_ENDPOINTS);
+    }
+
+    private static <T> Map<String, T> parseEndpointMap(String setting, Function<String, T> parser) {
+        Map<String, T> byEndpoint = new HashMap<>();
+        if (setting == null || setting.isBlank()) {
+            return byEndpoint;
+        }
+        for (String entry : setting.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int eq = entry.indexOf('=');
+            String endpoint = eq < 0 ? ALL_ENDPOINTS : entry.substring(0, eq).trim();
+            byEndpoint.put(endpoint, parser.apply(entry.substring(eq + 1).trim()));
+        }
+        return byEndpoint;
+    }
+
+    private static Integer parseBandwidth(String value) {
+        int kbps;
+        try {
+            kbps = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid mock API bandwidth: " + value, e);
+        }
+        if (kbps < 0) {
+            throw new IllegalArgumentException("Mock API bandwidth must not be negative: " + value);
+        }
+        return kbps;
+    }
+
+    /**
+     * Delay before a response and the duration over which its body is dribbled.
+     *
+     * @param delayMillis time before the response starts
+     * @param transferMillis time over which the body is sent, 0 to send it at once
+     * @param chunks number of chunks the body is split into when dribbled
+     */
+    public record Shaping(long delayMillis, long transferMillis, int chunks) {
+    }
+
+    /**
+     * Distribution of response delays in milliseconds.
+     */
+    @FunctionalInterface
+    public interface LatencyProfile {
+
+        /**
+         * @return next delay in milliseconds, never negative
+         */
+        long sampleMillis();
+
+        /**
+         * Parses a profile such as {@code uniform:50-300}.
+         *
+         * @param spec profile specification
+         * @return parsed profile
+         * @throws IllegalArgumentException if the specification is malformed
+         */
+        static LatencyProfile parse(String spec) {
+            return parse(spec, true);
+        }
+
+        /**
+         * Parses a profile sent by a request, which may not replay samples from a file.
+         *
+         * @param spec profile specification
+         * @return parsed profile
+         * @throws IllegalArgumentException if the specification is malformed or a {@code replay} profile
+         */
+        static LatencyProfile parseOverride(String spec) {
+            return parse(spec, false);
+        }
+
+        private static LatencyProfile parse(String spec, boolean allowReplay) {
+            String[] parts = spec.trim().split(":", 2);
+            String type = parts[0];
+            String args = parts.length > 1 ? parts[1] : "";
+            try {
+                switch (type) {
+                    case "none":
+                        return () -> 0;
+                    case "fixed": {
+                        long millis = nonNegative(Long.parseLong(args));
+                        return () -> millis;
+                    }
+                    case "uniform": {
+                        String[] bounds = args.split("-");
+                        long min = nonNegative(Long.parseLong(bounds[0].trim()));
+                        long max = Long.parseLong(bounds[1].trim());
+                        if (max < min) {
+                            throw new IllegalArgumentException("max below min");
+                        }
+                        return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+                    }
+                    case "lognormal": {
+                        String[] params = args.split(",");
+                        double median = nonNegative(Double.parseDouble(params[0].trim()));
+                        double sigma = nonNegative(Double.parseDouble(params[1].trim()));
+                        return () -> Math.round(median * Math.exp(ThreadLocalRandom.current().nextGaussian() * sigma));
+                    }
+                    case "replay":
+                        if (!allowReplay) {
+                            throw new IllegalArgumentException(
+                                    "replay profiles are only accepted from MOCK_API_LATENCY");
+                        }
+                        return replay(Path.of(args));
+                    default:
+                        throw new IllegalArgumentException("unknown profile type");
+                }
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid mock API latency profile: " + spec, e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid mock API latency profile: " + spec + " (" + e.getMessage() + ")", e);
+            }
+        }
+
+        private static LatencyProfile replay(Path file) {
+            long[] samples;
+            try {
+                samples = Arrays.stream(Files.readString(file).trim().split("[\\s,]+"))
+                        .filter(sample -> !sample.isEmpty())
+                        .mapToLong(sample -> nonNegative(Math.round(Double.parseDouble(sample))))
+                        .toArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read recorded latencies from " + file, e);
+            }
+            if (samples.length == 0) {
+                throw new IllegalArgumentException("no recorded latencies in " + file);
+            }
+            return () -> samples[ThreadLocalRandom.current().nextInt(samples.length)];
+        }
+
+        private static <N extends Number> N nonNegative(N value) {
+            if (value.doubleValue() < 0) {
+                throw new IllegalArgumentException("negative value " + value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.spritecloud.api.perf;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.jfr.FlightRecorderPlugin;
+import io.cucumber.core.cli.Main;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Replays the existing Cucumber API scenarios as concurrent virtual users.
+ *
+ * <p>Design Decision: Scenarios run through Cucumber's command line entry point with the regular
+ * step definitions and hooks, so the load is generated by exactly the flows the functional suite
+ * verifies without depending on Cucumber's internal runtime classes. Each virtual user is one of
+ * Cucumber's {@code --threads} workers. To have every user replay the scenarios matching
+ * {@code LOAD_TAGS}, the API features are copied once per user and iteration into a temporary
+ * directory and run together, so the workers pull scenarios from one shared queue rather than each
+ * replaying them in order.
+ *
+ * <p>With {@code LOAD_ITERATIONS} everything runs in a single Cucumber run. Without it the run is
+ * repeated in rounds of one replay per user until {@code LOAD_DURATION_SECONDS} have passed; a round
+ * that has started always completes, and {@code @BeforeAll}/{@code @AfterAll} hooks run once per round.
+ * While the load runs {@link #isRunning()} is true, so hooks can skip work that only makes sense for
+ * a functional run, such as recording scenario timings and gating them against the performance baseline.
+ *
+ * <p>Virtual users are platform threads: the project targets Java 17, which has no virtual threads.
+ * Each user blocks on one request at a time, so a thread per user is the same model at the user
+ * counts an API test client needs.
+ *
+ * <p>Scenarios and steps are emitted as Flight Recorder events, so a load run started with
+ * {@code -XX:StartFlightRecording} shows which steps the time was spent in.
+ *
+ * <p>Usage:
+ * <pre>
+ * LOAD_TAGS="@API and @Smoke" LOAD_VIRTUAL_USERS=20 LOAD_DURATION_SECONDS=120 \
+ *     mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.spritecloud.api.perf.LoadRunner
+ * </pre>
+ */
+public class LoadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+    private static final String FEATURES = "features/api";
+    private static final String[] GLUE = {"com.spritecloud.api.steps", "com.spritecloud.api.hooks"};
+
+    private static volatile boolean running;
+    private static volatile LoadStatistics activeStatistics;
+
+    private final String tags;
+    private final int virtualUsers;
+    private final int iterations;
+    private final long durationMillis;
+    private long elapsedMillis;
+
+    /**
+     * @param tags tag expression selecting the scenarios to replay
+     * @param virtualUsers number of concurrent virtual users
+     * @param iterations replays of the scenario set per user, or 0 to run for the duration
+     * @param durationMillis run duration when no iteration count is given
+     */
+    public LoadRunner(String tags, int virtualUsers, int iterations, long durationMillis) {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("virtualUsers must be at least 1, was " + virtualUsers);
+        }
+        this.tags = tags;
+        this.virtualUsers = virtualUsers;
+        this.iterations = iterations;
+        this.durationMillis = durationMillis;
+    }
+
+    public static void main(String[] args) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        LoadRunner runner = new LoadRunner(config.getLoadTags(), config.getLoadVirtualUsers(),
+                config.getLoadIterations(), config.getLoadDurationSeconds() * 1000);
+        LoadStatistics statistics = runner.run();
+        statistics.writeReport(Path.of(config.getPerfReportDir()), runner.tags, runner.virtualUsers, runner.elapsedMillis);
+        System.exit(statistics.getFailed() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Checks whether a load run is in progress in this JVM.
+     *
+     * @return true while {@link #run()} executes scenarios
+     */
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs the load and logs the summary.
+     *
+     * @return statistics of the run
+     * @throws IllegalStateException if no scenario matches the tag expression
+     */
+    public LoadStatistics run() {
+        LoadStatistics statistics = new LoadStatistics();
+        logger.info("Load run: scenarios matching '{}', {} virtual users, {}", tags, virtualUsers,
+                iterations > 0 ? iterations + " iterations each" : durationMillis / 1000 + " s");
+
+        Path features = null;
+        activeStatistics = statistics;
+        running = true;
+        long start = System.nanoTime();
+        try {
+            if (iterations > 0) {
+                features = copyFeatures(virtualUsers * iterations);
+                runCucumber(features);
+            } else {
+                features = copyFeatures(virtualUsers);
+                long deadline = start + durationMillis * 1_000_000;
+                // Stops after one round when nothing ran, e.g. when every scenario was skipped
+                do {
+                    runCucumber(features);
+                } while (System.nanoTime() < deadline && statistics.getPassed() + statistics.getFailed() > 0);
+            }
+        } finally {
+            elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            running = false;
+            activeStatistics = null;
+            deleteRecursively(features);
+        }
+
+        if (statistics.getPassed() + statistics.getFailed() + statistics.getSkipped() == 0) {
+            throw new IllegalStateException("No scenarios match tag expression: " + tags);
+        }
+        logger.info("\n{}", statistics.render(virtualUsers, elapsedMillis));
+        return statistics;
+    }
+
+    private void runCucumber(Path features) {
+        List<String> arguments = new ArrayList<>();
+        for (String glue : GLUE) {
+            arguments.add("--glue");
+            arguments.add(glue);
+        }
+        arguments.add("--tags");
+        arguments.add(tags);
+        arguments.add("--threads");
+        arguments.add(String.valueOf(virtualUsers));
+        arguments.add("--plugin");
+        arguments.add(FlightRecorderPlugin.class.getName());
+        arguments.add("--plugin");
+        arguments.add(StatisticsPlugin.class.getName());
+        arguments.add("--monochrome");
+        arguments.add(features.toString());
+        // Failed scenarios are counted by the statistics, so the exit status adds nothing
+        Main.run(arguments.toArray(new String[0]), LoadRunner.class.getClassLoader());
+    }
+
+    /**
+     * Copies the API feature files into a temporary directory, {@code copies} times each.
+     */
+    private static Path copyFeatures(int copies) {
+        URL source = LoadRunner.class.getClassLoader().getResource(FEATURES);
+        if (source == null) {
+            throw new IllegalStateException("Feature directory not found on the classpath: " + FEATURES);
+        }
+        try (Stream<Path> files = Files.walk(Path.of(source.toURI()))) {
+            Path target = Files.createTempDirectory("load-features");
+            for (Path feature : files.filter(file -> file.toString().endsWith(".feature")).toList()) {
+                String name = feature.getFileName().toString().replace(".feature", "");
+                for (int copy = 1; copy <= copies; copy++) {
+                    Files.copy(feature, target.resolve(name + "-" + copy + ".feature"));
+                }
+            }
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy feature files for the load run", e);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IllegalStateException("Feature directory is not a file system directory: " + source, e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to delete load run features in {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Cucumber plugin that hands the events of a load run to the statistics of that run.
+     * Cucumber instantiates plugins itself, so the statistics are looked up when the run starts.
+     */
+    public static class StatisticsPlugin implements ConcurrentEventListener {
+
+        @Override
+        public void setEventPublisher(EventPublisher publisher) {
+            LoadStatistics statistics = activeStatistics;
+            if (statistics == null) {
+                throw new IllegalStateException("StatisticsPlugin is only usable within LoadRunner.run()");
+            }
+            statistics.setEventPublisher(publisher);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.spritecloud.api.perf;
+
+import com.google.gson.GsonBuilder;
+import com.spritecloud.perf.LatencyHistogram;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cucumber event listener that aggregates a load run: scenario throughput, error rate
+ * and latency percentiles per scenario and per step definition.
+ *
+ * <p>Steps are grouped by their step definition pattern, e.g. {@code I request product with ID {int}},
+ * so the same step used with different arguments or in different scenarios shares one histogram.
+ *
+ * <p>Skipped scenarios, such as {@code @MockApi} scenarios without MOCK_API, are counted on their
+ * own: they neither passed nor failed, so they are left out of the error rate and of the scenario
+ * timings.
+ */
+public class LoadStatistics implements ConcurrentEventListener {
+
+    /** Report file written into the performance report directory */
+    public static final String REPORT_FILE = "load-report.json";
+    private static final int MAX_DISTINCT_ERRORS = 20;
+
+    private final Map<String, Timings> scenarios = new ConcurrentHashMap<>();
+    private final Map<String, Timings> steps = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private final AtomicLong passed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        // Steps skipped after an earlier failure never ran, so they carry no latency
+        if (event.getTestStep() instanceof PickleStepTestStep step && event.getResult().getStatus() != Status.SKIPPED) {
+            String key = step.getPattern() != null ? step.getPattern() : step.getStep().getText();
+            steps.computeIfAbsent(key, k -> new Timings()).record(event.getResult());
+        }
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        Result result = event.getResult();
+        if (result.getStatus() == Status.SKIPPED) {
+            skipped.incrementAndGet();
+            return;
+        }
+        scenarios.computeIfAbsent(event.getTestCase().getName(), k -> new Timings()).record(result);
+        if (result.getStatus() == Status.PASSED) {
+            passed.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+            String error = result.getError() == null
+                    ? result.getStatus().name()
+                    : result.getError().getClass().getSimpleName() + ": " + firstLine(result.getError().getMessage());
+            if (errors.containsKey(error) || errors.size() < MAX_DISTINCT_ERRORS) {
+                errors.computeIfAbsent(error, k -> new AtomicLong()).incrementAndGet();
+            }
+        }
+    }
+
+    public long getPassed() {
+        return passed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Renders the run as a text summary: totals, then one line per scenario and per step.
+     *
+     * @param virtualUsers number of virtual users
+     * @param elapsedMillis wall-clock duration of the run
+     * @return multi-line summary
+     */
+    public String render(int virtualUsers, long elapsedMillis) {
+        long total = passed.get() + failed.get();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Load run: %d virtual users, %d scenarios in %.1f s, %.2f scenarios/s, error rate %.2f%%, %d skipped%n",
+                virtualUsers, total, elapsedMillis / 1000.0, throughput(total, elapsedMillis), errorRate(), skipped.get()));
+        appendTable(out, "Scenario", scenarios, elapsedMillis);
+        appendTable(out, "Step", steps, elapsedMillis);
+        if (!errors.isEmpty()) {
+            out.append("Errors:\n");
+            new TreeMap<>(errors).forEach((error, count) -> out.append(String.format("  %6d x %s%n", count.get(), error)));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the run as JSON into {@code directory/load-report.json}.
+     *
+     * @param directory report directory, created if missing
+     * @param tags tag expression that selected the scenarios
+     * @param virtualUsers number of virtual users
+     * @param elapsedMillis wall-clock duration of the run
+     * @return path of the written report
+     */
+    public Path writeReport(Path directory, String tags, int virtualUsers, long elapsedMillis) {
+        long total = passed.get() + failed.get();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("tags", tags);
+        report.put("virtualUsers", virtualUsers);
+        report.put("durationMs", elapsedMillis);
+        report.put("scenariosRun", total);
+        report.put("scenariosFailed", failed.get());
+        report.put("scenariosSkipped", skipped.get());
+        report.put("scenariosPerSecond", throughput(total, elapsedMillis));
+        report.put("errorRatePercent", errorRate());
+        report.put("unit", "ms");
+        report.put("scenarios", summarize(scenarios, elapsedMillis));
+        report.put("steps", summarize(steps, elapsedMillis));
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((error, count) -> errorCounts.put(error, count.get()));
+        report.put("errors", errorCounts);
+
+        Path file = directory.resolve(REPORT_FILE);
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load report to " + file, e);
+        }
+        return file;
+    }
+
+    private double errorRate() {
+        long total = passed.get() + failed.get();
+        return total == 0 ? 0.0 : 100.0 * failed.get() / total;
+    }
+
+    private static double throughput(long count, long elapsedMillis) {
+        return elapsedMillis == 0 ? 0.0 : count * 1000.0 / elapsedMillis;
+    }
+
+    private static void appendTable(StringBuilder out, String title, Map<String, Timings> timings, long elapsedMillis) {
+        out.append(String.format("%-60s %8s %8s %7s %9s %9s %9s %9s%n",
+                title, "count", "errors", "per s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        new TreeMap<>(timings).forEach((name, t) -> out.append(String.format("%-60s %8d %8d %7.2f %9.1f %9.1f %9.1f %9.1f%n",
+                name.length() > 60 ? name.substring(0, 57) + "..." : name,
+                t.histogram.getCount(), t.failures.get(), throughput(t.histogram.getCount(), elapsedMillis),
+                millis(t.histogram.getValueAtPercentile(50)), millis(t.histogram.getValueAtPercentile(90)),
+                millis(t.histogram.getValueAtPercentile(99)), millis(t.histogram.getMaxMicros()))));
+    }
+
+    private static List<Map<String, Object>> summarize(Map<String, Timings> timings, long elapsedMillis) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        new TreeMap<>(timings).forEach((name, t) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", name);
+            entry.put("count", t.histogram.getCount());
+            entry.put("failures", t.failures.get());
+            entry.put("perSecond", throughput(t.histogram.getCount(), elapsedMillis));
+            entry.put("p50", millis(t.histogram.getValueAtPercentile(50)));
+            entry.put("p90", millis(t.histogram.getValueAtPercentile(90)));
+            entry.put("p99", millis(t.histogram.getValueAtPercentile(99)));
+            entry.put("max", millis(t.histogram.getMaxMicros()));
+            entries.add(entry);
+        });
+        return entries;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        String trimmed = message.strip();
+        int newline = trimmed.indexOf('\n');
+        return newline < 0 ? trimmed : trimmed.substring(0, newline).strip();
+    }
+
+    /**
+     * Latency histogram and failure count of one scenario or step.
+     */
+    private static class Timings {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicLong failures = new AtomicLong();
+
+        void record(Result result) {
+            histogram.record(result.getDuration().toNanos() / 1_000);
+            if (result.getStatus() != Status.PASSED) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.spritecloud.api.perf;
+
+import com.google.gson.GsonBuilder;
+import com.spritecloud.api.mock.MockApiServer;
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.metrics.MetricsRegistry;
+import com.spritecloud.metrics.MetricsServer;
+import com.spritecloud.perf.LatencyHistogram;
+import com.spritecloud.services.CartService;
+import com.spritecloud.services.ProductService;
+import com.spritecloud.services.UserService;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop traffic generator that calls the service layer at a constant arrival rate.
+ *
+ * <p>Design Decision: A closed loop (each user waits for its response before sending the next
+ * request) lowers the offered load exactly when the server slows down, so queueing never shows up
+ * in the measured latencies; this is coordinated omission. Here a single scheduler thread releases
+ * request {@code i} at {@code start + i / rate} regardless of how earlier requests are doing, and
+ * latency is measured from that intended start time. Time a request spends waiting for a free
+ * worker, or that the scheduler itself ran late, is therefore part of its latency.
+ * The uncorrected service time (from actual send to response) is recorded alongside for comparison.
+ *
+ * <p>Operations are called round-robin from the given mix. The default mix uses endpoints stubbed
+ * by {@link MockApiServer}, which is started when {@code MOCK_API=true}.
+ *
+ * <p>Usage:
+ * <pre>
+ * MOCK_API=true OPEN_LOOP_RATE=200 OPEN_LOOP_DURATION_SECONDS=60 \
+ *     mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.spritecloud.api.perf.OpenLoopGenerator
+ * </pre>
+ */
+public class OpenLoopGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenLoopGenerator.class);
+
+    /** Report file written into the performance report directory */
+    public static final String REPORT_FILE = "open-loop.json";
+    /** Parking is imprecise for very short waits, so the last stretch before a send is spun */
+    private static final long SPIN_THRESHOLD_NANOS = 100_000;
+
+    private final double ratePerSecond;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final List<Operation> operations;
+
+    /**
+     * @param ratePerSecond target arrival rate
+     * @param duration how long to generate arrivals
+     * @param maxInFlight requests executing at once; later arrivals queue until a worker is free
+     * @param operations service calls to send, round-robin
+     */
+    public OpenLoopGenerator(double ratePerSecond, Duration duration, int maxInFlight, List<Operation> operations) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive, was " + ratePerSecond);
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.operations = List.copyOf(operations);
+    }
+
+    public static void main(String[] args) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (config.isMockApiEnabled()) {
+            MockApiServer.getInstance().start();
+        }
+        MetricsServer.startIfConfigured();
+        try {
+            ProductService productService = new ProductService();
+            UserService userService = new UserService();
+            CartService cartService = new CartService();
+            List<Operation> mix = List.of(
+                    new Operation("ProductService.getAllProducts", productService::getAllProducts),
+                    new Operation("ProductService.getProductById", () -> productService.getProductById(1)),
+                    new Operation("UserService.getUserById", () -> userService.getUserById(1)),
+                    new Operation("CartService.getUserCarts", () -> cartService.getUserCarts(1)));
+
+            OpenLoopGenerator generator = new OpenLoopGenerator(config.getOpenLoopRate(),
+                    Duration.ofSeconds(config.getOpenLoopDurationSeconds()), config.getOpenLoopMaxInFlight(), mix);
+            Result result = generator.run();
+            result.writeReport(Path.of(config.getPerfReportDir()));
+            MetricsRegistry.getInstance().writeReport(Path.of(config.getPerfReportDir()));
+        } finally {
+            MetricsServer.stop();
+            if (MockApiServer.isInitialized()) {
+                MockApiServer.getInstance().stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Generates arrivals for the configured duration, waits for all requests to finish and logs the report.
+     *
+     * @return latencies and counters of the run
+     */
+    public Result run() {
+        long intervalNanos = Math.round(1_000_000_000 / ratePerSecond);
+        long total = duration.toNanos() / intervalNanos;
+        Result result = new Result(ratePerSecond, operations);
+        AtomicInteger workerIds = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "open-loop-" + workerIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Open-loop run: {} requests at {}/s over {} s, at most {} in flight",
+                total, ratePerSecond, duration.toSeconds(), maxInFlight);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            waitUntil(intended);
+            result.recordSchedulerLag(System.nanoTime() - intended);
+            int index = (int) (i % operations.size());
+            workers.execute(() -> result.execute(index, operations.get(index), intended));
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.MINUTES)) {
+                logger.warn("Open-loop requests still running after 5 minutes, reporting what completed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+
+        logger.info("\n{}", result.render());
+        return result;
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+        }
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * A named service call.
+     *
+     * @param name name used in the report
+     * @param call the call; a non-2xx status or an exception counts as an error
+     */
+    public record Operation(String name, Supplier<Response> call) {
+    }
+
+    /**
+     * Latencies and counters of one open-loop run.
+     */
+    public static class Result {
+
+        private final double targetRate;
+        private final List<Operation> operations;
+        private final LatencyHistogram corrected = new LatencyHistogram();
+        private final LatencyHistogram uncorrected = new LatencyHistogram();
+        private final List<LatencyHistogram> perOperation = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final AtomicLong maxSchedulerLagNanos = new AtomicLong();
+        private long elapsedNanos;
+
+        Result(double targetRate, List<Operation> operations) {
+            this.targetRate = targetRate;
+            this.operations = operations;
+            operations.forEach(operation -> perOperation.add(new LatencyHistogram()));
+        }
+
+        private void execute(int index, Operation operation, long intendedStart) {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            long actualStart = System.nanoTime();
+            try {
+                Response response = operation.call().get();
+                response.asByteArray();
+                if (response.getStatusCode() < 200 || response.getStatusCode() >= 300) {
+                    errors.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                errors.incrementAndGet();
+                logger.debug("{} failed: {}", operation.name(), e.getMessage());
+            } finally {
+                long end = System.nanoTime();
+                inFlight.decrementAndGet();
+                corrected.record((end - intendedStart) / 1_000);
+                uncorrected.record((end - actualStart) / 1_000);
+                perOperation.get(index).record((end - intendedStart) / 1_000);
+            }
+        }
+
+        private void recordSchedulerLag(long lagNanos) {
+            maxSchedulerLagNanos.accumulateAndGet(lagNanos, Math::max);
+        }
+
+        /**
+         * @return latency from intended start, including queueing
+         */
+        public LatencyHistogram getCorrected() {
+            return corrected;
+        }
+
+        /**
+         * @return latency from actual send, as a closed-loop client would report it
+         */
+        public LatencyHistogram getUncorrected() {
+            return uncorrected;
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        /**
+         * @return completed requests per second over the whole run
+         */
+        public double getAchievedRate() {
+            return elapsedNanos == 0 ? 0.0 : corrected.getCount() * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Renders the run as a text summary comparing corrected and uncorrected percentiles.
+         *
+         * @return multi-line summary
+         */
+        public String render() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("Open-loop run: target %.1f/s, achieved %.1f/s, %d requests, %d errors, "
+                            + "peak %d in flight, max scheduler lag %.2f ms%n",
+                    targetRate, getAchievedRate(), corrected.getCount(), errors.get(), peakInFlight.get(),
+                    maxSchedulerLagNanos.get() / 1e6));
+            out.append(String.format("%-40s %9s %9s %9s %9s %9s%n", "", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            appendRow(out, "corrected (from intended start)", corrected);
+            appendRow(out, "uncorrected (from actual send)", uncorrected);
+            for (int i = 0; i < operations.size(); i++) {
+                appendRow(out, "  " + operations.get(i).name(), perOperation.get(i));
+            }
+            return out.toString();
+        }
+
+        /**
+         * Writes the run as JSON into {@code directory/open-loop.json}.
+         *
+         * @param directory report directory, created if missing
+         * @return path of the written report
+         */
+        public Path writeReport(Path directory) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("generatedAt", Instant.now().toString());
+            report.put("targetRate", targetRate);
+            report.put("achievedRate", getAchievedRate());
+            report.put("requests", corrected.getCount());
+            report.put("errors", errors.get());
+            report.put("peakInFlight", peakInFlight.get());
+            report.put("maxSchedulerLagMs", maxSchedulerLagNanos.get() / 1e6);
+            report.put("unit", "ms");
+            report.put("corrected", summarize(corrected));
+            report.put("uncorrected", summarize(uncorrected));
+            Map<String, Object> byOperation = new LinkedHashMap<>();
+            for (int i = 0; i < operations.size(); i++) {
+                byOperation.put(operations.get(i).name(), summarize(perOperation.get(i)));
+            }
+            report.put("operations", byOperation);
+
+            Path file = directory.resolve(REPORT_FILE);
+            try {
+                Files.createDirectories(directory);
+                try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write open-loop report to " + file, e);
+            }
+            logger.info("Open-loop report written to {}", file);
+            return file;
+        }
+
+        private static void appendRow(StringBuilder out, String name, LatencyHistogram histogram) {
+            out.append(String.format("%-40s %9.1f %9.1f %9.1f %9.1f %9.1f%n", name,
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxMicros() / 1000.0));
+        }
+
+        private static Map<String, Object> summarize(LatencyHistogram histogram) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getCount());
+            summary.put("p50", histogram.getValueAtPercentile(50) / 1000.0);
+            summary.put("p90", histogram.getValueAtPercentile(90) / 1000.0);
+            summary.put("p99", histogram.getValueAtPercentile(99) / 1000.0);
+            summary.put("p99.9", histogram.getValueAtPercentile(99.9) / 1000.0);
+            summary.put("max", histogram.getMaxMicros() / 1000.0);
+            return summary;
+        }
+    }
+}
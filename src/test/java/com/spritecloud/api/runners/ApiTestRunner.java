@@ -6,13 +6,15 @@ import static io.cucumber.junit.platform.engine.Constants.*;
 
 /**
  * Suite runner for all API tests.
- * Runs all Cucumber scenarios tagged with @API from the features/api directory.
+ * Runs all Cucumber scenarios tagged with @API from the features/api directory,
+ * except @Sequential ones, which {@link SequentialApiTestRunner} runs on their own.
  *
  * <p>Test Configuration:
  * <ul>
  *   <li>Features: features/api/**</li>
- *   <li>Tags: @API and not @Ignore</li>
- *   <li>Reports: HTML, JSON, and JUnit XML formats</li>
+ *   <li>Tags: @API and not @Ignore and not @Sequential</li>
+ *   <li>Parallelism: 32 threads (services share no mutable state)</li>
+ *   <li>Reports: HTML, JSON, and JUnit XML formats, plus Flight Recorder events, the step profile and a performance baseline of its own</li>
  *   <li>Glue: com.spritecloud.api.steps, com.spritecloud.api.hooks</li>
  * </ul>
  *
@@ -25,11 +27,18 @@ import static io.cucumber.junit.platform.engine.Constants.*;
         value = "pretty, " +
                 "html:target/cucumber-reports/api/cucumber.html, " +
                 "json:target/cucumber-reports/api/cucumber.json, " +
-                "junit:target/cucumber-reports/api/cucumber.xml")
+                "junit:target/cucumber-reports/api/cucumber.xml, " +
+                "com.spritecloud.jfr.FlightRecorderPlugin, " +
+                "com.spritecloud.perf.StepProfiler, " +
+                "com.spritecloud.perf.PerformanceSuitePlugin:api")
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME,
         value = "com.spritecloud.api.steps,com.spritecloud.api.hooks,com.spritecloud.api.testrail")
 @ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME,
-        value = "@API and not @Ignore")
+        value = "@API and not @Ignore and not @Sequential")
+@ConfigurationParameter(key = PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME,
+        value = "32")
+@ConfigurationParameter(key = PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME,
+        value = "32")
 @ConfigurationParameter(key = PLUGIN_PUBLISH_QUIET_PROPERTY_NAME,
         value = "true")
 @ConfigurationParameter(key = EXECUTION_DRY_RUN_PROPERTY_NAME,
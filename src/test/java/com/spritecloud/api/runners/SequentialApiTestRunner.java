@@ -0,0 +1,45 @@
+package com.spritecloud.api.runners;
+
+import org.junit.platform.suite.api.*;
+
+import static io.cucumber.junit.platform.engine.Constants.*;
+
+/**
+ * Suite runner for API tests that must not share the machine with other scenarios.
+ * Runs Cucumber scenarios tagged with @Sequential one at a time, such as response-time
+ * sampling, whose percentiles would otherwise measure contention with the parallel suite.
+ *
+ * <p>Test Configuration:
+ * <ul>
+ *   <li>Features: features/api/**</li>
+ *   <li>Tags: @API and @Sequential and not @Ignore</li>
+ *   <li>Parallelism: disabled</li>
+ *   <li>Reports: HTML, JSON, and JUnit XML formats, plus Flight Recorder events, the step profile and a performance baseline of its own</li>
+ *   <li>Glue: com.spritecloud.api.steps, com.spritecloud.api.hooks</li>
+ * </ul>
+ *
+ * <p>Usage: Runs after {@link ApiTestRunner}, which excludes @Sequential scenarios
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features/api")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME,
+        value = "pretty, " +
+                "html:target/cucumber-reports/api-sequential/cucumber.html, " +
+                "json:target/cucumber-reports/api-sequential/cucumber.json, " +
+                "junit:target/cucumber-reports/api-sequential/cucumber.xml, " +
+                "com.spritecloud.jfr.FlightRecorderPlugin, " +
+                "com.spritecloud.perf.StepProfiler, " +
+                "com.spritecloud.perf.PerformanceSuitePlugin:api-sequential")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME,
+        value = "com.spritecloud.api.steps,com.spritecloud.api.hooks,com.spritecloud.api.testrail")
+@ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME,
+        value = "@API and @Sequential and not @Ignore")
+@ConfigurationParameter(key = PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME,
+        value = "false")
+@ConfigurationParameter(key = PLUGIN_PUBLISH_QUIET_PROPERTY_NAME,
+        value = "true")
+@ConfigurationParameter(key = EXECUTION_DRY_RUN_PROPERTY_NAME,
+        value = "false")
+public class SequentialApiTestRunner {
+}
@@ -1,5 +1,6 @@
 package com.spritecloud.api.steps;
 
+import com.spritecloud.http.ResponseTimes;
 import com.spritecloud.models.api.AuthToken;
 import com.spritecloud.services.AuthService;
 import com.spritecloud.utils.AssertionUtils;
@@ -125,4 +126,18 @@ public class AuthSteps {
         logger.info("Validating response time is under {} ms", maxResponseTime);
         AssertionUtils.assertResponseTime(context.getResponse(), maxResponseTime);
     }
+
+    /**
+     * Validates that the API response took at least the given time, e.g. a delay injected by the mock API.
+     * Corresponds to Gherkin: "And the response time should be at least {int} milliseconds"
+     *
+     * @param minResponseTime minimum expected response time in milliseconds
+     */
+    @And("the response time should be at least {int} milliseconds")
+    public void theResponseTimeShouldBeAtLeastMilliseconds(int minResponseTime) {
+        logger.info("Validating response time is at least {} ms", minResponseTime);
+        assertThat(ResponseTimes.of(context.getResponse()))
+                .as("Response time (ms)")
+                .isGreaterThanOrEqualTo(minResponseTime);
+    }
 }
@@ -0,0 +1,99 @@
+package com.spritecloud.api.steps;
+
+import com.spritecloud.http.TrafficLog;
+import com.spritecloud.models.api.Product;
+import com.spritecloud.services.BulkResult;
+import com.spritecloud.services.ProductService;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for bulk fetch scenarios.
+ * Drives the async service layer through its order-preserving, concurrency-bounded bulk API.
+ */
+public class BulkSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkSteps.class);
+    private final ProductService productService;
+    private BulkResult<Product> bulkResult;
+
+    public BulkSteps() {
+        this.productService = new ProductService();
+    }
+
+    @Given("the bulk product fetch has been warmed up with {int} requests in flight")
+    public void theBulkProductFetchHasBeenWarmedUp(int maxConcurrency) {
+        // Opens the pooled connections and loads the client and mock server code paths,
+        // so the timed fetch measures only the requests themselves
+        logger.info("Warming up bulk product fetch with concurrency {}", maxConcurrency);
+        productService.getProductsByIds(List.of(1, 2, 3, 4, 5, 6, 7, 8).subList(0, maxConcurrency), maxConcurrency);
+    }
+
+    @When("I fetch products {string} with at most {int} requests in flight")
+    public void iFetchProductsWithAtMostRequestsInFlight(String ids, int maxConcurrency) {
+        logger.info("Bulk fetching products [{}] with concurrency {}", ids, maxConcurrency);
+        bulkResult = productService.getProductsByIds(parseIds(ids), maxConcurrency);
+        logger.info("Bulk fetch result: {}", bulkResult);
+    }
+
+    @Then("the bulk result should list IDs {string} in that order")
+    public void theBulkResultShouldListIdsInThatOrder(String ids) {
+        assertThat(bulkResult.getEntries())
+                .as("Bulk result entry IDs")
+                .extracting(BulkResult.Entry::id)
+                .containsExactlyElementsOf(parseIds(ids));
+    }
+
+    @And("the bulk fetch should have returned products {string}")
+    public void theBulkFetchShouldHaveReturnedProducts(String ids) {
+        assertThat(bulkResult.getValues())
+                .as("Products returned by the bulk fetch")
+                .extracting(Product::getId)
+                .containsExactlyElementsOf(parseIds(ids));
+    }
+
+    @And("the bulk fetch should have failed for IDs {string}")
+    public void theBulkFetchShouldHaveFailedForIds(String ids) {
+        assertThat(bulkResult.getFailures().keySet())
+                .as("IDs the bulk fetch failed for")
+                .containsExactlyElementsOf(parseIds(ids));
+        assertThat(bulkResult.getFailures().values())
+                .as("Bulk fetch failures")
+                .allSatisfy(error -> assertThat(error)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("returned no resource"));
+    }
+
+    @And("the bulk fetch should have taken between {int} and {int} milliseconds")
+    public void theBulkFetchShouldHaveTakenBetweenMilliseconds(int minElapsedMs, int maxElapsedMs) {
+        assertThat(bulkResult.getElapsedMs())
+                .as("Bulk fetch duration (ms)")
+                .isBetween((long) minElapsedMs, (long) maxElapsedMs);
+    }
+
+    @And("the scenario traffic log should hold {int} requests")
+    public void theScenarioTrafficLogShouldHoldRequests(int expectedRequests) {
+        assertThat(TrafficLog.current())
+                .as("Scenario traffic log")
+                .isNotNull();
+        assertThat(TrafficLog.current().size())
+                .as("Requests recorded in the scenario traffic log")
+                .isEqualTo(expectedRequests);
+    }
+
+    private static List<Integer> parseIds(String ids) {
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.spritecloud.api.steps;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.http.ResponseCache;
+import com.spritecloud.http.ResponseCacheFilter;
+import com.spritecloud.services.ApiClientConfig;
+import com.spritecloud.utils.AssertionUtils;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Step definitions for response cache scenarios.
+ * Each scenario sends requests through its own {@link ResponseCache}, so the cache is exercised
+ * without enabling it for the rest of the run and its counters belong to the scenario alone.
+ */
+public class CacheSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheSteps.class);
+    private ResponseCache cache;
+    private ResponseCacheFilter cacheFilter;
+    private Response response;
+
+    @Given("a response cache holding {int} entries for {int} milliseconds")
+    public void aResponseCacheHoldingEntriesFor(int maxEntries, int ttlMs) {
+        cache = new ResponseCache(ttlMs, maxEntries, false);
+        cacheFilter = new ResponseCacheFilter(cache);
+    }
+
+    @Given("a revalidating response cache holding {int} entries for {int} milliseconds")
+    public void aRevalidatingResponseCacheHoldingEntriesFor(int maxEntries, int ttlMs) {
+        cache = new ResponseCache(ttlMs, maxEntries, true);
+        cacheFilter = new ResponseCacheFilter(cache);
+    }
+
+    @When("I get {string} through the cache")
+    public void iGetThroughTheCache(String path) {
+        String baseUrl = ApiClientConfig.fromConfiguration(ConfigurationManager.getInstance()).getBaseUrl();
+        response = given()
+                .baseUri(baseUrl)
+                .filter(cacheFilter)
+                .get(path);
+        logger.info("GET {} through the cache: {} ({})", path, response.getStatusLine(),
+                response.getHeader(ResponseCache.CACHE_STATUS_HEADER));
+    }
+
+    @When("I wait {int} milliseconds")
+    public void iWaitMilliseconds(int millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Then("the last response should have come from the {word}")
+    public void theLastResponseShouldHaveComeFrom(String source) {
+        assertThat(response.getStatusCode())
+                .as("Status code")
+                .isEqualTo(200);
+        assertThat(ResponseCache.isServedFromCache(response))
+                .as("Served from the cache")
+                .isEqualTo(source.equals("cache"));
+    }
+
+    @And("the last response should be marked {string}")
+    public void theLastResponseShouldBeMarked(String cacheStatus) {
+        assertThat(response.getHeader(ResponseCache.CACHE_STATUS_HEADER))
+                .as("Cache status header")
+                .isEqualTo(cacheStatus);
+    }
+
+    @And("the last response should be product {int}")
+    public void theLastResponseShouldBeProduct(int productId) {
+        assertThat(response.jsonPath().getInt("id"))
+                .as("Product ID")
+                .isEqualTo(productId);
+    }
+
+    @And("the cache should have counted {int} hit(s), {int} miss(es), {int} revalidation(s) and {int} eviction(s)")
+    public void theCacheShouldHaveCounted(int hits, int misses, int revalidations, int evictions) {
+        ResponseCache.Stats stats = cache.getStats();
+        assertThat(stats)
+                .as("Cache counters")
+                .extracting(ResponseCache.Stats::hits, ResponseCache.Stats::misses,
+                        ResponseCache.Stats::revalidations, ResponseCache.Stats::evictions)
+                .containsExactly((long) hits, (long) misses, (long) revalidations, (long) evictions);
+    }
+
+    @And("a response time check on the last response should be skipped")
+    public void aResponseTimeCheckOnTheLastResponseShouldBeSkipped() {
+        // No response time meets a limit of -1 ms, so only a skipped check passes
+        assertThatCode(() -> AssertionUtils.assertResponseTime(response, -1))
+                .as("Response time check on a cached response")
+                .doesNotThrowAnyException();
+    }
+}
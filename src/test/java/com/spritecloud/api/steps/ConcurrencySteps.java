@@ -0,0 +1,127 @@
+package com.spritecloud.api.steps;
+
+import com.spritecloud.services.ProductService;
+import com.spritecloud.services.UserService;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for concurrency stress scenarios.
+ * Hammers the service layer from many threads at once to prove that services
+ * share no mutable state and every response belongs to the request that made it.
+ */
+public class ConcurrencySteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencySteps.class);
+    private final TestContext context;
+    private final Queue<ConcurrentResult> results = new ConcurrentLinkedQueue<>();
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private int clientCount;
+    private int expectedResults;
+
+    public ConcurrencySteps(TestContext context) {
+        this.context = context;
+    }
+
+    @Given("{int} concurrent API clients")
+    public void concurrentApiClients(int clients) {
+        logger.info("Preparing {} concurrent API clients", clients);
+        this.clientCount = clients;
+    }
+
+    @When("each client makes {int} requests cycling through products 1 to {int} and users 1 to {int}")
+    public void eachClientMakesRequestsCyclingThroughProductsAndUsers(int iterations, int productCount, int userCount)
+            throws InterruptedException {
+        logger.info("Each of {} clients making {} requests over products 1-{} and users 1-{}",
+                clientCount, iterations, productCount, userCount);
+        expectedResults = clientCount * iterations * 2;
+
+        ExecutorService executor = Executors.newFixedThreadPool(clientCount);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> clients = new ArrayList<>();
+
+        for (int i = 0; i < clientCount; i++) {
+            int client = i;
+            clients.add(executor.submit(() -> {
+                // Services are created on the client thread, so construction races are exercised too
+                ProductService productService = new ProductService();
+                UserService userService = new UserService();
+                startGate.await();
+                for (int n = 0; n < iterations; n++) {
+                    // Every client and iteration asks for a different ID, so a response
+                    // delivered to the wrong request shows up as an ID mismatch
+                    int productId = 1 + (client + n) % productCount;
+                    int userId = 1 + (client + n) % userCount;
+                    record("product", productId, productService.getProductById(productId));
+                    record("user", userId, userService.getUserById(userId));
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> client : clients) {
+            try {
+                client.get(5, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                failures.add(e);
+            }
+        }
+        executor.shutdownNow();
+
+        logger.info("Concurrent run finished: {} responses, {} client failures", results.size(), failures.size());
+    }
+
+    private void record(String resource, int requestedId, Response response) {
+        Integer returnedId = response.getStatusCode() == 200 ? response.jsonPath().getInt("id") : null;
+        results.add(new ConcurrentResult(resource, requestedId, response.getStatusCode(), returnedId));
+    }
+
+    @Then("every concurrent response should have status code {int}")
+    public void everyConcurrentResponseShouldHaveStatusCode(int expectedStatusCode) {
+        logger.info("Validating status codes of {} concurrent responses", results.size());
+
+        assertThat(failures)
+                .as("Client failures")
+                .isEmpty();
+
+        assertThat(results)
+                .as("Concurrent responses")
+                .hasSize(expectedResults)
+                .allSatisfy(result -> assertThat(result.statusCode())
+                        .as("Status code for %s %d", result.resource(), result.requestedId())
+                        .isEqualTo(expectedStatusCode));
+    }
+
+    @And("every concurrent response should match the requested resource")
+    public void everyConcurrentResponseShouldMatchTheRequestedResource() {
+        logger.info("Validating every response belongs to its request");
+
+        assertThat(results)
+                .allSatisfy(result -> assertThat(result.returnedId())
+                        .as("Returned ID for %s %d", result.resource(), result.requestedId())
+                        .isEqualTo(result.requestedId()));
+
+        logger.info("All {} concurrent responses matched their requests", results.size());
+    }
+
+    private record ConcurrentResult(String resource, int requestedId, int statusCode, Integer returnedId) {
+    }
+}
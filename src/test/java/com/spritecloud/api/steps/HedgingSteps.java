@@ -0,0 +1,151 @@
+package com.spritecloud.api.steps;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.http.HedgingPolicy;
+import com.spritecloud.http.MockNetworkProfileFilter;
+import com.spritecloud.http.TrafficLog;
+import com.spritecloud.services.ApiClientConfig;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for hedged request scenarios.
+ * Each scenario uses its own enabled {@link HedgingPolicy}, so hedging is exercised
+ * without turning it on for the rest of the run.
+ */
+public class HedgingSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingSteps.class);
+    private static final String ENDPOINT_KEY = "/products/{id}";
+    private HedgingPolicy hedgingPolicy;
+    private Response response;
+    private long elapsedMs;
+    private int loggedBefore;
+    private int loggedWhenAnswered;
+    private int firstAttemptDelayMs;
+
+    @Given("a hedging policy that hedges after {int} milliseconds")
+    public void aHedgingPolicyThatHedgesAfterMilliseconds(int hedgeDelayMs) {
+        logger.info("Creating hedging policy with a hedge delay of {} ms", hedgeDelayMs);
+        hedgingPolicy = new HedgingPolicy(true, 95.0, hedgeDelayMs, hedgeDelayMs);
+    }
+
+    @Given("product {int} has been requested once to warm up the client")
+    public void productHasBeenRequestedOnceToWarmUpTheClient(int productId) {
+        // Opens a pooled connection and loads the client and mock server code paths,
+        // so the hedge timings below measure only the requests themselves
+        RequestSpecification spec = ApiClientConfig.fromConfiguration(ConfigurationManager.getInstance()).getRequestSpec();
+        given().spec(spec).get("/products/" + productId).then().statusCode(200);
+    }
+
+    @When("I send a hedged request for product {int} whose first attempt is delayed by {int} milliseconds")
+    public void iSendAHedgedRequestWhoseFirstAttemptIsDelayed(int productId, int delayMs) {
+        RequestSpecification spec = ApiClientConfig.fromConfiguration(ConfigurationManager.getInstance()).getRequestSpec();
+        firstAttemptDelayMs = delayMs;
+        AtomicInteger attempts = new AtomicInteger();
+        execute(() -> attempts.getAndIncrement() == 0
+                ? given().spec(spec).header(MockNetworkProfileFilter.LATENCY_HEADER, "fixed:" + delayMs)
+                        .get("/products/" + productId)
+                : given().spec(spec).get("/products/" + productId));
+    }
+
+    @When("I send a hedged request whose first attempt answers {int} after {int} milliseconds and whose hedge answers {int} at once")
+    public void iSendAHedgedRequestWhoseHedgeAnswersAtOnce(int firstStatus, int delayMs, int hedgeStatus) {
+        AtomicInteger attempts = new AtomicInteger();
+        execute(() -> {
+            if (attempts.getAndIncrement() > 0) {
+                return jsonResponse(hedgeStatus);
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return jsonResponse(firstStatus);
+        });
+    }
+
+    private void execute(Supplier<Response> request) {
+        TrafficLog trafficLog = TrafficLog.current();
+        loggedBefore = trafficLog != null ? trafficLog.size() : 0;
+        long start = System.nanoTime();
+        response = hedgingPolicy.execute(ENDPOINT_KEY, request);
+        elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        loggedWhenAnswered = trafficLog != null ? trafficLog.size() : 0;
+        logger.info("Hedged request answered {} in {} ms, stats: {}", response.getStatusCode(), elapsedMs,
+                hedgingPolicy.getStats());
+    }
+
+    private static Response jsonResponse(int statusCode) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setContentType(ContentType.JSON)
+                .setBody("{}")
+                .build();
+    }
+
+    @Then("the hedged request should have returned status {int}")
+    public void theHedgedRequestShouldHaveReturnedStatus(int expectedStatus) {
+        assertThat(response.getStatusCode())
+                .as("Status code of the winning attempt")
+                .isEqualTo(expectedStatus);
+    }
+
+    @And("the hedged request should have returned product {int}")
+    public void theHedgedRequestShouldHaveReturnedProduct(int productId) {
+        assertThat(response.jsonPath().getInt("id"))
+                .as("Product ID of the winning attempt")
+                .isEqualTo(productId);
+    }
+
+    @And("the hedging policy should have fired {int} hedge(s) and won {int}")
+    public void theHedgingPolicyShouldHaveFiredHedgesAndWon(int fired, int won) {
+        HedgingPolicy.Stats stats = hedgingPolicy.getStats();
+        assertThat(stats.hedgesFired())
+                .as("Hedges fired")
+                .isEqualTo(fired);
+        assertThat(stats.hedgesWon())
+                .as("Hedges won")
+                .isEqualTo(won);
+    }
+
+    @And("the hedged request should have taken less than {int} milliseconds")
+    public void theHedgedRequestShouldHaveTakenLessThanMilliseconds(int maxElapsedMs) {
+        assertThat(elapsedMs)
+                .as("Hedged request duration (ms)")
+                .isLessThan(maxElapsedMs);
+    }
+
+    @And("only the hedge should be recorded in the traffic log, even once the original attempt has answered")
+    public void onlyTheHedgeShouldBeRecordedInTheTrafficLog() throws InterruptedException {
+        TrafficLog trafficLog = TrafficLog.current();
+        assertThat(loggedWhenAnswered - loggedBefore)
+                .as("Exchanges recorded when the hedged request returned")
+                .isEqualTo(1);
+
+        // Give the delayed original attempt time to answer and be drained
+        Thread.sleep(Math.max(0, firstAttemptDelayMs - elapsedMs) + 500);
+        assertThat(trafficLog.size() - loggedBefore)
+                .as("Exchanges recorded once the original attempt answered")
+                .isEqualTo(1);
+        // Only the original attempt carried the injected latency
+        assertThat(trafficLog.render())
+                .as("Recorded exchange")
+                .doesNotContain(MockNetworkProfileFilter.LATENCY_HEADER);
+    }
+}
@@ -0,0 +1,287 @@
+package com.spritecloud.api.steps;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.spritecloud.api.mock.MockApiServer;
+import com.spritecloud.api.mock.MockCassette;
+import com.spritecloud.api.mock.MockDataStore;
+import com.spritecloud.api.mock.MockDataStore.Resource;
+import com.spritecloud.api.mock.MockDatasetGenerator;
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.services.CartService;
+import io.cucumber.java.After;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for scenarios about the mock API server itself.
+ * Each scenario starts its own {@link MockApiServer} instances on ephemeral ports, seeded with the
+ * sample data and applying writes or not (MOCK_API_PERSIST_WRITES), so it can change their data
+ * without affecting the shared mock server other scenarios run against.
+ * Synthetic data sets of {@link MockDatasetGenerator} and {@link MockCassette} files are written to a
+ * temporary directory that is removed after the scenario.
+ */
+public class MockServerSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockServerSteps.class);
+    private final List<MockApiServer> servers = new ArrayList<>();
+    private final Map<String, Path> datasets = new HashMap<>();
+    private Path workDirectory;
+    private Path cassetteFile;
+    private Response response;
+
+    @Given("{int} independent mock server(s) applying writes")
+    public void independentMockServersApplyingWrites(int count) {
+        startServers(count, true);
+    }
+
+    @Given("{int} independent mock server(s) only acknowledging writes")
+    public void independentMockServersOnlyAcknowledgingWrites(int count) {
+        startServers(count, false);
+    }
+
+    @Given("synthetic data set {string} with seed {long}, {int} products, {int} users and {int} carts")
+    public void syntheticDataSet(String name, long seed, int products, int users, int carts) throws IOException {
+        Path file = workFile(name + ".json");
+        new MockDatasetGenerator(seed, products, users, carts).write(file, MockDataStore.seeded(false));
+        datasets.put(name, file);
+    }
+
+    @Given("an independent mock server loaded with synthetic data set {string}")
+    public void anIndependentMockServerLoadedWithSyntheticDataSet(String name) {
+        MockDataStore store = MockDataStore.seeded(true);
+        store.load(dataset(name));
+        MockApiServer server = new MockApiServer(0, store).start();
+        servers.add(server);
+        logger.info("Independent mock server {} started at {} with synthetic data set {}",
+                servers.size(), server.getBaseUrl(), name);
+    }
+
+    @Given("a mock cassette recording:")
+    public void aMockCassetteRecording(List<Map<String, String>> interactions) throws IOException {
+        MockCassette cassette = new MockCassette();
+        for (Map<String, String> interaction : interactions) {
+            cassette.add(new MockCassette.Interaction(interaction.get("method"), interaction.get("url"),
+                    interaction.get("request body"), Integer.parseInt(interaction.get("status")),
+                    "application/json", interaction.get("response body")));
+        }
+        cassetteFile = workFile("cassette.jsonl.gz");
+        cassette.write(cassetteFile);
+    }
+
+    @Given("an independent mock server replaying the cassette")
+    public void anIndependentMockServerReplayingTheCassette() {
+        assertThat(cassetteFile)
+                .as("Recorded cassette")
+                .isNotNull();
+        MockApiServer server = new MockApiServer(0, MockDataStore.seeded(true), cassetteFile).start();
+        servers.add(server);
+        logger.info("Independent mock server {} started at {} replaying {}", servers.size(), server.getBaseUrl(),
+                cassetteFile);
+    }
+
+    @When("I send {word} {string} to mock server {int}")
+    public void iSendToMockServer(String method, String path, int server) {
+        response = request(server).request(method, path);
+    }
+
+    @When("I send {word} {string} to mock server {int} with body:")
+    public void iSendToMockServerWithBody(String method, String path, int server, String body) {
+        response = request(server)
+                .contentType(ContentType.JSON)
+                .body(body)
+                .request(method, path);
+    }
+
+    @Then("the mock servers should listen on distinct ports")
+    public void theMockServersShouldListenOnDistinctPorts() {
+        List<Integer> ports = new ArrayList<>(servers.stream().map(MockApiServer::getPort).toList());
+        // The shared instance, when running, publishes its URL; independent instances must leave it alone
+        if (MockApiServer.isInitialized() && MockApiServer.getInstance().isRunning()) {
+            int sharedPort = MockApiServer.getInstance().getPort();
+            assertThat(ConfigurationManager.getInstance().getMockApiUrl())
+                    .as("Published mock API URL")
+                    .isEqualTo("http://localhost:" + sharedPort);
+            ports.add(sharedPort);
+        }
+        assertThat(ports)
+                .as("Mock server ports")
+                .doesNotHaveDuplicates();
+    }
+
+    @Then("the mock response status should be {int}")
+    public void theMockResponseStatusShouldBe(int status) {
+        assertThat(response.getStatusCode())
+                .as("Mock response status, body: %s", response.asString())
+                .isEqualTo(status);
+    }
+
+    @And("the mock response field {string} should be {string}")
+    public void theMockResponseFieldShouldBe(String field, String value) {
+        assertThat(response.jsonPath().getString(field))
+                .as("Mock response field %s", field)
+                .isEqualTo(value);
+    }
+
+    @And("the mock response should not have field {string}")
+    public void theMockResponseShouldNotHaveField(String field) {
+        assertThat(response.jsonPath().getMap("$"))
+                .as("Mock response fields")
+                .doesNotContainKey(field);
+    }
+
+    @And("the mock response should be null")
+    public void theMockResponseShouldBeNull() {
+        assertThat(response.asString().strip())
+                .as("Mock response body")
+                .isEqualTo("null");
+    }
+
+    @And("the mock response should list ids {string}")
+    public void theMockResponseShouldListIds(String ids) {
+        List<Integer> expected = ids.isBlank() ? List.of() : Arrays.stream(ids.split(","))
+                .map(String::strip)
+                .map(Integer::valueOf)
+                .toList();
+        assertThat(response.jsonPath().getList("id", Integer.class))
+                .as("Listed ids")
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Then("synthetic data sets {string} and {string} should be byte-identical")
+    public void syntheticDataSetsShouldBeByteIdentical(String first, String second) throws IOException {
+        assertThat(Files.mismatch(dataset(first), dataset(second)))
+                .as("Offset of the first differing byte of %s and %s", first, second)
+                .isEqualTo(-1L);
+    }
+
+    @Then("synthetic data sets {string} and {string} should have the same products")
+    public void syntheticDataSetsShouldHaveTheSameProducts(String first, String second) {
+        JsonArray products = readDataset(first).getAsJsonArray(Resource.PRODUCTS.getPath());
+        assertThat(products)
+                .as("Products of %s", first)
+                .isNotEmpty();
+        assertThat(readDataset(second).getAsJsonArray(Resource.PRODUCTS.getPath()))
+                .as("Products of %s compared to %s", second, first)
+                .isEqualTo(products);
+    }
+
+    @Then("mock server {int} should serve every entity of synthetic data set {string}")
+    public void mockServerShouldServeEveryEntityOfSyntheticDataSet(int server, String name) {
+        JsonObject dataset = readDataset(name);
+        for (Resource resource : Resource.values()) {
+            JsonArray entities = dataset.getAsJsonArray(resource.getPath());
+            if (entities == null) {
+                continue;
+            }
+            for (JsonElement entity : entities) {
+                int id = entity.getAsJsonObject().get("id").getAsInt();
+                Response served = request(server).get("/" + resource.getPath() + "/" + id);
+                assertThat(JsonParser.parseString(served.asString()))
+                        .as("%s %d of synthetic data set %s on mock server %d", resource, id, name, server)
+                        .isEqualTo(entity);
+            }
+        }
+    }
+
+    @And("cart {int} should be missing on mock server {int}")
+    public void cartShouldBeMissingOnMockServer(int cartId, int server) {
+        Response cart = cartService(server).getCartById(cartId);
+        assertThat(cart.asString().strip())
+                .as("Cart %d on mock server %d", cartId, server)
+                .isEqualTo("null");
+    }
+
+    @And("cart {int} should still exist on mock server {int}")
+    public void cartShouldStillExistOnMockServer(int cartId, int server) {
+        Response cart = cartService(server).getCartById(cartId);
+        assertThat(cart.jsonPath().getInt("id"))
+                .as("Cart %d on mock server %d", cartId, server)
+                .isEqualTo(cartId);
+    }
+
+    @After("@MockServer")
+    public void stopMockServers() {
+        servers.forEach(MockApiServer::stop);
+        servers.clear();
+        if (workDirectory != null) {
+            try (Stream<Path> files = Files.walk(workDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            } catch (IOException e) {
+                logger.warn("Failed to remove mock server files in {}", workDirectory, e);
+            }
+            workDirectory = null;
+            datasets.clear();
+            cassetteFile = null;
+        }
+    }
+
+    private void startServers(int count, boolean persistWrites) {
+        for (int i = 0; i < count; i++) {
+            MockApiServer server = new MockApiServer(0, MockDataStore.seeded(persistWrites)).start();
+            servers.add(server);
+            logger.info("Independent mock server {} started at {}", servers.size(), server.getBaseUrl());
+        }
+    }
+
+    /**
+     * Services reach independent servers through their own client configuration.
+     */
+    private CartService cartService(int server) {
+        return new CartService(server(server).clientConfig());
+    }
+
+    private RequestSpecification request(int server) {
+        return given().baseUri(server(server).getBaseUrl());
+    }
+
+    private Path workFile(String name) throws IOException {
+        if (workDirectory == null) {
+            workDirectory = Files.createTempDirectory("mock-server");
+        }
+        return workDirectory.resolve(name);
+    }
+
+    private Path dataset(String name) {
+        assertThat(datasets)
+                .as("Synthetic data sets")
+                .containsKey(name);
+        return datasets.get(name);
+    }
+
+    private JsonObject readDataset(String name) {
+        try {
+            return JsonParser.parseString(Files.readString(dataset(name))).getAsJsonObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read synthetic data set " + name, e);
+        }
+    }
+
+    private MockApiServer server(int number) {
+        return servers.get(number - 1);
+    }
+}
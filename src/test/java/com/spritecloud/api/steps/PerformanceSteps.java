@@ -0,0 +1,60 @@
+package com.spritecloud.api.steps;
+
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.perf.ResponseTimeDistribution;
+import com.spritecloud.perf.ResponseTimeSampler;
+import com.spritecloud.services.EndpointService;
+import com.spritecloud.utils.AssertionUtils;
+import io.cucumber.java.en.Then;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Step definitions for statistical response-time assertions.
+ * Repeats a request many times, discards warmup calls and outliers, and asserts on a
+ * percentile of the remaining samples instead of a single, noisy measurement.
+ */
+public class PerformanceSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceSteps.class);
+    private final ConfigurationManager config = ConfigurationManager.getInstance();
+    private final EndpointService endpointService = new EndpointService();
+
+    /**
+     * Samples an endpoint with the configured number of warmup calls.
+     * Corresponds to Gherkin: "Then p95 of GET /products over 50 calls is under 800 ms"
+     *
+     * @param percentile percentile to assert on
+     * @param method HTTP method
+     * @param endpoint endpoint path
+     * @param calls number of measured calls
+     * @param maxMillis maximum acceptable response time at the percentile
+     */
+    @Then("p{int} of {word} {word} over {int} calls is under {int} ms")
+    public void percentileOfEndpointOverCallsIsUnder(int percentile, String method, String endpoint,
+                                                     int calls, int maxMillis) {
+        percentileOfEndpointOverCallsAfterWarmupIsUnder(percentile, method, endpoint, calls,
+                config.getPerfWarmupCalls(), maxMillis);
+    }
+
+    /**
+     * Samples an endpoint with an explicit number of warmup calls.
+     * Corresponds to Gherkin: "Then p95 of GET /products over 50 calls after 10 warmup calls is under 800 ms"
+     *
+     * @param percentile percentile to assert on
+     * @param method HTTP method
+     * @param endpoint endpoint path
+     * @param calls number of measured calls
+     * @param warmupCalls number of calls discarded before measuring
+     * @param maxMillis maximum acceptable response time at the percentile
+     */
+    @Then("p{int} of {word} {word} over {int} calls after {int} warmup calls is under {int} ms")
+    public void percentileOfEndpointOverCallsAfterWarmupIsUnder(int percentile, String method, String endpoint,
+                                                                int calls, int warmupCalls, int maxMillis) {
+        logger.info("Sampling {} {} over {} calls after {} warmup calls", method, endpoint, calls, warmupCalls);
+        ResponseTimeSampler sampler = new ResponseTimeSampler(warmupCalls, config.getPerfOutlierFence());
+        ResponseTimeDistribution distribution = sampler.sample(method + " " + endpoint, calls,
+                () -> endpointService.send(method, endpoint));
+        AssertionUtils.assertResponseTimePercentile(distribution, percentile, maxMillis);
+    }
+}
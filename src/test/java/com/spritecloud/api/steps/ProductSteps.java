@@ -12,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,6 +25,9 @@ public class ProductSteps {
     private static final Logger logger = LoggerFactory.getLogger(ProductSteps.class);
     private final TestContext context;
     private final ProductService productService;
+    private final AtomicInteger streamedProductCount = new AtomicInteger();
+    private Product asyncProduct;
+    private long asyncElapsedMs;
 
     public ProductSteps(TestContext context) {
         this.context = context;
@@ -197,6 +202,53 @@ public class ProductSteps {
         logger.info("All {} products validated successfully", products.size());
     }
 
+    @When("I stream all products validating each one")
+    public void iStreamAllProductsValidatingEachOne() {
+        logger.info("Streaming all products with per-product validation");
+
+        // Each product is validated as it is parsed and then dropped, so heap use stays flat
+        try (Stream<Product> products = productService.streamAllProducts()) {
+            products.forEach(product -> {
+                AssertionUtils.assertProductIsValid(product);
+                streamedProductCount.incrementAndGet();
+            });
+        }
+
+        logger.info("Streamed and validated {} products", streamedProductCount.get());
+    }
+
+    @When("I fetch product {int} asynchronously")
+    public void iFetchProductAsynchronously(int productId) {
+        logger.info("Fetching product {} on the async executor", productId);
+        long start = System.nanoTime();
+        asyncProduct = productService.getProductByIdAsync(productId).join();
+        asyncElapsedMs = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Async fetch of product {} took {} ms", productId, asyncElapsedMs);
+    }
+
+    @Then("the asynchronous fetch should have returned product {int}")
+    public void theAsynchronousFetchShouldHaveReturnedProduct(int productId) {
+        assertThat(asyncProduct)
+                .as("Asynchronously fetched product")
+                .isNotNull()
+                .extracting(Product::getId)
+                .isEqualTo(productId);
+    }
+
+    @Then("the asynchronous fetch should have taken at least {int} milliseconds")
+    public void theAsynchronousFetchShouldHaveTakenAtLeastMilliseconds(int minElapsedMs) {
+        assertThat(asyncElapsedMs)
+                .as("Async fetch duration (ms)")
+                .isGreaterThanOrEqualTo(minElapsedMs);
+    }
+
+    @Then("at least {int} streamed products should have been validated")
+    public void atLeastStreamedProductsShouldHaveBeenValidated(int minimumCount) {
+        assertThat(streamedProductCount.get())
+                .as("Streamed products validated")
+                .isGreaterThanOrEqualTo(minimumCount);
+    }
+
     @Then("the response status code should be {int} or similar error code")
     public void theResponseStatusCodeShouldBeOrSimilarErrorCode(int expectedCode) {
         logger.info("Validating error response status code");
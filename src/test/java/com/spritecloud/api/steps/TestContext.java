@@ -4,6 +4,7 @@ import com.spritecloud.models.api.AuthToken;
 import com.spritecloud.models.api.Cart;
 import com.spritecloud.models.api.Product;
 import com.spritecloud.models.api.User;
+import com.spritecloud.perf.ThreadResourceUsage;
 import io.restassured.response.Response;
 
 import java.util.List;
@@ -28,6 +29,7 @@ public class TestContext {
     private Integer currentUserId;
     private Integer currentCartId;
     private Map<String, Object> invalidData;
+    private ThreadResourceUsage resourceUsage;
 
     // Getters and Setters
     public Response getResponse() {
@@ -126,6 +128,14 @@ public class TestContext {
         this.invalidData = invalidData;
     }
 
+    public ThreadResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
+    public void setResourceUsage(ThreadResourceUsage resourceUsage) {
+        this.resourceUsage = resourceUsage;
+    }
+
     /**
      * Resets context for new test scenario
      */
@@ -142,5 +152,6 @@ public class TestContext {
         currentUserId = null;
         currentCartId = null;
         invalidData = null;
+        resourceUsage = null;
     }
 }
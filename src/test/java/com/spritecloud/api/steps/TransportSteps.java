@@ -0,0 +1,131 @@
+package com.spritecloud.api.steps;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.http.Http2TransportFilter;
+import com.spritecloud.http.HttpConnectionPool;
+import com.spritecloud.http.ResponseTimes;
+import com.spritecloud.http.TransferStats;
+import io.cucumber.java.After;
+import io.cucumber.java.en.And;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Step definitions for HTTP transport scenarios.
+ * Exchanges documents with a local WireMock server, which also speaks cleartext HTTP/2 (h2c),
+ * over both transports and checks the bytes each one counts in {@link TransferStats}.
+ * The counters are process-wide, so these scenarios run in the sequential runner.
+ */
+public class TransportSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransportSteps.class);
+    private static final String GZIP_PATH = "/document/gzip";
+    private static final String IDENTITY_PATH = "/document/identity";
+
+    private WireMockServer server;
+    private int documentBytes;
+    private Response response;
+    private TransferStats.Stats before;
+    private TransferStats.Stats after;
+
+    @Given("a local server offering a {int} byte JSON document")
+    public void aLocalServerOfferingAJsonDocument(int bytes) {
+        documentBytes = bytes;
+        String document = "{\"data\":\"" + "a".repeat(bytes - 11) + "\"}";
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        // Jetty compresses bodies for clients that accept gzip, unless a coding is already set
+        server.stubFor(get(urlEqualTo(GZIP_PATH)).willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(document)));
+        server.stubFor(get(urlEqualTo(IDENTITY_PATH)).willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withHeader("Content-Encoding", "identity")
+                .withBody(document)));
+        logger.info("Local transport server started on port {}", server.port());
+    }
+
+    @When("I fetch the {word} document over the {word} transport")
+    public void iFetchTheDocumentOverTheTransport(String coding, String transport) {
+        RequestSpecification request = given()
+                .baseUri(server.baseUrl())
+                .config(RestAssuredConfig.config().httpClient(HttpConnectionPool.getInstance().httpClientConfig()));
+        if (transport.equals("HTTP2")) {
+            request.filter(new Http2TransportFilter(ConfigurationManager.getInstance()));
+        }
+        String protocol = transport.equals("HTTP2") ? "HTTP/2" : "HTTP/1.1";
+
+        before = stats(protocol);
+        response = request.get(coding.equals("gzip") ? GZIP_PATH : IDENTITY_PATH);
+        response.asByteArray();
+        after = stats(protocol);
+        logger.info("Fetched {} document over {}: {} (before: {}, after: {})",
+                coding, transport, response.getStatusLine(), before, after);
+    }
+
+    private static TransferStats.Stats stats(String protocol) {
+        return TransferStats.getStats().getOrDefault(protocol, new TransferStats.Stats(0, 0, 0, 0));
+    }
+
+    @Then("the document should have arrived over {string}")
+    public void theDocumentShouldHaveArrivedOver(String protocol) {
+        assertThat(response.getStatusLine())
+                .as("Status line")
+                .startsWith(protocol + " 200");
+        assertThat(response.asByteArray())
+                .as("Decoded document")
+                .hasSize(documentBytes);
+    }
+
+    @And("the transfer stats should count one {word} response with the document's decoded size")
+    public void theTransferStatsShouldCountOneResponse(String coding) {
+        assertThat(after.responses() - before.responses())
+                .as("Responses counted")
+                .isEqualTo(1);
+        assertThat(after.compressedResponses() - before.compressedResponses())
+                .as("Compressed responses counted")
+                .isEqualTo(coding.equals("gzip") ? 1 : 0);
+        assertThat(after.decodedBytes() - before.decodedBytes())
+                .as("Decoded bytes counted")
+                .isEqualTo(documentBytes);
+    }
+
+    @And("the body should have crossed the wire {word}")
+    public void theBodyShouldHaveCrossedTheWire(String form) {
+        long wireBytes = after.wireBytes() - before.wireBytes();
+        long decodedBytes = after.decodedBytes() - before.decodedBytes();
+        if (form.equals("compressed")) {
+            assertThat(wireBytes).as("Wire bytes of a compressed document").isPositive().isLessThan(decodedBytes);
+        } else {
+            assertThat(wireBytes).as("Wire bytes of an uncompressed document").isEqualTo(decodedBytes);
+        }
+    }
+
+    @And("the transport response time should be measured")
+    public void theTransportResponseTimeShouldBeMeasured() {
+        assertThat(ResponseTimes.of(response))
+                .as("Response time (ms)")
+                .isNotNegative();
+    }
+
+    @After("@Transport")
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
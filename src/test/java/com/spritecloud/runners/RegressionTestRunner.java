@@ -9,6 +9,8 @@ import static io.cucumber.junit.platform.engine.Constants.*;
  *
  * <p>Purpose: Regression tests provide thorough validation of all features
  * to ensure no functionality has broken. Run these before releases.
+ * Scenarios tagged @Sequential are left to {@code SequentialApiTestRunner},
+ * which runs them without parallel scenarios competing for the machine.
  *
  */
 @Suite
@@ -18,12 +20,15 @@ import static io.cucumber.junit.platform.engine.Constants.*;
         value = "pretty, " +
                 "html:target/cucumber-reports/regression/cucumber.html, " +
                 "json:target/cucumber-reports/regression/cucumber.json, " +
-                "junit:target/cucumber-reports/regression/cucumber.xml")
+                "junit:target/cucumber-reports/regression/cucumber.xml, " +
+                "com.spritecloud.jfr.FlightRecorderPlugin, " +
+                "com.spritecloud.perf.StepProfiler, " +
+                "com.spritecloud.perf.PerformanceSuitePlugin:regression")
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME,
         value = "com.spritecloud.api.steps,com.spritecloud.api.hooks," +
                 "com.spritecloud.ui.steps,com.spritecloud.ui.hooks")
 @ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME,
-        value = "@Regression")
+        value = "@Regression and not @Sequential")
 @ConfigurationParameter(key = PLUGIN_PUBLISH_QUIET_PROPERTY_NAME,
         value = "true")
 @ConfigurationParameter(key = EXECUTION_DRY_RUN_PROPERTY_NAME,
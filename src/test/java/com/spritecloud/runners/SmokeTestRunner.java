@@ -17,7 +17,10 @@ import static io.cucumber.junit.platform.engine.Constants.*;
         value = "pretty, " +
                 "html:target/cucumber-reports/smoke/cucumber.html, " +
                 "json:target/cucumber-reports/smoke/cucumber.json, " +
-                "junit:target/cucumber-reports/smoke/cucumber.xml")
+                "junit:target/cucumber-reports/smoke/cucumber.xml, " +
+                "com.spritecloud.jfr.FlightRecorderPlugin, " +
+                "com.spritecloud.perf.StepProfiler, " +
+                "com.spritecloud.perf.PerformanceSuitePlugin:smoke")
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME,
         value = "com.spritecloud.api.steps,com.spritecloud.api.hooks," +
                 "com.spritecloud.ui.steps,com.spritecloud.ui.hooks")
@@ -1,7 +1,12 @@
 package com.spritecloud.ui.hooks;
 
 import com.spritecloud.config.ConfigurationManager;
+import com.spritecloud.metrics.MetricsRegistry;
+import com.spritecloud.metrics.MetricsServer;
+import com.spritecloud.perf.ScenarioResources;
+import com.spritecloud.perf.ThreadResourceUsage;
 import com.spritecloud.ui.TestContext;
+import com.spritecloud.utils.AssertionUtils;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
@@ -10,17 +15,22 @@ import io.cucumber.java.Scenario;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
 /**
  * Cucumber hooks for UI test lifecycle management with Playwright.
  * Handles browser initialization, screenshot capture, and cleanup.
  *
  * <p>Design Decision: Manages browser lifecycle at both suite and scenario levels.
- * Automatically captures screenshots for failed scenarios to aid debugging.
+ * Automatically captures screenshots for failed scenarios to aid debugging, and records
+ * the heap allocation and CPU time of every scenario.
  */
 public class UiHooks {
 
     private static final Logger logger = LoggerFactory.getLogger(UiHooks.class);
     private final TestContext context;
+    private ThreadResourceUsage resourceUsage;
 
     /**
      * Constructs UiHooks with shared test context.
@@ -33,7 +43,7 @@ public class UiHooks {
 
     /**
      * Executes once before all scenarios in the suite.
-     * Initializes configuration for UI tests.
+     * Initializes configuration for UI tests and serves run metrics if METRICS_PORT is set.
      */
     @BeforeAll
     public static void setupSuite() {
@@ -41,6 +51,7 @@ public class UiHooks {
         logger.info("Starting UI Test Suite");
         logger.info("========================================");
         ConfigurationManager.getInstance();
+        MetricsServer.startIfConfigured();
     }
 
     /**
@@ -56,6 +67,7 @@ public class UiHooks {
         logger.info("Tags: {}", scenario.getSourceTagNames());
         logger.info("========================================");
 
+        resourceUsage = ThreadResourceUsage.start();
         context.initializeBrowser();
         context.createNewContext();
 
@@ -65,6 +77,7 @@ public class UiHooks {
     /**
      * Executes after each scenario to clean up and capture failure evidence.
      * Automatically takes screenshots for failed scenarios and logs page URL.
+     * Fails the scenario when a {@code @MaxAllocationMB:<n>} budget is exceeded.
      *
      * @param scenario the Cucumber scenario that was executed
      */
@@ -95,14 +108,37 @@ public class UiHooks {
 
         context.closeContext();
         context.clearExpectedCartItems();
+
+        if (resourceUsage != null) {
+            ThreadResourceUsage.Usage usage = resourceUsage.measure();
+            ScenarioResources.record(scenarioKey(scenario), usage);
+            logger.info("Scenario resources: {}", usage);
+
+            OptionalLong budget = ScenarioResources.allocationBudgetMegabytes(scenario.getSourceTagNames());
+            if (budget.isPresent() && !scenario.isFailed()) {
+                AssertionUtils.assertAllocationWithinBudget(scenario.getName(), usage, budget.getAsLong());
+            }
+        }
+    }
+
+    private static String scenarioKey(Scenario scenario) {
+        String path = scenario.getUri().toString();
+        return path.substring(path.lastIndexOf('/') + 1) + ": " + scenario.getName();
     }
 
     /**
      * Executes once after all scenarios in the suite.
-     * Final cleanup and logging for the test run.
+     * Final cleanup and logging for the test run; writes the run metrics and the allocation
+     * and CPU time of every scenario to the performance report directory.
      */
     @AfterAll
     public static void teardownSuite() {
+        Path reportDir = Path.of(ConfigurationManager.getInstance().getPerfReportDir());
+        MetricsRegistry.getInstance().writeReport(reportDir);
+        if (ScenarioResources.hasSamples()) {
+            ScenarioResources.writeReport(reportDir);
+        }
+        MetricsServer.stop();
         logger.info("========================================");
         logger.info("Finished UI Test Suite");
         logger.info("========================================");
@@ -13,7 +13,7 @@ import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
  * <ul>
  *   <li>Features: features/ui/**</li>
  *   <li>Browser: Chromium (headless)</li>
- *   <li>Reports: HTML, JSON, and JUnit XML formats</li>
+ *   <li>Reports: HTML, JSON, and JUnit XML formats, plus Flight Recorder events and the step profile</li>
  *   <li>Glue: com.spritecloud.ui</li>
  * </ul>
  *
@@ -28,7 +28,9 @@ import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
         value = "pretty, " +
                 "html:target/cucumber-reports/ui/cucumber.html, " +
                 "json:target/cucumber-reports/ui/cucumber.json, " +
-                "junit:target/cucumber-reports/ui/cucumber.xml"
+                "junit:target/cucumber-reports/ui/cucumber.xml, " +
+                "com.spritecloud.jfr.FlightRecorderPlugin, " +
+                "com.spritecloud.perf.StepProfiler"
 )
 public class UiTestRunner {
 }
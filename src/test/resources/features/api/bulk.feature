@@ -0,0 +1,17 @@
+@API @Bulk @MockApi
+Feature: Bulk API Fetches
+  As a test framework maintainer
+  I want bulk fetches to run concurrently within their limit
+  So that large ID lists are fetched quickly without flooding the API
+
+  # Every request takes 1000 ms, so 6 IDs take at least 3000 ms with at most 2 requests in flight
+  # (2000 ms with 3), and at least 6000 ms when sent one at a time
+  @MockLatency:fixed:1000
+  Scenario: Bulk product fetch keeps input order and reports unknown IDs
+    Given the bulk product fetch has been warmed up with 2 requests in flight
+    When I fetch products "3, 999998, 1, 8, 999999, 2" with at most 2 requests in flight
+    Then the bulk result should list IDs "3, 999998, 1, 8, 999999, 2" in that order
+    And the bulk fetch should have returned products "3, 1, 8, 2"
+    And the bulk fetch should have failed for IDs "999998, 999999"
+    And the bulk fetch should have taken between 3000 and 5999 milliseconds
+    And the scenario traffic log should hold 8 requests
@@ -0,0 +1,46 @@
+@API @Cache @MockApi
+Feature: API Response Cache
+  As a test framework maintainer
+  I want repeated GET requests answered from a bounded, expiring cache
+  So that parallel scenarios do not hammer a rate-limited API
+
+  Scenario: A repeated GET is served from the cache
+    Given a response cache holding 10 entries for 60000 milliseconds
+    When I get "/products/1" through the cache
+    Then the last response should have come from the API
+    When I get "/products/1" through the cache
+    Then the last response should have come from the cache
+    And the last response should be marked "HIT"
+    And the last response should be product 1
+    And a response time check on the last response should be skipped
+    And the cache should have counted 1 hit, 1 miss, 0 revalidations and 0 evictions
+
+  Scenario: The least recently used entry is evicted when the cache is full
+    Given a response cache holding 2 entries for 60000 milliseconds
+    When I get "/products/1" through the cache
+    And I get "/products/2" through the cache
+    And I get "/products/1" through the cache
+    And I get "/products/3" through the cache
+    And I get "/products/1" through the cache
+    Then the last response should have come from the cache
+    When I get "/products/2" through the cache
+    Then the last response should have come from the API
+    And the cache should have counted 2 hits, 4 misses, 0 revalidations and 2 evictions
+
+  Scenario: An expired entry is fetched again
+    Given a response cache holding 10 entries for 200 milliseconds
+    When I get "/products/1" through the cache
+    And I wait 300 milliseconds
+    And I get "/products/1" through the cache
+    Then the last response should have come from the API
+    And the cache should have counted 0 hits, 2 misses, 0 revalidations and 0 evictions
+
+  Scenario: An expired entry with an ETag is revalidated with 304 Not Modified
+    Given a revalidating response cache holding 10 entries for 200 milliseconds
+    When I get "/products/1" through the cache
+    And I wait 300 milliseconds
+    And I get "/products/1" through the cache
+    Then the last response should have come from the cache
+    And the last response should be marked "REVALIDATED"
+    And the last response should be product 1
+    And the cache should have counted 0 hits, 1 miss, 1 revalidation and 0 evictions
@@ -0,0 +1,12 @@
+@API @Concurrency @Regression @MockApi
+Feature: Concurrent API Usage
+  As a test framework maintainer
+  I want the service layer to stay correct under heavy parallel load
+  So that API scenarios can run with high parallelism without races
+
+  # Runs against the mock API only: 640 requests in a burst would be throttled by the real one
+  Scenario: Service layer stays consistent under 32 concurrent clients
+    Given 32 concurrent API clients
+    When each client makes 10 requests cycling through products 1 to 8 and users 1 to 2
+    Then every concurrent response should have status code 200
+    And every concurrent response should match the requested resource
@@ -0,0 +1,22 @@
+@API @Hedging
+Feature: Hedged API Requests
+  As a test framework maintainer
+  I want slow GET requests to be hedged with a duplicate
+  So that a few slow outliers do not dominate suite wall time
+
+  @MockApi
+  Scenario: A hedge is sent for a slow request and its response wins
+    Given product 1 has been requested once to warm up the client
+    And a hedging policy that hedges after 200 milliseconds
+    When I send a hedged request for product 1 whose first attempt is delayed by 3000 milliseconds
+    Then the hedged request should have returned status 200
+    And the hedged request should have returned product 1
+    And the hedging policy should have fired 1 hedge and won 1
+    And the hedged request should have taken less than 1500 milliseconds
+    And only the hedge should be recorded in the traffic log, even once the original attempt has answered
+
+  Scenario: A fast server error does not beat a slower success
+    Given a hedging policy that hedges after 100 milliseconds
+    When I send a hedged request whose first attempt answers 200 after 500 milliseconds and whose hedge answers 503 at once
+    Then the hedged request should have returned status 200
+    And the hedging policy should have fired 1 hedge and won 0
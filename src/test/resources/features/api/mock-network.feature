@@ -0,0 +1,24 @@
+@API @MockApi
+Feature: Mock API Network Profiles
+  As a test framework maintainer
+  I want scenario tags to shape the latency of the mock API
+  So that slow-backend behaviour can be tested without a slow backend
+
+  @MockLatency:fixed:300
+  Scenario: Injected latency applies to requests sent by the scenario
+    Given I request product with ID 1
+    When I send a GET request to products endpoint
+    Then the response status code should be 200
+    And the response time should be at least 300 milliseconds
+
+  @MockLatency:fixed:300
+  Scenario: Injected latency follows requests onto the async executor
+    When I fetch product 1 asynchronously
+    Then the asynchronous fetch should have returned product 1
+    And the asynchronous fetch should have taken at least 300 milliseconds
+
+  @MockLatency:replay:recorded-latencies.txt
+  Scenario: A request cannot make the mock replay latencies from a file
+    Given I request product with ID 1
+    When I send a GET request to products endpoint
+    Then the response status code should be 400
@@ -0,0 +1,168 @@
+@API @MockServer
+Feature: Mock API Server
+  As a test framework maintainer
+  I want mock API servers that bind ephemeral ports and keep their own data
+  So that isolated scenario groups and several CI forks can share one host
+
+  Scenario: Independent mock servers run side by side with their own data
+    Given 2 independent mock servers applying writes
+    Then the mock servers should listen on distinct ports
+    When I send DELETE "/carts/1" to mock server 1
+    Then the mock response status should be 200
+    And cart 1 should be missing on mock server 1
+    And cart 1 should still exist on mock server 2
+
+  Scenario: The mock store creates, merges, replaces and deletes entities
+    Given 1 independent mock server applying writes
+    When I send POST "/carts" to mock server 1 with body:
+      """
+      {"userId": 2, "date": "2020-03-02", "products": [{"productId": 1, "quantity": 2}]}
+      """
+    Then the mock response status should be 201
+    And the mock response field "id" should be "3"
+    When I send PATCH "/carts/3" to mock server 1 with body:
+      """
+      {"date": "2020-04-01"}
+      """
+    Then the mock response status should be 200
+    And the mock response field "date" should be "2020-04-01"
+    And the mock response field "userId" should be "2"
+    When I send PUT "/carts/3" to mock server 1 with body:
+      """
+      {"date": "2020-05-01"}
+      """
+    Then the mock response status should be 200
+    And the mock response field "date" should be "2020-05-01"
+    And the mock response should not have field "userId"
+    When I send GET "/carts/3" to mock server 1
+    Then the mock response field "date" should be "2020-05-01"
+    When I send DELETE "/carts/3" to mock server 1
+    Then the mock response status should be 200
+    And the mock response field "id" should be "3"
+    When I send GET "/carts/3" to mock server 1
+    Then the mock response status should be 200
+    And the mock response should be null
+
+  Scenario: The mock store only acknowledges writes unless they persist
+    Given 1 independent mock server only acknowledging writes
+    When I send POST "/carts" to mock server 1 with body:
+      """
+      {"userId": 2, "date": "2020-03-02", "products": []}
+      """
+    Then the mock response status should be 201
+    And the mock response field "id" should be "3"
+    When I send GET "/carts/3" to mock server 1
+    Then the mock response should be null
+    When I send DELETE "/carts/1" to mock server 1
+    Then the mock response field "id" should be "1"
+    And cart 1 should still exist on mock server 1
+
+  Scenario: The mock store answers unknown ids with null and malformed ids with 400
+    Given 1 independent mock server applying writes
+    When I send GET "/products/999" to mock server 1
+    Then the mock response status should be 200
+    And the mock response should be null
+    When I send PATCH "/products/999" to mock server 1 with body:
+      """
+      {"price": 1.5}
+      """
+    Then the mock response status should be 200
+    And the mock response should be null
+    When I send DELETE "/carts/999" to mock server 1
+    Then the mock response status should be 200
+    And the mock response should be null
+    When I send GET "/products/abc" to mock server 1
+    Then the mock response status should be 400
+    When I send GET "/carts/user/abc" to mock server 1
+    Then the mock response status should be 400
+
+  Scenario: Product category and cart owner indexes follow persisted writes
+    Given 1 independent mock server applying writes
+    When I send POST "/products" to mock server 1 with body:
+      """
+      {"title": "Test watch", "price": 9.99, "category": "jewelery"}
+      """
+    Then the mock response field "id" should be "9"
+    When I send PUT "/products/7" to mock server 1 with body:
+      """
+      {"title": "Moved drive", "price": 64, "category": "jewelery"}
+      """
+    And I send DELETE "/products/5" to mock server 1
+    And I send GET "/products/category/jewelery" to mock server 1
+    Then the mock response should list ids "6, 7, 9"
+    When I send GET "/products/category/electronics" to mock server 1
+    Then the mock response should list ids ""
+    When I send POST "/carts" to mock server 1 with body:
+      """
+      {"userId": 1, "date": "2020-03-02", "products": []}
+      """
+    And I send PATCH "/carts/1" to mock server 1 with body:
+      """
+      {"userId": 2}
+      """
+    And I send GET "/carts/user/1" to mock server 1
+    Then the mock response should list ids "3"
+    When I send GET "/carts/user/2" to mock server 1
+    Then the mock response should list ids "1, 2"
+
+  Scenario: The user name index follows persisted writes
+    Given 1 independent mock server applying writes
+    When I send POST "/users" to mock server 1 with body:
+      """
+      {"username": "newbie", "password": "s3cret", "email": "newbie@example.com"}
+      """
+    Then the mock response field "id" should be "3"
+    When I send POST "/auth/login" to mock server 1 with body:
+      """
+      {"username": "newbie", "password": "s3cret"}
+      """
+    Then the mock response status should be 201
+    When I send DELETE "/users/3" to mock server 1
+    And I send POST "/auth/login" to mock server 1 with body:
+      """
+      {"username": "newbie", "password": "s3cret"}
+      """
+    Then the mock response status should be 401
+
+  Scenario: Synthetic data sets follow their seed and load back into a mock server
+    Given synthetic data set "first" with seed 42, 20 products, 5 users and 10 carts
+    And synthetic data set "again" with seed 42, 20 products, 5 users and 10 carts
+    And synthetic data set "more users" with seed 42, 20 products, 12 users and 0 carts
+    Then synthetic data sets "first" and "again" should be byte-identical
+    And synthetic data sets "first" and "more users" should have the same products
+    Given an independent mock server loaded with synthetic data set "first"
+    When I send GET "/products" to mock server 1
+    Then the mock response should list ids "1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28"
+    And mock server 1 should serve every entity of synthetic data set "first"
+
+  Scenario: A recorded cassette is replayed before the store answers
+    Given a mock cassette recording:
+      | method | url                         | request body                                           | status | response body                      |
+      | GET    | /products/1                 |                                                        | 200    | {"id": 1, "title": "Recorded bag"} |
+      | GET    | /products?limit=2&sort=desc |                                                        | 200    | [{"id": 20}, {"id": 19}]           |
+      | POST   | /carts                      | {"userId":1,"products":[{"productId":2,"quantity":1}]} | 201    | {"id": 42, "userId": 1}            |
+    And an independent mock server replaying the cassette
+    When I send GET "/products/1" to mock server 1
+    Then the mock response status should be 200
+    And the mock response field "title" should be "Recorded bag"
+    When I send GET "/products?sort=desc&limit=2" to mock server 1
+    Then the mock response should list ids "20, 19"
+    When I send POST "/carts" to mock server 1 with body:
+      """
+      {
+        "products": [ { "quantity": 1, "productId": 2 } ],
+        "userId": 1
+      }
+      """
+    Then the mock response status should be 201
+    And the mock response field "id" should be "42"
+    When I send GET "/products/2" to mock server 1
+    Then the mock response status should be 200
+    And the mock response field "id" should be "2"
+    And the mock response field "category" should be "men's clothing"
+    When I send POST "/carts" to mock server 1 with body:
+      """
+      {"userId": 2, "products": []}
+      """
+    Then the mock response status should be 201
+    And the mock response field "id" should be "3"
@@ -25,3 +25,7 @@ Feature: Product Management
     Then the response status code should be 200
     And the response should contain a list of products
     And all products should have valid structure
+
+  Scenario: Stream all products and validate each one as it arrives
+    When I stream all products validating each one
+    Then at least 5 streamed products should have been validated
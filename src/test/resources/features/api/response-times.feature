@@ -0,0 +1,17 @@
+# Sampled one scenario at a time by SequentialApiTestRunner, so the percentiles measure the API
+# rather than contention with parallel scenarios
+@API @Performance @Regression @Sequential
+Feature: API Response Times
+  As a test framework maintainer
+  I want response times asserted on a percentile of many calls
+  So that latency checks are neither flaky nor hide a slow tail
+
+  Scenario: Product list stays fast at the 95th percentile
+    Then p95 of GET /products over 50 calls is under 800 ms
+
+  Scenario: Single product lookup stays fast at the 99th percentile
+    Then p99 of GET /products/1 over 50 calls after 10 warmup calls is under 800 ms
+
+  @MaxAllocationMB:256
+  Scenario: Repeated product list calls stay within their allocation budget
+    Then p95 of GET /products over 50 calls is under 800 ms
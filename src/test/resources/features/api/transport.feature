@@ -0,0 +1,22 @@
+@API @Transport @Sequential
+Feature: HTTP Transports
+  As a test framework maintainer
+  I want both HTTP transports to decode and meter response bodies the same way
+  So that transfer statistics can be compared across HTTP/1.1 and HTTP/2 runs
+
+  Background:
+    Given a local server offering a 20000 byte JSON document
+
+  Scenario Outline: <coding> document over <transport>
+    When I fetch the <coding> document over the <transport> transport
+    Then the document should have arrived over "<protocol>"
+    And the transfer stats should count one <coding> response with the document's decoded size
+    And the body should have crossed the wire <wire>
+    And the transport response time should be measured
+
+    Examples:
+      | transport | protocol | coding   | wire         |
+      | HTTP2     | HTTP/2   | gzip     | compressed   |
+      | HTTP2     | HTTP/2   | identity | uncompressed |
+      | HTTP1     | HTTP/1.1 | gzip     | compressed   |
+      | HTTP1     | HTTP/1.1 | identity | uncompressed |